@@ -1,43 +1,45 @@
 package com.vijithapura.siege;
 
 import com.badlogic.gdx.Game;
-import com.badlogic.gdx.Gdx;
 import com.badlogic.gdx.graphics.g2d.BitmapFont;
 import com.badlogic.gdx.graphics.g2d.SpriteBatch;
 import com.badlogic.gdx.graphics.glutils.ShapeRenderer;
 import com.vijithapura.siege.screens.MenuScreen;
+import com.vijithapura.siege.utils.FontManager;
 import com.vijithapura.siege.utils.TextureManager;
+import com.vijithapura.siege.utils.Log;
 
 public class VijithapuraGame extends Game {
     public SpriteBatch batch;
     public ShapeRenderer shapeRenderer;
-    public BitmapFont font;
+    public BitmapFont font; // 1.5x size, owned by fonts
+    public FontManager fonts;
     public TextureManager textureManager;
 
     @Override
     public void create() {
         // --- SAFETY BLOCK START ---
         try {
-            Gdx.app.log("VijithapuraGame", "--- GAME STARTING ---");
+            Log.info(Log.GAME, "--- GAME STARTING ---").commit();
 
             batch = new SpriteBatch();
             shapeRenderer = new ShapeRenderer();
             shapeRenderer.setAutoShapeType(true);
 
-            font = new BitmapFont();
-            font.getData().setScale(1.5f);
+            fonts = new FontManager();
+            font = fonts.get(1.5f);
 
             // Initialize Asset Manager
             textureManager = new TextureManager();
 
-            Gdx.app.log("VijithapuraGame", "Assets initialized. Loading MenuScreen...");
+            Log.info(Log.GAME, "Assets initialized. Loading MenuScreen...").commit();
 
             // Load the main menu first
             this.setScreen(new MenuScreen(this));
 
         } catch (Exception e) {
             // THIS WILL PRINT THE REAL ERROR IF THE GAME CRASHES
-            Gdx.app.error("FATAL", "Game crashed during startup:", e);
+            Log.error(Log.GAME, "Game crashed during startup:", e);
             e.printStackTrace(); // Prints to standard error
         }
         // --- SAFETY BLOCK END ---
@@ -53,10 +55,11 @@ public class VijithapuraGame extends Game {
         try {
             if (batch != null) batch.dispose();
             if (shapeRenderer != null) shapeRenderer.dispose();
-            if (font != null) font.dispose();
+            if (fonts != null) fonts.dispose();
             if (textureManager != null) textureManager.dispose();
+            Log.shutdown();
         } catch (Exception e) {
-            Gdx.app.error("VijithapuraGame", "Error disposing resources", e);
+            Log.error(Log.GAME, "Error disposing resources", e);
         }
     }
 }
@@ -0,0 +1,216 @@
+package com.vijithapura.siege.dsa;
+
+import java.util.Arrays;
+
+/**
+ * DSA: AUCTION ASSIGNMENT - Incremental min-cost bidder/object matching
+ * Forward auction (Bertsekas): every unassigned bidder bids for the object
+ * with the best value (benefit - price), raising its price by the margin over
+ * the second-best option plus epsilon and evicting the previous owner. Staying
+ * unassigned is always an option worth 0, so bidders drop out once every
+ * object costs more than it is worth to them.
+ *
+ * Prices persist between solves, which makes updates local: removing an
+ * object or adding a bidder only queues the affected bidders, and solve()
+ * lets just those bid against the existing prices instead of starting over.
+ * Prices never go down (a released object keeps its price), so every
+ * standing assignment stays within epsilon of its owner's best option and
+ * the result is within (bidders * epsilon) of the optimal total benefit.
+ */
+public class AuctionSolver {
+    /**
+     * Describes who may take what and how much it is worth
+     */
+    public interface Market {
+        /** Write the objects this bidder may take into out, return how many */
+        int candidates(int bidder, int[] out);
+        /** Benefit of giving object to bidder (higher is better) */
+        float benefit(int bidder, int object);
+    }
+
+    private final float epsilon;
+    private final int[] candidateBuffer;
+
+    private float[] price;
+    private int[] owner;        // object -> bidder, -1 = free
+    private boolean[] removed;  // object permanently gone
+    private int[] assigned;     // bidder -> object, -1 = none
+    private boolean[] queued;
+    private int[] queue;        // ring buffer of bidders waiting to bid
+    private int queueHead;
+    private int queueSize;
+
+    private int[] changed;      // bidders whose object changed during the last solve
+    private boolean[] changedMark;
+    private int changedCount;
+
+    public AuctionSolver(int objects, int bidders, int maxCandidates, float epsilon) {
+        this.epsilon = epsilon;
+        this.candidateBuffer = new int[maxCandidates];
+
+        price = new float[objects];
+        owner = new int[objects];
+        removed = new boolean[objects];
+        Arrays.fill(owner, -1);
+
+        int capacity = Math.max(16, bidders);
+        assigned = new int[capacity];
+        queued = new boolean[capacity];
+        queue = new int[capacity];
+        changed = new int[capacity];
+        changedMark = new boolean[capacity];
+        Arrays.fill(assigned, -1);
+    }
+
+    // ===== UPDATES =====
+
+    /**
+     * Put a bidder up for (re)assignment on the next solve
+     */
+    public void enqueue(int bidder) {
+        ensureBidder(bidder);
+        if (queued[bidder]) return;
+        if (queueSize == queue.length) growQueue();
+        queued[bidder] = true;
+        queue[(queueHead + queueSize++) % queue.length] = bidder;
+    }
+
+    /**
+     * Withdraw a bidder. Its object becomes free but keeps its price: lowering
+     * it could make the object better than what other bidders already hold,
+     * breaking their epsilon-optimality without them bidding again.
+     */
+    public void release(int bidder) {
+        if (bidder >= assigned.length) return;
+        int object = assigned[bidder];
+        if (object >= 0) {
+            owner[object] = -1;
+            assigned[bidder] = -1;
+        }
+        queued[bidder] = false; // stale queue entries are skipped in solve()
+    }
+
+    /**
+     * Take an object off the market for good; its owner bids again
+     */
+    public void removeObject(int object) {
+        if (removed[object]) return;
+        removed[object] = true;
+        int bidder = owner[object];
+        if (bidder >= 0) {
+            owner[object] = -1;
+            assigned[bidder] = -1;
+            markChanged(bidder);
+            enqueue(bidder);
+        }
+    }
+
+    // ===== SOLVE =====
+
+    /**
+     * Let queued bidders bid until none is left or maxBids is reached
+     * @return Number of bids placed
+     */
+    public int solve(Market market, int maxBids) {
+        int bids = 0;
+        while (queueSize > 0 && bids < maxBids) {
+            int bidder = queue[queueHead];
+            queueHead = (queueHead + 1) % queue.length;
+            queueSize--;
+            if (!queued[bidder]) continue; // released while waiting
+            queued[bidder] = false;
+
+            // A re-queued bidder gives up its current object and bids afresh
+            int previous = assigned[bidder];
+            if (previous >= 0) {
+                owner[previous] = -1;
+                assigned[bidder] = -1;
+            }
+
+            // Best and second-best value; staying unassigned is worth 0
+            int best = -1;
+            float bestValue = 0;
+            float secondValue = 0;
+            int count = market.candidates(bidder, candidateBuffer);
+            for (int i = 0; i < count; i++) {
+                int object = candidateBuffer[i];
+                if (removed[object]) continue;
+                float value = market.benefit(bidder, object) - price[object];
+                if (value > bestValue) {
+                    secondValue = bestValue;
+                    bestValue = value;
+                    best = object;
+                } else if (value > secondValue) {
+                    secondValue = value;
+                }
+            }
+
+            if (best < 0) {
+                if (previous >= 0) markChanged(bidder);
+                continue; // nothing worth taking: stays unassigned
+            }
+
+            price[best] += bestValue - secondValue + epsilon;
+            int evicted = owner[best];
+            if (evicted >= 0) {
+                assigned[evicted] = -1;
+                markChanged(evicted);
+                enqueue(evicted);
+            }
+            owner[best] = bidder;
+            assigned[bidder] = best;
+            if (best != previous) markChanged(bidder);
+            bids++;
+        }
+        return bids;
+    }
+
+    // ===== RESULTS =====
+
+    public int getAssigned(int bidder) { return bidder < assigned.length ? assigned[bidder] : -1; }
+    public int getOwner(int object) { return owner[object]; }
+    public float getPrice(int object) { return price[object]; }
+    public boolean isRemoved(int object) { return removed[object]; }
+    public int getPendingCount() { return queueSize; }
+
+    /**
+     * Bidders whose assignment changed since clearChanged()
+     */
+    public int getChangedCount() { return changedCount; }
+    public int getChanged(int index) { return changed[index]; }
+
+    public void clearChanged() {
+        for (int i = 0; i < changedCount; i++) {
+            changedMark[changed[i]] = false;
+        }
+        changedCount = 0;
+    }
+
+    private void markChanged(int bidder) {
+        if (changedMark[bidder]) return;
+        changedMark[bidder] = true;
+        changed[changedCount++] = bidder;
+    }
+
+    private void ensureBidder(int bidder) {
+        if (bidder < assigned.length) return;
+        int capacity = Math.max(bidder + 1, assigned.length * 2);
+
+        int oldLength = assigned.length;
+        assigned = Arrays.copyOf(assigned, capacity);
+        Arrays.fill(assigned, oldLength, capacity, -1);
+        queued = Arrays.copyOf(queued, capacity);
+        changed = Arrays.copyOf(changed, capacity);
+        changedMark = Arrays.copyOf(changedMark, capacity);
+    }
+
+    private void growQueue() {
+        // Unroll the ring buffer into the larger array
+        int[] grown = new int[queue.length * 2];
+        for (int i = 0; i < queueSize; i++) {
+            grown[i] = queue[(queueHead + i) % queue.length];
+        }
+        queue = grown;
+        queueHead = 0;
+    }
+}
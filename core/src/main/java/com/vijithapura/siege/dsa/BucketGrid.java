@@ -0,0 +1,251 @@
+package com.vijithapura.siege.dsa;
+
+import java.util.Arrays;
+
+/**
+ * DSA: BUCKET GRID - Spatial index for mostly static items
+ * Each cell keeps a doubly linked list of item handles, so items can be
+ * removed in O(1) (e.g. when a resource node is depleted) without rebuilding.
+ * Nearest-neighbour search expands ring by ring from the query cell and stops
+ * as soon as no unvisited cell can hold anything closer.
+ */
+public class BucketGrid<T> {
+    /**
+     * Decides which items a nearest() search may return
+     */
+    public interface Filter<T> {
+        boolean accept(T item);
+    }
+
+    private final float cellSize;
+    private final float invCellSize;
+    private final int cols;
+    private final int rows;
+    private final int[] cellHead; // first handle per cell, -1 = empty
+
+    private int[] next;
+    private int[] prev;
+    private int[] cellOf;         // -1 once removed
+    private float[] xs;
+    private float[] ys;
+    private Object[] items;
+    private int handles;          // handles issued so far
+    private int size;             // items still in the grid
+    private float[] nearestDistSq = new float[16]; // queryNearest() scratch, parallel to out
+
+    public BucketGrid(float width, float height, float cellSize, int initialCapacity) {
+        this.cellSize = cellSize;
+        this.invCellSize = 1f / cellSize;
+        this.cols = Math.max(1, (int) Math.ceil(width / cellSize));
+        this.rows = Math.max(1, (int) Math.ceil(height / cellSize));
+        this.cellHead = new int[cols * rows];
+        Arrays.fill(cellHead, -1);
+
+        int capacity = Math.max(16, initialCapacity);
+        next = new int[capacity];
+        prev = new int[capacity];
+        cellOf = new int[capacity];
+        xs = new float[capacity];
+        ys = new float[capacity];
+        items = new Object[capacity];
+    }
+
+    /**
+     * Add an item (positions outside the grid clamp to the edge cells)
+     * @return Handle used to remove the item later
+     */
+    public int insert(T item, float x, float y) {
+        if (handles == items.length) grow();
+
+        int handle = handles++;
+        int cell = cellX(x) + cellY(y) * cols;
+        xs[handle] = x;
+        ys[handle] = y;
+        items[handle] = item;
+        cellOf[handle] = cell;
+        prev[handle] = -1;
+        next[handle] = cellHead[cell];
+        if (cellHead[cell] >= 0) prev[cellHead[cell]] = handle;
+        cellHead[cell] = handle;
+        size++;
+        return handle;
+    }
+
+    /**
+     * Unlink an item in O(1); removing twice is ignored
+     */
+    public void remove(int handle) {
+        if (handle < 0 || handle >= handles || cellOf[handle] < 0) return;
+
+        int cell = cellOf[handle];
+        if (prev[handle] >= 0) next[prev[handle]] = next[handle];
+        else cellHead[cell] = next[handle];
+        if (next[handle] >= 0) prev[next[handle]] = prev[handle];
+
+        cellOf[handle] = -1;
+        items[handle] = null;
+        size--;
+    }
+
+    /**
+     * Closest accepted item within maxRadius of (x, y), or null
+     */
+    @SuppressWarnings("unchecked")
+    public T nearest(float x, float y, float maxRadius, Filter<? super T> filter) {
+        int cx = cellX(x);
+        int cy = cellY(y);
+        int maxRing = (int) Math.ceil(maxRadius * invCellSize);
+        float bestDistSq = maxRadius * maxRadius;
+        int best = -1;
+
+        for (int ring = 0; ring <= maxRing; ring++) {
+            int minX = cx - ring, maxX = cx + ring;
+            int minY = cy - ring, maxY = cy + ring;
+            for (int gy = minY; gy <= maxY; gy++) {
+                if (gy < 0 || gy >= rows) continue;
+                boolean edgeRow = gy == minY || gy == maxY;
+                // Interior rows only contribute their two edge cells to this ring
+                int step = edgeRow ? 1 : Math.max(1, maxX - minX);
+                for (int gx = minX; gx <= maxX; gx += step) {
+                    if (gx < 0 || gx >= cols) continue;
+                    for (int h = cellHead[gx + gy * cols]; h >= 0; h = next[h]) {
+                        float dx = xs[h] - x;
+                        float dy = ys[h] - y;
+                        float distSq = dx * dx + dy * dy;
+                        if (distSq <= bestDistSq && (filter == null || filter.accept((T) items[h]))) {
+                            bestDistSq = distSq;
+                            best = h;
+                        }
+                    }
+                }
+            }
+            // Everything in later rings is at least ring * cellSize away
+            float ringDist = ring * cellSize;
+            if (best >= 0 && bestDistSq <= ringDist * ringDist) break;
+        }
+        return best >= 0 ? (T) items[best] : null;
+    }
+
+    /**
+     * Collect handles of items within radius of (x, y)
+     * @return Number of handles written (stops when out is full)
+     */
+    public int query(float x, float y, float radius, int[] out) {
+        int minX = cellX(x - radius), maxX = cellX(x + radius);
+        int minY = cellY(y - radius), maxY = cellY(y + radius);
+        float radiusSq = radius * radius;
+        int found = 0;
+
+        for (int gy = minY; gy <= maxY; gy++) {
+            for (int gx = minX; gx <= maxX; gx++) {
+                for (int h = cellHead[gx + gy * cols]; h >= 0; h = next[h]) {
+                    float dx = xs[h] - x;
+                    float dy = ys[h] - y;
+                    if (dx * dx + dy * dy <= radiusSq) {
+                        out[found++] = h;
+                        if (found == out.length) return found;
+                    }
+                }
+            }
+        }
+        return found;
+    }
+
+    /**
+     * Collect handles of the items within radius closest to (x, y), nearest
+     * first. Expands ring by ring like nearest() and stops once out is full
+     * and no unvisited cell can hold anything closer than its farthest entry.
+     * @return Number of handles written (at most out.length)
+     */
+    public int queryNearest(float x, float y, float radius, int[] out) {
+        int limit = out.length;
+        if (limit == 0) return 0;
+        if (nearestDistSq.length < limit) nearestDistSq = new float[limit];
+        float[] dist = nearestDistSq;
+
+        int cx = cellX(x);
+        int cy = cellY(y);
+        int maxRing = (int) Math.ceil(radius * invCellSize);
+        float radiusSq = radius * radius;
+        int found = 0;
+
+        for (int ring = 0; ring <= maxRing; ring++) {
+            int minX = cx - ring, maxX = cx + ring;
+            int minY = cy - ring, maxY = cy + ring;
+            for (int gy = minY; gy <= maxY; gy++) {
+                if (gy < 0 || gy >= rows) continue;
+                boolean edgeRow = gy == minY || gy == maxY;
+                int step = edgeRow ? 1 : Math.max(1, maxX - minX);
+                for (int gx = minX; gx <= maxX; gx += step) {
+                    if (gx < 0 || gx >= cols) continue;
+                    for (int h = cellHead[gx + gy * cols]; h >= 0; h = next[h]) {
+                        float dx = xs[h] - x;
+                        float dy = ys[h] - y;
+                        float distSq = dx * dx + dy * dy;
+                        if (distSq > radiusSq || (found == limit && distSq >= dist[limit - 1])) continue;
+
+                        // Insertion into the distance-sorted result, dropping the farthest when full
+                        int i = found < limit ? found++ : limit - 1;
+                        while (i > 0 && dist[i - 1] > distSq) {
+                            dist[i] = dist[i - 1];
+                            out[i] = out[i - 1];
+                            i--;
+                        }
+                        dist[i] = distSq;
+                        out[i] = h;
+                    }
+                }
+            }
+            float ringDist = ring * cellSize;
+            if (found == limit && dist[limit - 1] <= ringDist * ringDist) break;
+        }
+        return found;
+    }
+
+    /**
+     * Collect handles of items whose position lies in the rectangle
+     * @return Number of handles written (stops when out is full)
+     */
+    public int queryRect(float x, float y, float width, float height, int[] out) {
+        float maxX = x + width, maxY = y + height;
+        int cellMinX = cellX(x), cellMaxX = cellX(maxX);
+        int cellMinY = cellY(y), cellMaxY = cellY(maxY);
+        int found = 0;
+
+        for (int gy = cellMinY; gy <= cellMaxY; gy++) {
+            for (int gx = cellMinX; gx <= cellMaxX; gx++) {
+                for (int h = cellHead[gx + gy * cols]; h >= 0; h = next[h]) {
+                    if (xs[h] < x || xs[h] > maxX || ys[h] < y || ys[h] > maxY) continue;
+                    out[found++] = h;
+                    if (found == out.length) return found;
+                }
+            }
+        }
+        return found;
+    }
+
+    @SuppressWarnings("unchecked")
+    public T get(int handle) { return (T) items[handle]; }
+    public boolean contains(int handle) { return handle >= 0 && handle < handles && cellOf[handle] >= 0; }
+    public int size() { return size; }
+
+    private int cellX(float x) {
+        int c = (int) (x * invCellSize);
+        return c < 0 ? 0 : (c >= cols ? cols - 1 : c);
+    }
+
+    private int cellY(float y) {
+        int c = (int) (y * invCellSize);
+        return c < 0 ? 0 : (c >= rows ? rows - 1 : c);
+    }
+
+    private void grow() {
+        int capacity = items.length * 2;
+        next = Arrays.copyOf(next, capacity);
+        prev = Arrays.copyOf(prev, capacity);
+        cellOf = Arrays.copyOf(cellOf, capacity);
+        xs = Arrays.copyOf(xs, capacity);
+        ys = Arrays.copyOf(ys, capacity);
+        items = Arrays.copyOf(items, capacity);
+    }
+}
@@ -2,6 +2,7 @@ package com.vijithapura.siege.dsa;
 
 import com.badlogic.gdx.math.Vector2;
 import java.util.Stack;
+import com.vijithapura.siege.utils.Log;
 
 /**
  * DSA: STACK - Command undo system
@@ -26,7 +27,7 @@ public class CommandStack {
             commandHistory.remove(0); // Remove oldest
         }
 
-        System.out.println("[STACK] Command pushed: " + command.type + " (Stack size: " + commandHistory.size() + ")");
+        Log.debug(Log.DSA, "[STACK] Command pushed: {} (Stack size: {})").arg(command.type).arg(commandHistory.size()).commit();
     }
 
     /**
@@ -35,7 +36,7 @@ public class CommandStack {
     public Command pop() {
         if (!commandHistory.isEmpty()) {
             Command cmd = commandHistory.pop();
-            System.out.println("[STACK] Command popped: " + cmd.type);
+            Log.debug(Log.DSA, "[STACK] Command popped: {}").arg(cmd.type).commit();
             return cmd;
         }
         return null;
@@ -70,7 +71,7 @@ public class CommandStack {
      */
     public void clear() {
         commandHistory.clear();
-        System.out.println("[STACK] Command history cleared");
+        Log.debug(Log.DSA, "[STACK] Command history cleared").commit();
     }
 
     /**
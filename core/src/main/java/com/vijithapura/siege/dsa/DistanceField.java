@@ -0,0 +1,264 @@
+package com.vijithapura.siege.dsa;
+
+import com.badlogic.gdx.math.Vector2;
+
+import java.util.Arrays;
+
+/**
+ * DSA: DISTANCE FIELD - Multi-source Dijkstra over a uniform grid
+ * Every source cell starts at distance 0 and one Dijkstra pass fills in the
+ * cost to the nearest source for the whole map. Any number of units can then
+ * walk downhill from wherever they stand, so nobody runs a path search of
+ * their own. Costs use the same 10 / 14 straight / diagonal weights as
+ * PathfindingGrid; diagonals may not cut the corner of a blocked cell.
+ * Blocked cells also get a distance (through their nearest free edge), so a
+ * unit that ended up inside an obstacle still has a way out; the field never
+ * routes free cells through blocked ones.
+ */
+public class DistanceField {
+    public static final int UNREACHABLE = Integer.MAX_VALUE;
+    private static final int STRAIGHT_COST = 10;
+    private static final int DIAGONAL_COST = 14;
+    private static final int[] DX = { 1, -1, 0, 0, 1, 1, -1, -1 };
+    private static final int[] DY = { 0, 0, 1, -1, 1, -1, 1, -1 };
+
+    private final float cellSize;
+    private final float invCellSize;
+    private final int cols;
+    private final int rows;
+    private final boolean[] blocked;
+    private final boolean[] source;
+    private final int[] dist;
+
+    // Indexed binary heap of cells keyed by dist (supports decrease-key)
+    private final int[] heap;
+    private final int[] heapPos; // -1 = not in heap
+    private int heapSize;
+
+    public DistanceField(float width, float height, float cellSize) {
+        this.cellSize = cellSize;
+        this.invCellSize = 1f / cellSize;
+        this.cols = Math.max(1, (int) Math.ceil(width / cellSize));
+        this.rows = Math.max(1, (int) Math.ceil(height / cellSize));
+
+        int cells = cols * rows;
+        this.blocked = new boolean[cells];
+        this.source = new boolean[cells];
+        this.dist = new int[cells];
+        this.heap = new int[cells];
+        this.heapPos = new int[cells];
+        Arrays.fill(dist, UNREACHABLE);
+    }
+
+    // ===== SETUP =====
+
+    /**
+     * Forget all sources and obstacles before describing the map again
+     */
+    public void clear() {
+        Arrays.fill(blocked, false);
+        Arrays.fill(source, false);
+    }
+
+    public void addSource(float x, float y, float width, float height) {
+        markArea(source, x, y, width, height);
+    }
+
+    public void addObstacle(float x, float y, float width, float height) {
+        markArea(blocked, x, y, width, height);
+    }
+
+    private void markArea(boolean[] cells, float x, float y, float width, float height) {
+        int minX = cellX(x), maxX = cellX(x + width);
+        int minY = cellY(y), maxY = cellY(y + height);
+        for (int gy = minY; gy <= maxY; gy++) {
+            for (int gx = minX; gx <= maxX; gx++) {
+                cells[gx + gy * cols] = true;
+            }
+        }
+    }
+
+    // ===== BUILD =====
+
+    /**
+     * Run Dijkstra from every source at once
+     * @return Number of reachable cells
+     */
+    public int build() {
+        Arrays.fill(dist, UNREACHABLE);
+        Arrays.fill(heapPos, -1);
+        heapSize = 0;
+
+        for (int cell = 0; cell < source.length; cell++) {
+            if (source[cell]) {
+                dist[cell] = 0;
+                push(cell);
+            }
+        }
+
+        int reached = 0;
+        while (heapSize > 0) {
+            int cell = pop();
+            reached++;
+            int cx = cell % cols;
+            int cy = cell / cols;
+
+            for (int d = 0; d < 8; d++) {
+                int nx = cx + DX[d];
+                int ny = cy + DY[d];
+                if (!canRelax(cx, cy, nx, ny)) continue;
+
+                int neighbor = nx + ny * cols;
+                int cost = dist[cell] + (d < 4 ? STRAIGHT_COST : DIAGONAL_COST);
+                if (cost < dist[neighbor]) {
+                    dist[neighbor] = cost;
+                    if (heapPos[neighbor] < 0) push(neighbor);
+                    else siftUp(heapPos[neighbor]);
+                }
+            }
+        }
+        return reached;
+    }
+
+    // ===== QUERIES =====
+
+    /**
+     * Whether (x, y) lies in a source cell (i.e. the walker has arrived)
+     */
+    public boolean isSource(float x, float y) {
+        return source[cellX(x) + cellY(y) * cols];
+    }
+
+    /**
+     * Approximate walking distance in world units to the nearest source
+     */
+    public float getDistance(float x, float y) {
+        int d = dist[cellX(x) + cellY(y) * cols];
+        return d == UNREACHABLE ? Float.POSITIVE_INFINITY : d * cellSize / STRAIGHT_COST;
+    }
+
+    /**
+     * Follow the steepest descent for up to maxSteps cells from (x, y)
+     * @param out Receives the centre of the cell reached
+     * @return false when no neighbouring cell leads closer to a source
+     */
+    public boolean descend(float x, float y, int maxSteps, Vector2 out) {
+        int cx = cellX(x);
+        int cy = cellY(y);
+        int steps = 0;
+
+        while (steps < maxSteps && !source[cx + cy * cols]) {
+            int best = dist[cx + cy * cols];
+            int bestX = -1, bestY = -1;
+            boolean escaping = blocked[cx + cy * cols];
+            for (int d = 0; d < 8; d++) {
+                int nx = cx + DX[d];
+                int ny = cy + DY[d];
+                if (escaping ? !inBounds(nx, ny) : !canStep(cx, cy, nx, ny)) continue;
+                int nd = dist[nx + ny * cols];
+                if (nd < best) {
+                    best = nd;
+                    bestX = nx;
+                    bestY = ny;
+                }
+            }
+            if (bestX < 0) break;
+            cx = bestX;
+            cy = bestY;
+            steps++;
+        }
+
+        if (steps == 0 && !source[cx + cy * cols]) return false;
+        out.set((cx + 0.5f) * cellSize, (cy + 0.5f) * cellSize);
+        return true;
+    }
+
+    public int getCols() { return cols; }
+    public int getRows() { return rows; }
+    public float getCellSize() { return cellSize; }
+
+    // ===== INTERNALS =====
+
+    /**
+     * Build edges: free cells spread into any neighbour, blocked cells only
+     * deeper into the obstacle (so nothing is routed through it)
+     */
+    private boolean canRelax(int cx, int cy, int nx, int ny) {
+        if (!inBounds(nx, ny)) return false;
+        if (blocked[cx + cy * cols]) return blocked[nx + ny * cols];
+        return blocked[nx + ny * cols] || canStep(cx, cy, nx, ny);
+    }
+
+    /**
+     * Walkable move between free cells
+     */
+    private boolean canStep(int cx, int cy, int nx, int ny) {
+        if (!inBounds(nx, ny)) return false;
+        if (blocked[nx + ny * cols]) return false;
+        if (nx != cx && ny != cy) {
+            // No squeezing diagonally between two blocked cells' corners
+            if (blocked[nx + cy * cols] || blocked[cx + ny * cols]) return false;
+        }
+        return true;
+    }
+
+    private boolean inBounds(int gx, int gy) {
+        return gx >= 0 && gx < cols && gy >= 0 && gy < rows;
+    }
+
+    private int cellX(float x) {
+        int c = (int) (x * invCellSize);
+        return c < 0 ? 0 : (c >= cols ? cols - 1 : c);
+    }
+
+    private int cellY(float y) {
+        int c = (int) (y * invCellSize);
+        return c < 0 ? 0 : (c >= rows ? rows - 1 : c);
+    }
+
+    private void push(int cell) {
+        heap[heapSize] = cell;
+        heapPos[cell] = heapSize;
+        siftUp(heapSize++);
+    }
+
+    private int pop() {
+        int top = heap[0];
+        heapPos[top] = -1;
+        heapSize--;
+        if (heapSize > 0) {
+            heap[0] = heap[heapSize];
+            heapPos[heap[0]] = 0;
+            siftDown(0);
+        }
+        return top;
+    }
+
+    private void siftUp(int i) {
+        int cell = heap[i];
+        while (i > 0) {
+            int parent = (i - 1) >> 1;
+            if (dist[heap[parent]] <= dist[cell]) break;
+            heap[i] = heap[parent];
+            heapPos[heap[i]] = i;
+            i = parent;
+        }
+        heap[i] = cell;
+        heapPos[cell] = i;
+    }
+
+    private void siftDown(int i) {
+        int cell = heap[i];
+        while (true) {
+            int child = 2 * i + 1;
+            if (child >= heapSize) break;
+            if (child + 1 < heapSize && dist[heap[child + 1]] < dist[heap[child]]) child++;
+            if (dist[heap[child]] >= dist[cell]) break;
+            heap[i] = heap[child];
+            heapPos[heap[i]] = i;
+            i = child;
+        }
+        heap[i] = cell;
+        heapPos[cell] = i;
+    }
+}
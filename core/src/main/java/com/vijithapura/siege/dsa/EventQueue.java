@@ -0,0 +1,63 @@
+package com.vijithapura.siege.dsa;
+
+import java.util.Arrays;
+
+/**
+ * DSA: EVENT QUEUE - Growable FIFO of reusable event records
+ * Records are created once and overwritten in place: push() hands back the
+ * next free slot to fill, and clear() rewinds the queue without freeing
+ * anything, so a steady event rate allocates nothing after warm-up.
+ */
+public class EventQueue<E> {
+    /**
+     * Creates the record objects stored in the queue
+     */
+    public interface Factory<E> {
+        E create();
+    }
+
+    private final Factory<E> factory;
+    private Object[] records;
+    private int size;
+
+    public EventQueue(Factory<E> factory, int initialCapacity) {
+        this.factory = factory;
+        this.records = new Object[Math.max(16, initialCapacity)];
+        for (int i = 0; i < records.length; i++) {
+            records[i] = factory.create();
+        }
+    }
+
+    /**
+     * Claim the next record; the caller overwrites all of its fields
+     */
+    @SuppressWarnings("unchecked")
+    public E push() {
+        if (size == records.length) grow();
+        return (E) records[size++];
+    }
+
+    @SuppressWarnings("unchecked")
+    public E get(int index) {
+        return (E) records[index];
+    }
+
+    public int size() { return size; }
+    public boolean isEmpty() { return size == 0; }
+    public int getCapacity() { return records.length; }
+
+    /**
+     * Forget every queued record (records are kept for reuse)
+     */
+    public void clear() {
+        size = 0;
+    }
+
+    private void grow() {
+        int oldLength = records.length;
+        records = Arrays.copyOf(records, oldLength * 2);
+        for (int i = oldLength; i < records.length; i++) {
+            records[i] = factory.create();
+        }
+    }
+}
@@ -0,0 +1,107 @@
+package com.vijithapura.siege.dsa;
+
+import java.util.Arrays;
+
+/**
+ * DSA: LRU SLOT CACHE - Maps int keys onto a bounded set of reusable slots
+ * Slots are linked into a recency list (most recently used at the head), so
+ * looking a key up, marking it used and handing the least recently used slot
+ * to a new key are all O(1). The caller keeps whatever a slot holds (e.g. a
+ * FrameBuffer) in its own array indexed by slot.
+ */
+public class LruSlots {
+    private final int[] slotOfKey; // -1 = not cached
+    private int[] keyOfSlot;
+    private int[] prev;            // towards the head (more recent)
+    private int[] next;            // towards the tail (less recent)
+    private int head = -1;
+    private int tail = -1;
+    private int size;              // slots handed out so far
+    private int evictedKey = -1;
+
+    /**
+     * @param keyCount Keys are 0 .. keyCount - 1
+     * @param capacity Most keys cached at once (see grow())
+     */
+    public LruSlots(int keyCount, int capacity) {
+        slotOfKey = new int[keyCount];
+        Arrays.fill(slotOfKey, -1);
+        keyOfSlot = new int[capacity];
+        prev = new int[capacity];
+        next = new int[capacity];
+    }
+
+    /**
+     * Slot holding the key, or -1; its recency is unchanged
+     */
+    public int get(int key) {
+        return slotOfKey[key];
+    }
+
+    /**
+     * Mark a cached key as the most recently used
+     * @return Its slot, or -1 if the key is not cached
+     */
+    public int touch(int key) {
+        int slot = slotOfKey[key];
+        if (slot >= 0 && slot != head) {
+            unlink(slot);
+            linkFirst(slot);
+        }
+        return slot;
+    }
+
+    /**
+     * Give the key a slot as the most recently used: a new one while below
+     * capacity, otherwise the least recently used key's
+     * @return The slot; its previous key is available from getEvictedKey()
+     */
+    public int acquire(int key) {
+        evictedKey = -1;
+        int slot = slotOfKey[key];
+        if (slot >= 0) return touch(key);
+
+        if (size < keyOfSlot.length) {
+            slot = size++;
+        } else {
+            slot = tail;
+            unlink(slot);
+            evictedKey = keyOfSlot[slot];
+            slotOfKey[evictedKey] = -1;
+        }
+        keyOfSlot[slot] = key;
+        slotOfKey[key] = slot;
+        linkFirst(slot);
+        return slot;
+    }
+
+    /**
+     * Raise the capacity; cached keys keep their slots
+     */
+    public void grow(int capacity) {
+        if (capacity <= keyOfSlot.length) return;
+        keyOfSlot = Arrays.copyOf(keyOfSlot, capacity);
+        prev = Arrays.copyOf(prev, capacity);
+        next = Arrays.copyOf(next, capacity);
+    }
+
+    /** Key whose slot the last acquire() took over, or -1 */
+    public int getEvictedKey() { return evictedKey; }
+    public int getCapacity() { return keyOfSlot.length; }
+    public int size() { return size; }
+
+    private void unlink(int slot) {
+        if (prev[slot] >= 0) next[prev[slot]] = next[slot];
+        else head = next[slot];
+        if (next[slot] >= 0) prev[next[slot]] = prev[slot];
+        else tail = prev[slot];
+    }
+
+    private void linkFirst(int slot) {
+        prev[slot] = -1;
+        next[slot] = head;
+        if (head >= 0) prev[head] = slot;
+        head = slot;
+        if (tail < 0) tail = slot;
+    }
+}
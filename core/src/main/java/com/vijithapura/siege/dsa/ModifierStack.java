@@ -0,0 +1,189 @@
+package com.vijithapura.siege.dsa;
+
+/**
+ * DSA: MIN-HEAP - Stat modifier stack stored in primitive arrays
+ * Modifiers live in fixed slots; a binary min-heap of expiry deadlines
+ * means checking for expired modifiers is O(1) when nothing expires.
+ * Summed bonuses are cached and only recomputed when the stack changes.
+ */
+public class ModifierStack {
+    private final int[] sourceIds;
+    private final float[] speedBonus;
+    private final float[] damageBonus;
+    private final float[] armorBonus;
+    private final float[] expiresAt;
+
+    // Heap of slot indices ordered by expiresAt, plus slot -> heap position
+    private final int[] heap;
+    private final int[] heapPos;
+    private int size;
+
+    private float totalSpeed;
+    private float totalDamage;
+    private float totalArmor;
+
+    public ModifierStack(int capacity) {
+        sourceIds = new int[capacity];
+        speedBonus = new float[capacity];
+        damageBonus = new float[capacity];
+        armorBonus = new float[capacity];
+        expiresAt = new float[capacity];
+        heap = new int[capacity];
+        heapPos = new int[capacity];
+        size = 0;
+    }
+
+    /**
+     * Add a modifier, or refresh it if the same source is already active.
+     * When full, the modifier closest to expiry is replaced.
+     */
+    public void add(int sourceId, float expiryTime, float speed, float damage, float armor) {
+        int slot = findSlot(sourceId);
+
+        if (slot < 0) {
+            if (size < heap.length) {
+                // Slots are kept dense: slot index == heap index for the new entry
+                slot = size;
+                heap[size] = slot;
+                heapPos[slot] = size;
+                size++;
+            } else {
+                slot = heap[0];
+            }
+        }
+
+        sourceIds[slot] = sourceId;
+        speedBonus[slot] = speed;
+        damageBonus[slot] = damage;
+        armorBonus[slot] = armor;
+        expiresAt[slot] = expiryTime;
+
+        int pos = heapPos[slot];
+        siftUp(pos);
+        siftDown(heapPos[slot]);
+        recalculateTotals();
+    }
+
+    /**
+     * Remove a modifier by source (no-op if not active)
+     */
+    public boolean remove(int sourceId) {
+        int slot = findSlot(sourceId);
+        if (slot < 0) return false;
+        removeSlot(slot);
+        recalculateTotals();
+        return true;
+    }
+
+    /**
+     * Drop every modifier whose deadline has passed
+     * @return true if the stack changed
+     */
+    public boolean expire(float now) {
+        if (size == 0 || expiresAt[heap[0]] > now) return false;
+
+        while (size > 0 && expiresAt[heap[0]] <= now) {
+            removeSlot(heap[0]);
+        }
+        recalculateTotals();
+        return true;
+    }
+
+    public void clear() {
+        size = 0;
+        recalculateTotals();
+    }
+
+    private int findSlot(int sourceId) {
+        for (int i = 0; i < size; i++) {
+            if (sourceIds[i] == sourceId) return i;
+        }
+        return -1;
+    }
+
+    /**
+     * Remove a slot, moving the last dense slot into its place
+     */
+    private void removeSlot(int slot) {
+        // Remove from heap
+        int pos = heapPos[slot];
+        int lastHeap = size - 1;
+        if (pos != lastHeap) {
+            swapHeap(pos, lastHeap);
+        }
+
+        // Compact slot arrays: move last slot into the hole
+        int lastSlot = size - 1;
+        size--;
+        if (slot != lastSlot) {
+            sourceIds[slot] = sourceIds[lastSlot];
+            speedBonus[slot] = speedBonus[lastSlot];
+            damageBonus[slot] = damageBonus[lastSlot];
+            armorBonus[slot] = armorBonus[lastSlot];
+            expiresAt[slot] = expiresAt[lastSlot];
+            int movedPos = heapPos[lastSlot];
+            heap[movedPos] = slot;
+            heapPos[slot] = movedPos;
+        }
+
+        if (pos < size) {
+            siftUp(pos);
+            siftDown(pos);
+        }
+    }
+
+    private void siftUp(int pos) {
+        while (pos > 0) {
+            int parent = (pos - 1) >> 1;
+            if (expiresAt[heap[pos]] >= expiresAt[heap[parent]]) break;
+            swapHeap(pos, parent);
+            pos = parent;
+        }
+    }
+
+    private void siftDown(int pos) {
+        while (true) {
+            int left = pos * 2 + 1;
+            if (left >= size) break;
+            int right = left + 1;
+            int smallest = (right < size && expiresAt[heap[right]] < expiresAt[heap[left]]) ? right : left;
+            if (expiresAt[heap[pos]] <= expiresAt[heap[smallest]]) break;
+            swapHeap(pos, smallest);
+            pos = smallest;
+        }
+    }
+
+    private void swapHeap(int a, int b) {
+        int slotA = heap[a];
+        int slotB = heap[b];
+        heap[a] = slotB;
+        heap[b] = slotA;
+        heapPos[slotB] = a;
+        heapPos[slotA] = b;
+    }
+
+    private void recalculateTotals() {
+        float speed = 0, damage = 0, armor = 0;
+        for (int i = 0; i < size; i++) {
+            speed += speedBonus[i];
+            damage += damageBonus[i];
+            armor += armorBonus[i];
+        }
+        totalSpeed = speed;
+        totalDamage = damage;
+        totalArmor = armor;
+    }
+
+    public int size() { return size; }
+    public boolean isEmpty() { return size == 0; }
+    public float getSpeedBonus() { return totalSpeed; }
+    public float getDamageBonus() { return totalDamage; }
+    public float getArmorBonus() { return totalArmor; }
+
+    /**
+     * Earliest expiry time, or Float.MAX_VALUE if empty
+     */
+    public float getNextExpiry() {
+        return size > 0 ? expiresAt[heap[0]] : Float.MAX_VALUE;
+    }
+}
@@ -0,0 +1,92 @@
+package com.vijithapura.siege.dsa;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * DSA: RING BUFFER - Bounded lock-free multi-producer / single-consumer queue
+ * Slots are preallocated and reused, so enqueueing never allocates.
+ * Each slot carries a sequence number (Vyukov style): producers claim a slot
+ * with one CAS, fill it in place and publish it; the consumer reads slots in order.
+ */
+public class MpscRing<T> {
+    /**
+     * Creates the preallocated slot objects
+     */
+    public interface SlotFactory<T> {
+        T create();
+    }
+
+    private final Object[] slots;
+    private final AtomicLongArray sequences;
+    private final int mask;
+    private final AtomicLong tail = new AtomicLong();
+    private long head; // consumer only
+
+    /**
+     * @param capacity Rounded up to a power of two
+     */
+    public MpscRing(int capacity, SlotFactory<T> factory) {
+        int size = 1;
+        while (size < capacity) size <<= 1;
+
+        this.slots = new Object[size];
+        this.sequences = new AtomicLongArray(size);
+        this.mask = size - 1;
+        for (int i = 0; i < size; i++) {
+            slots[i] = factory.create();
+            sequences.set(i, i);
+        }
+    }
+
+    /**
+     * Producer: claim the next free slot
+     * @return Sequence of the claimed slot, or -1 if the ring is full
+     */
+    public long claim() {
+        while (true) {
+            long pos = tail.get();
+            long diff = sequences.get((int) (pos & mask)) - pos;
+            if (diff == 0) {
+                if (tail.compareAndSet(pos, pos + 1)) return pos;
+            } else if (diff < 0) {
+                return -1; // full
+            }
+            // Another producer moved tail; retry
+        }
+    }
+
+    /**
+     * Slot object for a claimed or polled sequence
+     */
+    @SuppressWarnings("unchecked")
+    public T get(long sequence) {
+        return (T) slots[(int) (sequence & mask)];
+    }
+
+    /**
+     * Producer: make a filled slot visible to the consumer
+     */
+    public void publish(long sequence) {
+        sequences.set((int) (sequence & mask), sequence + 1);
+    }
+
+    /**
+     * Consumer: next published sequence, or -1 if nothing is ready
+     */
+    public long poll() {
+        long pos = head;
+        if (sequences.get((int) (pos & mask)) != pos + 1) return -1;
+        return pos;
+    }
+
+    /**
+     * Consumer: hand a processed slot back to producers
+     */
+    public void release(long sequence) {
+        sequences.set((int) (sequence & mask), sequence + slots.length);
+        head = sequence + 1;
+    }
+
+    public int capacity() { return slots.length; }
+}
@@ -0,0 +1,64 @@
+package com.vijithapura.siege.dsa;
+
+import com.badlogic.gdx.utils.Pool;
+
+/**
+ * DSA: OBJECT POOL - Free-list of reusable objects with capacity stats
+ * Built on libGDX Pool; objects implementing Pool.Poolable are reset on free.
+ * Tracks objects in use, peak usage and total created so pools can be
+ * pre-warmed to the expected peak before a burst (e.g. a wave) starts.
+ */
+public class ObjectPool<T> extends Pool<T> {
+    /**
+     * Creates new pooled objects when the free list is empty
+     */
+    public interface Factory<T> {
+        T create();
+    }
+
+    private final Factory<T> factory;
+    private int inUse;
+    private int peakInUse;
+    private int created;
+
+    public ObjectPool(Factory<T> factory, int initialCapacity, int max) {
+        super(initialCapacity, max);
+        this.factory = factory;
+    }
+
+    @Override
+    protected T newObject() {
+        created++;
+        return factory.create();
+    }
+
+    @Override
+    public T obtain() {
+        inUse++;
+        if (inUse > peakInUse) peakInUse = inUse;
+        return super.obtain();
+    }
+
+    @Override
+    public void free(T object) {
+        inUse--;
+        super.free(object);
+    }
+
+    /**
+     * Grow the free list so that at least {@code capacity} objects can be in use
+     * at once, creating at most {@code maxToCreate} objects in this call
+     * @return true once the target capacity is reached
+     */
+    public boolean prewarm(int capacity, int maxToCreate) {
+        int missing = Math.min(capacity, max) - (inUse + getFree());
+        if (missing <= 0) return true;
+        int toCreate = Math.min(missing, maxToCreate);
+        fill(toCreate);
+        return toCreate == missing;
+    }
+
+    public int getInUse() { return inUse; }
+    public int getPeakInUse() { return peakInUse; }
+    public int getCreated() { return created; }
+}
@@ -0,0 +1,283 @@
+package com.vijithapura.siege.dsa;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.graphics.Color;
+import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.graphics.g2d.Sprite;
+import com.badlogic.gdx.graphics.g2d.SpriteBatch;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
+import com.badlogic.gdx.graphics.glutils.ShapeRenderer;
+
+import java.util.Arrays;
+
+/**
+ * DSA: SORTED COMMAND BUFFER - Deferred draw commands for one frame
+ * Entities submit sprites and shapes instead of drawing them; flush() sorts
+ * the commands by one packed long key (layer, then texture, then shape type,
+ * then submission order) and replays them, so the SpriteBatch and the
+ * ShapeRenderer are only swapped where the sorted order actually changes
+ * between them. Within a layer shapes come before sprites (a gate wall sits
+ * under its tower), and filled shapes before lines.
+ *
+ * Commands live in parallel arrays that only grow, so a frame allocates
+ * nothing once the buffer has reached its working size.
+ */
+public class RenderQueue {
+    // Layers, drawn bottom to top
+    public static final int LAYER_TERRAIN = 0;
+    public static final int LAYER_NODES = 1;
+    public static final int LAYER_BUILDINGS = 2;
+    public static final int LAYER_GATES = 3;
+    public static final int LAYER_UNITS = 4;
+    public static final int LAYER_PROJECTILES = 5;
+    public static final int LAYER_BARS = 6;
+    public static final int LAYER_SELECTION = 7;
+    public static final int LAYER_ORDERS = 8;
+    private static final int LAYER_COUNT = 9;
+
+    // Command kinds
+    private static final int FILLED_RECT = 0;
+    private static final int FILLED_CIRCLE = 1;
+    private static final int LINE_RECT = 2;
+    private static final int LINE_CIRCLE = 3;
+    private static final int LINE = 4;
+    private static final int SPRITE = 5;
+    private static final int REGION = 6;
+
+    private static final int MODE_NONE = 0;
+    private static final int MODE_BATCH = 1;
+    private static final int MODE_SHAPES = 2;
+
+    private final float[] lineWidths = new float[LAYER_COUNT];
+
+    private int count;
+    private int[] kinds;
+    private int[] layers;
+    private int[] colors;        // RGBA8888 shape color or region tint
+    private float[] coords;      // 4 per command (x, y, width/radius/x2, height/segments/y2)
+    private Sprite[] sprites;
+    private TextureRegion[] regions;
+    private long[] keys;
+
+    private final Texture[] textureIds = new Texture[255]; // texture -> sort id (index + 1), 8 bits
+    private int textureCount;
+
+    private final Color color = new Color(Color.WHITE);
+    private final Color scratch = new Color();
+    private int packedColor = Color.rgba8888(Color.WHITE);
+
+    private int lastCommandCount;
+    private int lastSwitchCount;
+
+    public RenderQueue(int initialCapacity) {
+        int capacity = Math.max(16, initialCapacity);
+        kinds = new int[capacity];
+        layers = new int[capacity];
+        colors = new int[capacity];
+        coords = new float[capacity * 4];
+        sprites = new Sprite[capacity];
+        regions = new TextureRegion[capacity];
+        keys = new long[capacity];
+        Arrays.fill(lineWidths, 1f);
+    }
+
+    /**
+     * Line width used for the line shapes of a layer
+     */
+    public void setLineWidth(int layer, float width) {
+        lineWidths[layer] = width;
+    }
+
+    // ===== SUBMISSION =====
+
+    /**
+     * Color for the shapes submitted after this call (like ShapeRenderer.setColor)
+     */
+    public void setColor(Color color) {
+        setColor(color.r, color.g, color.b, color.a);
+    }
+
+    public void setColor(float r, float g, float b, float a) {
+        color.set(r, g, b, a);
+        packedColor = Color.rgba8888(color);
+    }
+
+    public void rect(int layer, float x, float y, float width, float height) {
+        add(FILLED_RECT, layer, x, y, width, height);
+    }
+
+    public void circle(int layer, float x, float y, float radius) {
+        add(FILLED_CIRCLE, layer, x, y, radius, 0);
+    }
+
+    public void rectOutline(int layer, float x, float y, float width, float height) {
+        add(LINE_RECT, layer, x, y, width, height);
+    }
+
+    public void circleOutline(int layer, float x, float y, float radius, int segments) {
+        add(LINE_CIRCLE, layer, x, y, radius, segments);
+    }
+
+    public void line(int layer, float x1, float y1, float x2, float y2) {
+        add(LINE, layer, x1, y1, x2, y2);
+    }
+
+    /**
+     * Sprite drawn as it is at flush time (position, size and color included)
+     */
+    public void sprite(int layer, Sprite sprite) {
+        int index = add(SPRITE, layer, 0, 0, 0, 0);
+        sprites[index] = sprite;
+        keys[index] |= (long) textureId(sprite.getTexture()) << 40;
+    }
+
+    /**
+     * Region stretched over (x, y, width, height)
+     */
+    public void region(int layer, TextureRegion region, float x, float y, float width, float height) {
+        region(layer, region, x, y, width, height, Color.WHITE);
+    }
+
+    public void region(int layer, TextureRegion region, float x, float y, float width, float height, Color tint) {
+        int index = add(REGION, layer, x, y, width, height);
+        colors[index] = Color.rgba8888(tint);
+        regions[index] = region;
+        keys[index] |= (long) textureId(region.getTexture()) << 40;
+    }
+
+    private int add(int kind, int layer, float a, float b, float c, float d) {
+        if (count == kinds.length) grow();
+        int index = count++;
+        kinds[index] = kind;
+        layers[index] = layer;
+        colors[index] = packedColor;
+        int base = index * 4;
+        coords[base] = a;
+        coords[base + 1] = b;
+        coords[base + 2] = c;
+        coords[base + 3] = d;
+        // layer | texture (filled in by the textured calls) | shape type | sequence
+        long shapeType = kind >= LINE_RECT && kind <= LINE ? 1 : 0;
+        keys[index] = ((long) layer << 48) | (shapeType << 32) | index;
+        return index;
+    }
+
+    private int textureId(Texture texture) {
+        for (int i = 0; i < textureCount; i++) {
+            if (textureIds[i] == texture) return i + 1;
+        }
+        if (textureCount == textureIds.length) return textureIds.length; // sorts last, still correct
+        textureIds[textureCount++] = texture;
+        return textureCount;
+    }
+
+    // ===== FLUSH =====
+
+    /**
+     * Sort and draw everything submitted since the last flush, then clear.
+     * Neither the batch nor the renderer may be active when this is called.
+     */
+    public void flush(SpriteBatch batch, ShapeRenderer shapes) {
+        Arrays.sort(keys, 0, count);
+
+        int mode = MODE_NONE;
+        int switches = 0;
+        float lineWidth = 1f;
+
+        for (int i = 0; i < count; i++) {
+            int index = (int) keys[i];
+            int kind = kinds[index];
+            int base = index * 4;
+
+            if (kind == SPRITE || kind == REGION) {
+                if (mode == MODE_SHAPES) shapes.end();
+                if (mode != MODE_BATCH) {
+                    batch.begin();
+                    mode = MODE_BATCH;
+                    switches++;
+                }
+                if (kind == SPRITE) {
+                    sprites[index].draw(batch);
+                } else {
+                    Color.rgba8888ToColor(scratch, colors[index]);
+                    batch.setColor(scratch);
+                    batch.draw(regions[index], coords[base], coords[base + 1], coords[base + 2], coords[base + 3]);
+                }
+                continue;
+            }
+
+            ShapeRenderer.ShapeType type = kind <= FILLED_CIRCLE
+                ? ShapeRenderer.ShapeType.Filled : ShapeRenderer.ShapeType.Line;
+            if (mode == MODE_BATCH) batch.end();
+            if (mode != MODE_SHAPES) {
+                shapes.begin(type);
+                mode = MODE_SHAPES;
+                switches++;
+            } else if (shapes.getCurrentType() != type) {
+                shapes.set(type);
+            }
+            if (type == ShapeRenderer.ShapeType.Line && lineWidths[layers[index]] != lineWidth) {
+                // Lines already buffered keep the old width
+                shapes.flush();
+                lineWidth = lineWidths[layers[index]];
+                Gdx.gl.glLineWidth(lineWidth);
+            }
+
+            Color.rgba8888ToColor(scratch, colors[index]);
+            shapes.setColor(scratch);
+            switch (kind) {
+                case FILLED_RECT:
+                case LINE_RECT:
+                    shapes.rect(coords[base], coords[base + 1], coords[base + 2], coords[base + 3]);
+                    break;
+                case FILLED_CIRCLE:
+                    shapes.circle(coords[base], coords[base + 1], coords[base + 2]);
+                    break;
+                case LINE_CIRCLE:
+                    shapes.circle(coords[base], coords[base + 1], coords[base + 2], (int) coords[base + 3]);
+                    break;
+                default:
+                    shapes.line(coords[base], coords[base + 1], coords[base + 2], coords[base + 3]);
+                    break;
+            }
+        }
+
+        if (mode == MODE_BATCH) batch.end();
+        if (mode == MODE_SHAPES) shapes.end();
+        batch.setColor(Color.WHITE);
+        if (lineWidth != 1f) Gdx.gl.glLineWidth(1f);
+
+        lastCommandCount = count;
+        lastSwitchCount = switches;
+        clear();
+    }
+
+    /**
+     * Drop all commands without drawing them
+     */
+    public void clear() {
+        for (int i = 0; i < count; i++) {
+            sprites[i] = null;
+            regions[i] = null;
+        }
+        count = 0;
+        setColor(Color.WHITE);
+    }
+
+    private void grow() {
+        int capacity = kinds.length * 2;
+        kinds = Arrays.copyOf(kinds, capacity);
+        layers = Arrays.copyOf(layers, capacity);
+        colors = Arrays.copyOf(colors, capacity);
+        coords = Arrays.copyOf(coords, capacity * 4);
+        sprites = Arrays.copyOf(sprites, capacity);
+        regions = Arrays.copyOf(regions, capacity);
+        keys = Arrays.copyOf(keys, capacity);
+    }
+
+    public int size() { return count; }
+    /** Commands drawn by the last flush */
+    public int getLastCommandCount() { return lastCommandCount; }
+    /** Times the last flush started the batch or the shape renderer */
+    public int getLastSwitchCount() { return lastSwitchCount; }
+}
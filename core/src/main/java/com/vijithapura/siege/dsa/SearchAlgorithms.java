@@ -3,6 +3,7 @@ package com.vijithapura.siege.dsa;
 import com.badlogic.gdx.math.Vector2;
 import com.vijithapura.siege.entities.Unit;
 import java.util.ArrayList;
+import com.vijithapura.siege.utils.Log;
 
 /**
  * DSA: SEARCHING ALGORITHMS
@@ -17,11 +18,11 @@ public class SearchAlgorithms {
     public static Unit linearSearchByName(ArrayList<Unit> units, String name) {
         for (Unit unit : units) {
             if (unit.getName().equals(name)) {
-                System.out.println("[LINEAR SEARCH] Found unit: " + name);
+                Log.debug(Log.DSA, "[LINEAR SEARCH] Found unit: {}").arg(name).commit();
                 return unit;
             }
         }
-        System.out.println("[LINEAR SEARCH] Unit not found: " + name);
+        Log.debug(Log.DSA, "[LINEAR SEARCH] Unit not found: {}").arg(name).commit();
         return null;
     }
 
@@ -39,7 +40,7 @@ public class SearchAlgorithms {
             float midHealth = sortedUnits.get(mid).getHealth();
 
             if (Math.abs(midHealth - targetHealth) < 0.1f) {
-                System.out.println("[BINARY SEARCH] Found unit with health: " + targetHealth);
+                Log.debug(Log.DSA, "[BINARY SEARCH] Found unit with health: {}").arg(targetHealth).commit();
                 return sortedUnits.get(mid);
             }
 
@@ -50,7 +51,7 @@ public class SearchAlgorithms {
             }
         }
 
-        System.out.println("[BINARY SEARCH] No unit found with exact health: " + targetHealth);
+        Log.debug(Log.DSA, "[BINARY SEARCH] No unit found with exact health: {}").arg(targetHealth).commit();
         return null;
     }
 
@@ -62,7 +63,8 @@ public class SearchAlgorithms {
         Unit nearest = null;
         float minDistance = Float.MAX_VALUE;
 
-        for (Unit enemy : enemies) {
+        for (int i = 0, n = enemies.size(); i < n; i++) {
+            Unit enemy = enemies.get(i);
             if (!enemy.isAlive()) continue;
 
             float distance = Vector2.dst(position.x, position.y,
@@ -94,7 +96,7 @@ public class SearchAlgorithms {
             }
         }
 
-        System.out.println("[SEARCH] Found " + unitsInRange.size() + " units in range: " + range);
+        Log.debug(Log.DSA, "[SEARCH] Found {} units in range: {}").arg(unitsInRange.size()).arg(range).commit();
         return unitsInRange;
     }
 }
@@ -0,0 +1,152 @@
+package com.vijithapura.siege.dsa;
+
+import java.util.Arrays;
+
+/**
+ * DSA: UNIFORM GRID - Spatial hash for neighbour queries
+ * Items are stored in flat arrays and chained per cell through int links,
+ * so rebuilding the grid every tick allocates nothing once capacity is reached.
+ * Insert is O(1); a radius query only visits the cells the circle overlaps.
+ */
+public class SpatialGrid<T> {
+    private final float cellSize;
+    private final float invCellSize;
+    private final int cols;
+    private final int rows;
+    private final int[] cellHead; // first item per cell, -1 = empty
+
+    private int[] next;           // next item in the same cell, -1 = end
+    private float[] xs;
+    private float[] ys;
+    private Object[] items;
+    private int count;
+
+    public SpatialGrid(float width, float height, float cellSize, int initialCapacity) {
+        this.cellSize = cellSize;
+        this.invCellSize = 1f / cellSize;
+        this.cols = Math.max(1, (int) Math.ceil(width / cellSize));
+        this.rows = Math.max(1, (int) Math.ceil(height / cellSize));
+        this.cellHead = new int[cols * rows];
+        Arrays.fill(cellHead, -1);
+
+        int capacity = Math.max(16, initialCapacity);
+        this.next = new int[capacity];
+        this.xs = new float[capacity];
+        this.ys = new float[capacity];
+        this.items = new Object[capacity];
+        this.count = 0;
+    }
+
+    /**
+     * Remove every item (keeps capacity)
+     */
+    public void clear() {
+        Arrays.fill(cellHead, -1);
+        Arrays.fill(items, 0, count, null);
+        count = 0;
+    }
+
+    /**
+     * Insert an item at a position (positions outside the grid clamp to the edge cells)
+     * @return Index of the item, valid until the next clear()
+     */
+    public int insert(T item, float x, float y) {
+        if (count == items.length) grow();
+
+        int index = count++;
+        int cell = cellIndex(cellX(x), cellY(y));
+        xs[index] = x;
+        ys[index] = y;
+        items[index] = item;
+        next[index] = cellHead[cell];
+        cellHead[cell] = index;
+        return index;
+    }
+
+    /**
+     * Collect indices of items within radius of (x, y)
+     * @param out Receives item indices; the query stops when it is full
+     * @return Number of indices written
+     */
+    public int query(float x, float y, float radius, int[] out) {
+        return query(x, y, radius, out, -1);
+    }
+
+    /**
+     * Same as query() but skips one item index (usually the querying item itself)
+     */
+    public int query(float x, float y, float radius, int[] out, int exclude) {
+        int minX = cellX(x - radius);
+        int maxX = cellX(x + radius);
+        int minY = cellY(y - radius);
+        int maxY = cellY(y + radius);
+        float radiusSq = radius * radius;
+        int found = 0;
+
+        for (int cy = minY; cy <= maxY; cy++) {
+            for (int cx = minX; cx <= maxX; cx++) {
+                for (int i = cellHead[cellIndex(cx, cy)]; i >= 0; i = next[i]) {
+                    if (i == exclude) continue;
+                    float dx = xs[i] - x;
+                    float dy = ys[i] - y;
+                    if (dx * dx + dy * dy <= radiusSq) {
+                        out[found++] = i;
+                        if (found == out.length) return found;
+                    }
+                }
+            }
+        }
+        return found;
+    }
+
+    /**
+     * Visit every item whose cell overlaps the rectangle (coarse, cell-level test)
+     * @return Number of indices written to out
+     */
+    public int queryRect(float x, float y, float width, float height, int[] out) {
+        int minX = cellX(x);
+        int maxX = cellX(x + width);
+        int minY = cellY(y);
+        int maxY = cellY(y + height);
+        int found = 0;
+
+        for (int cy = minY; cy <= maxY; cy++) {
+            for (int cx = minX; cx <= maxX; cx++) {
+                for (int i = cellHead[cellIndex(cx, cy)]; i >= 0; i = next[i]) {
+                    out[found++] = i;
+                    if (found == out.length) return found;
+                }
+            }
+        }
+        return found;
+    }
+
+    @SuppressWarnings("unchecked")
+    public T get(int index) { return (T) items[index]; }
+    public float getX(int index) { return xs[index]; }
+    public float getY(int index) { return ys[index]; }
+    public int size() { return count; }
+    public float getCellSize() { return cellSize; }
+
+    private int cellX(float x) {
+        int cx = (int) (x * invCellSize);
+        return cx < 0 ? 0 : (cx >= cols ? cols - 1 : cx);
+    }
+
+    private int cellY(float y) {
+        int cy = (int) (y * invCellSize);
+        return cy < 0 ? 0 : (cy >= rows ? rows - 1 : cy);
+    }
+
+    private int cellIndex(int cx, int cy) {
+        return cy * cols + cx;
+    }
+
+    private void grow() {
+        int capacity = items.length * 2;
+        next = Arrays.copyOf(next, capacity);
+        xs = Arrays.copyOf(xs, capacity);
+        ys = Arrays.copyOf(ys, capacity);
+        items = Arrays.copyOf(items, capacity);
+    }
+}
@@ -0,0 +1,221 @@
+package com.vijithapura.siege.dsa;
+
+/**
+ * DSA: HIERARCHICAL TIMING WHEEL - Central scheduler for game timers
+ * Insert and cancel are O(1); each tick only touches the timers that are due,
+ * so entities without pending timers cost nothing.
+ *
+ * Level 0 holds timers due within 64 ticks, level 1 within 64^2 ticks and so on.
+ * Timers on an upper level are cascaded down when the lower level wraps around.
+ */
+public class TimingWheel {
+    private static final int SLOT_BITS = 6;
+    private static final int SLOTS = 1 << SLOT_BITS;
+    private static final int SLOT_MASK = SLOTS - 1;
+    private static final int LEVELS = 4;
+    private static final long MAX_SPAN = 1L << (SLOT_BITS * LEVELS);
+    private static final int FIRING = LEVELS; // pseudo-level for the list being fired
+
+    private final Timer[][] wheels;
+    private Timer firing;
+    private final float tickDuration;
+    private long currentTick;
+    private float accumulator;
+    private int pendingCount;
+
+    /**
+     * Callback fired when a timer reaches its deadline
+     */
+    public interface Callback {
+        void onTimer(Timer timer);
+    }
+
+    /**
+     * Timer handle - owned and reused by the scheduling entity (intrusive list node)
+     */
+    public static class Timer {
+        private final Callback callback;
+        private Timer prev;
+        private Timer next;
+        private long deadline;
+        private int level = -1;
+        private int slot = -1;
+
+        public Timer(Callback callback) {
+            this.callback = callback;
+        }
+
+        public boolean isScheduled() {
+            return level >= 0;
+        }
+    }
+
+    /**
+     * @param tickDuration Resolution of the wheel in seconds
+     */
+    public TimingWheel(float tickDuration) {
+        this.tickDuration = tickDuration;
+        this.wheels = new Timer[LEVELS][SLOTS];
+        this.currentTick = 0;
+        this.accumulator = 0;
+        this.pendingCount = 0;
+    }
+
+    /**
+     * Schedule (or reschedule) a timer to fire after the given delay
+     */
+    public void schedule(Timer timer, float delaySeconds) {
+        if (timer.isScheduled()) {
+            unlink(timer);
+        }
+
+        long ticks = (long) Math.ceil((delaySeconds + accumulator) / tickDuration);
+        if (ticks < 1) ticks = 1;
+        if (ticks >= MAX_SPAN) ticks = MAX_SPAN - 1;
+
+        timer.deadline = currentTick + ticks;
+        insert(timer);
+        pendingCount++;
+    }
+
+    /**
+     * Cancel a pending timer (no-op if not scheduled)
+     */
+    public void cancel(Timer timer) {
+        if (timer.isScheduled()) {
+            unlink(timer);
+            pendingCount--;
+        }
+    }
+
+    /**
+     * Seconds left until the timer fires, 0 if not scheduled
+     */
+    public float remaining(Timer timer) {
+        if (!timer.isScheduled()) return 0;
+        return Math.max(0, (timer.deadline - currentTick) * tickDuration - accumulator);
+    }
+
+    /**
+     * Advance wheel time and fire every timer that became due
+     */
+    public void advance(float delta) {
+        accumulator += delta;
+        while (accumulator >= tickDuration) {
+            accumulator -= tickDuration;
+            tick();
+        }
+    }
+
+    private void tick() {
+        currentTick++;
+
+        // Cascade upper levels whose lower level just wrapped (highest first)
+        int cascadeTo = 0;
+        while (cascadeTo < LEVELS - 1 &&
+            ((currentTick >> (SLOT_BITS * (cascadeTo + 1))) << (SLOT_BITS * (cascadeTo + 1))) == currentTick) {
+            cascadeTo++;
+        }
+        for (int level = cascadeTo; level >= 1; level--) {
+            int slot = (int) ((currentTick >> (SLOT_BITS * level)) & SLOT_MASK);
+            Timer timer = detachSlot(level, slot);
+            while (timer != null) {
+                Timer next = timer.next;
+                timer.prev = null;
+                timer.next = null;
+                insert(timer);
+                timer = next;
+            }
+        }
+
+        // Fire everything due in the current level-0 slot. The slot is moved to a
+        // separate list first so callbacks may safely cancel or reschedule any timer.
+        int slot = (int) (currentTick & SLOT_MASK);
+        firing = wheels[0][slot];
+        wheels[0][slot] = null;
+        for (Timer t = firing; t != null; t = t.next) {
+            t.level = FIRING;
+            t.slot = 0;
+        }
+        while (firing != null) {
+            Timer timer = firing;
+            unlink(timer);
+            if (timer.deadline <= currentTick) {
+                pendingCount--;
+                timer.callback.onTimer(timer);
+            } else {
+                insert(timer);
+            }
+        }
+    }
+
+    private void insert(Timer timer) {
+        long diff = timer.deadline - currentTick;
+        int level = 0;
+        while (level < LEVELS - 1 && diff >= (1L << (SLOT_BITS * (level + 1)))) {
+            level++;
+        }
+        int slot = (int) ((timer.deadline >> (SLOT_BITS * level)) & SLOT_MASK);
+
+        Timer head = wheels[level][slot];
+        timer.prev = null;
+        timer.next = head;
+        if (head != null) head.prev = timer;
+        wheels[level][slot] = timer;
+        timer.level = level;
+        timer.slot = slot;
+    }
+
+    private void unlink(Timer timer) {
+        if (timer.prev != null) {
+            timer.prev.next = timer.next;
+        } else if (timer.level == FIRING) {
+            firing = timer.next;
+        } else {
+            wheels[timer.level][timer.slot] = timer.next;
+        }
+        if (timer.next != null) timer.next.prev = timer.prev;
+        timer.prev = null;
+        timer.next = null;
+        timer.level = -1;
+        timer.slot = -1;
+    }
+
+    /**
+     * Remove a whole slot list and mark its timers unscheduled
+     */
+    private Timer detachSlot(int level, int slot) {
+        Timer head = wheels[level][slot];
+        wheels[level][slot] = null;
+        for (Timer t = head; t != null; t = t.next) {
+            t.level = -1;
+            t.slot = -1;
+        }
+        return head;
+    }
+
+    /**
+     * Elapsed wheel time in seconds
+     */
+    public float getTime() {
+        return currentTick * tickDuration + accumulator;
+    }
+
+    public int getPendingCount() { return pendingCount; }
+    public float getTickDuration() { return tickDuration; }
+
+    /**
+     * Drop every pending timer
+     */
+    public void clear() {
+        for (int level = 0; level < LEVELS; level++) {
+            for (int slot = 0; slot < SLOTS; slot++) {
+                detachSlot(level, slot);
+            }
+        }
+        while (firing != null) {
+            unlink(firing);
+        }
+        pendingCount = 0;
+    }
+}
@@ -1,168 +1,97 @@
 package com.vijithapura.siege.dsa;
 
 import com.vijithapura.siege.entities.Unit;
-import java.util.LinkedList;
-import java.util.Queue;
 
 /**
- * DSA: QUEUE - Unit training queue
- * Uses Queue data structure for training units
+ * DSA: QUEUE - Per-building unit production queue
+ * Orders are kept in a fixed ring buffer, so queueing allocates nothing, and
+ * only the front order is in training. Its completion is an absolute deadline
+ * in game time (see ProductionSystem's shared deadline queue) rather than a
+ * timer counted down every frame.
  */
 public class UnitQueue {
-    private Queue<UnitOrder> trainingQueue;
-    private UnitOrder currentTraining;
-    private float trainingTimer;
+    public static final int CAPACITY = 20;
 
-    public UnitQueue() {
-        this.trainingQueue = new LinkedList<>();
-        this.currentTraining = null;
-        this.trainingTimer = 0;
-    }
-
-    /**
-     * Add unit to training queue
-     */
-    public void enqueue(String unitType, float trainingTime) {
-        UnitOrder order = new UnitOrder(unitType, trainingTime);
-        trainingQueue.add(order);
-        System.out.println("[QUEUE] Added to queue: " + unitType + " (Queue size: " + trainingQueue.size() + ")");
-    }
-
-    /**
-     * Update training progress
-     */
-    public Unit update(float delta) {
-        // If nothing is training, start next in queue
-        if (currentTraining == null && !trainingQueue.isEmpty()) {
-            currentTraining = trainingQueue.poll(); // Dequeue
-            trainingTimer = currentTraining.trainingTime;
-            System.out.println("[QUEUE] Started training: " + currentTraining.unitType);
-        }
-
-        // Update current training
-        if (currentTraining != null) {
-            trainingTimer -= delta;
+    private final Unit.UnitType[] orders = new Unit.UnitType[CAPACITY];
+    private final float[] durations = new float[CAPACITY];
+    private int head;
+    private int size;
 
-            if (trainingTimer <= 0) {
-                // Training complete - create unit
-                String completedType = currentTraining.unitType;
-                currentTraining = null;
-                trainingTimer = 0;
-
-                System.out.println("[QUEUE] Training complete: " + completedType);
-                return createUnit(completedType);
-            }
-        }
-
-        return null;
-    }
-
-    /**
-     * Create unit based on type
-     */
-    private Unit createUnit(String type) {
-        // Return null for now - we'll implement unit creation later
-        return null;
-    }
-
-    /**
-     * Get training progress (0 to 1)
-     */
-    public float getTrainingProgress() {
-        if (currentTraining == null) return 0;
-        return 1.0f - (trainingTimer / currentTraining.trainingTime);
-    }
+    private float startTime;
+    private float deadline;
 
     /**
-     * Get current training unit type
+     * Add an order to the back of the queue
+     * @return false when the queue is full
      */
-    public String getCurrentTraining() {
-        return currentTraining != null ? currentTraining.unitType : null;
+    public boolean enqueue(Unit.UnitType type, float trainingTime) {
+        if (size == CAPACITY) return false;
+        int slot = (head + size) % CAPACITY;
+        orders[slot] = type;
+        durations[slot] = trainingTime;
+        size++;
+        return true;
     }
 
     /**
-     * Get queue size (including currently training unit)
+     * Start training the front order at the given game time
      */
-    public int getQueueSize() {
-        return trainingQueue.size();
+    public void start(float now) {
+        startTime = now;
+        deadline = now + durations[head];
     }
 
     /**
-     * Get total size including current training
-     * This is the method that was missing - now GameScreen.testDSAClasses() will work
+     * Remove the finished front order
      */
-    public int size() {
-        int total = trainingQueue.size();
-        if (currentTraining != null) {
-            total++;
-        }
-        return total;
+    public Unit.UnitType poll() {
+        if (size == 0) return null;
+        Unit.UnitType type = orders[head];
+        orders[head] = null;
+        head = (head + 1) % CAPACITY;
+        size--;
+        return type;
     }
 
     /**
-     * Check if queue is empty
+     * Order at a queue position (0 = in training); read in place, nothing is copied
      */
-    public boolean isEmpty() {
-        return trainingQueue.isEmpty() && currentTraining == null;
+    public Unit.UnitType get(int index) {
+        return orders[(head + index) % CAPACITY];
     }
 
-    /**
-     * Clear the entire queue
-     */
     public void clear() {
-        trainingQueue.clear();
-        currentTraining = null;
-        trainingTimer = 0;
-    }
-
-    /**
-     * Cancel current training
-     */
-    public void cancelCurrent() {
-        if (currentTraining != null) {
-            System.out.println("[QUEUE] Cancelled training: " + currentTraining.unitType);
-            currentTraining = null;
-            trainingTimer = 0;
+        for (int i = 0; i < size; i++) {
+            orders[(head + i) % CAPACITY] = null;
         }
+        head = 0;
+        size = 0;
     }
 
     /**
-     * Get remaining time for current training
+     * Training progress of the front order (0 to 1)
      */
-    public float getRemainingTime() {
-        return currentTraining != null ? trainingTimer : 0;
+    public float getProgress(float now) {
+        if (size == 0) return 0;
+        float duration = deadline - startTime;
+        return duration <= 0 ? 1f : Math.min(1f, Math.max(0f, (now - startTime) / duration));
     }
 
     /**
-     * Peek at next unit in queue without removing it
+     * Time until the whole queue is done
      */
-    public String peekNext() {
-        UnitOrder next = trainingQueue.peek();
-        return next != null ? next.unitType : null;
-    }
-
-    /**
-     * Get all unit types in queue (for display purposes)
-     */
-    public String[] getQueuedUnits() {
-        String[] units = new String[trainingQueue.size()];
-        int i = 0;
-        for (UnitOrder order : trainingQueue) {
-            units[i++] = order.unitType;
+    public float getTotalRemaining(float now) {
+        if (size == 0) return 0;
+        float total = Math.max(0, deadline - now);
+        for (int i = 1; i < size; i++) {
+            total += durations[(head + i) % CAPACITY];
         }
-        return units;
+        return total;
     }
 
-    /**
-     * Inner class for unit orders
-     */
-    private static class UnitOrder {
-        String unitType;
-        float trainingTime;
-
-        UnitOrder(String unitType, float trainingTime) {
-            this.unitType = unitType;
-            this.trainingTime = trainingTime;
-        }
-    }
+    public float getDeadline() { return deadline; }
+    public float getRemainingTime(float now) { return size == 0 ? 0 : Math.max(0, deadline - now); }
+    public int size() { return size; }
+    public boolean isEmpty() { return size == 0; }
+    public boolean isFull() { return size == CAPACITY; }
 }
@@ -0,0 +1,266 @@
+package com.vijithapura.siege.effects;
+
+import com.badlogic.gdx.graphics.Color;
+import com.badlogic.gdx.graphics.Pixmap;
+import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.graphics.g2d.SpriteBatch;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
+import com.badlogic.gdx.math.MathUtils;
+import com.vijithapura.siege.systems.ViewCulling;
+import com.vijithapura.siege.utils.TextureManager;
+
+/**
+ * Fixed-capacity particle system stored as parallel primitive arrays.
+ * Live particles are packed in [0, count): a dead one is replaced by the last
+ * (swap-remove), so update and render are straight loops with no objects,
+ * iterators or list shifting. Bursts are described by Emitter data.
+ *
+ * The capacity is a hard limit. When a burst does not fit, live particles of
+ * lower priority are culled to make room (dust before blood before death
+ * bursts); if that is not enough the rest of the burst is dropped.
+ */
+public class ParticleEngine {
+    public static final int PRIORITY_LOW = 0;
+    public static final int PRIORITY_NORMAL = 1;
+    public static final int PRIORITY_HIGH = 2;
+    private static final int PRIORITY_COUNT = 3;
+
+    public static final int SPRITE_DOT = 0;
+    public static final int SPRITE_BLOOD = 1;
+    public static final int SPRITE_DUST = 2;
+    private static final int SPRITE_COUNT = 3;
+
+    private static final float FRICTION = 0.95f; // per update, as before
+
+    /**
+     * One kind of burst. Velocity is (cos a, sin a) * speed plus a horizontal
+     * jitter and an upward lift, where a is random or evenly spaced (ring).
+     */
+    public static class Emitter {
+        public int count;
+        public boolean ring;                    // evenly spaced directions instead of random
+        public float speedMin, speedMax;
+        public float jitterX;                   // extra vx in [-jitterX/2, jitterX/2]
+        public float liftMin, liftMax;          // extra vy
+        public float rMin, rMax, gMin, gMax, bMin, bMax;
+        public float alpha = 1f;
+        public float lifeMin, lifeMax;
+        public float sizeMin, sizeMax;
+        public float gravity = -200f;           // particles fall
+        public int sprite = SPRITE_DOT;
+        public int priority = PRIORITY_NORMAL;
+
+        public Emitter count(int count) { this.count = count; return this; }
+        public Emitter ring() { this.ring = true; return this; }
+        public Emitter speed(float min, float max) { speedMin = min; speedMax = max; return this; }
+        public Emitter jitterX(float jitter) { jitterX = jitter; return this; }
+        public Emitter lift(float min, float max) { liftMin = min; liftMax = max; return this; }
+        public Emitter life(float min, float max) { lifeMin = min; lifeMax = max; return this; }
+        public Emitter size(float min, float max) { sizeMin = min; sizeMax = max; return this; }
+        public Emitter sprite(int sprite) { this.sprite = sprite; return this; }
+        public Emitter priority(int priority) { this.priority = priority; return this; }
+
+        public Emitter color(Color color) {
+            return color(color.r, color.r, color.g, color.g, color.b, color.b, color.a);
+        }
+
+        public Emitter color(float rMin, float rMax, float gMin, float gMax, float bMin, float bMax, float alpha) {
+            this.rMin = rMin; this.rMax = rMax;
+            this.gMin = gMin; this.gMax = gMax;
+            this.bMin = bMin; this.bMax = bMax;
+            this.alpha = alpha;
+            return this;
+        }
+    }
+
+    private final int capacity;
+    private final float[] x, y, vx, vy;
+    private final float[] rgba;     // 4 per particle
+    private final float[] life, maxLife, size, gravity;
+    private final byte[] sprite, priority;
+    private final int[] priorityCounts = new int[PRIORITY_COUNT];
+    private int count;
+    private int peak;
+    private int culledTotal;
+    private int droppedTotal;
+
+    private final TextureRegion[] regions = new TextureRegion[SPRITE_COUNT];
+    private Texture dotTexture;
+
+    public ParticleEngine(int capacity) {
+        this.capacity = capacity;
+        x = new float[capacity];
+        y = new float[capacity];
+        vx = new float[capacity];
+        vy = new float[capacity];
+        rgba = new float[capacity * 4];
+        life = new float[capacity];
+        maxLife = new float[capacity];
+        size = new float[capacity];
+        gravity = new float[capacity];
+        sprite = new byte[capacity];
+        priority = new byte[capacity];
+    }
+
+    /**
+     * Bind particle images: blood and dust from the atlas, a generated dot for
+     * everything else (and for blood/dust when those images are missing)
+     */
+    public void loadSprites(TextureManager textures) {
+        if (dotTexture == null) {
+            Pixmap pixmap = new Pixmap(16, 16, Pixmap.Format.RGBA8888);
+            pixmap.setColor(Color.WHITE);
+            pixmap.fillCircle(8, 8, 7);
+            dotTexture = new Texture(pixmap);
+            dotTexture.setFilter(Texture.TextureFilter.Linear, Texture.TextureFilter.Linear);
+            pixmap.dispose();
+        }
+        TextureRegion dot = new TextureRegion(dotTexture);
+        regions[SPRITE_DOT] = dot;
+        regions[SPRITE_BLOOD] = textures.hasTexture("blood") ? textures.getRegion("blood") : dot;
+        regions[SPRITE_DUST] = textures.hasTexture("dust") ? textures.getRegion("dust") : dot;
+    }
+
+    // ===== SPAWNING =====
+
+    public int emit(Emitter emitter, float px, float py) {
+        return emit(emitter, px, py, emitter.count);
+    }
+
+    /**
+     * Spawn one burst of wanted particles at (px, py)
+     * @return Particles actually spawned
+     */
+    public int emit(Emitter emitter, float px, float py, int wanted) {
+        if (count + wanted > capacity) {
+            cull(count + wanted - capacity, emitter.priority);
+        }
+        int spawn = Math.min(wanted, capacity - count);
+        droppedTotal += wanted - spawn;
+
+        for (int n = 0; n < spawn; n++) {
+            float angle = emitter.ring
+                ? MathUtils.PI2 * n / wanted
+                : MathUtils.random(MathUtils.PI2);
+            float speed = MathUtils.random(emitter.speedMin, emitter.speedMax);
+
+            int i = count++;
+            x[i] = px;
+            y[i] = py;
+            vx[i] = MathUtils.cos(angle) * speed + (MathUtils.random() - 0.5f) * emitter.jitterX;
+            vy[i] = MathUtils.sin(angle) * speed + MathUtils.random(emitter.liftMin, emitter.liftMax);
+            int c = i * 4;
+            rgba[c] = MathUtils.random(emitter.rMin, emitter.rMax);
+            rgba[c + 1] = MathUtils.random(emitter.gMin, emitter.gMax);
+            rgba[c + 2] = MathUtils.random(emitter.bMin, emitter.bMax);
+            rgba[c + 3] = emitter.alpha;
+            life[i] = maxLife[i] = MathUtils.random(emitter.lifeMin, emitter.lifeMax);
+            size[i] = MathUtils.random(emitter.sizeMin, emitter.sizeMax);
+            gravity[i] = emitter.gravity;
+            sprite[i] = (byte) emitter.sprite;
+            priority[i] = (byte) emitter.priority;
+            priorityCounts[emitter.priority]++;
+        }
+        if (count > peak) peak = count;
+        return spawn;
+    }
+
+    /**
+     * Remove up to needed particles whose priority is below maxPriority, lowest first
+     * @return Particles removed
+     */
+    public int cull(int needed, int maxPriority) {
+        int removed = 0;
+        for (int p = 0; p < maxPriority && removed < needed; p++) {
+            if (priorityCounts[p] == 0) continue;
+            // Walk backwards so a swapped-in particle has already been checked
+            for (int i = count - 1; i >= 0 && removed < needed; i--) {
+                if (priority[i] == p) {
+                    remove(i);
+                    removed++;
+                }
+            }
+        }
+        culledTotal += removed;
+        return removed;
+    }
+
+    // ===== SIMULATION =====
+
+    public void update(float delta) {
+        int i = 0;
+        while (i < count) {
+            life[i] -= delta;
+            if (life[i] <= 0) {
+                remove(i); // the last particle moves into i and is updated next
+                continue;
+            }
+            x[i] += vx[i] * delta;
+            y[i] += vy[i] * delta;
+            vx[i] *= FRICTION;
+            vy[i] = vy[i] * FRICTION + gravity[i] * delta;
+            i++;
+        }
+    }
+
+    /**
+     * Draw the visible particles in one batch pass, grouped by image so the
+     * batch switches texture at most once per group (the batch must be active)
+     * @return Particles drawn
+     */
+    public int render(SpriteBatch batch, ViewCulling view) {
+        int drawn = 0;
+        float oldColor = batch.getPackedColor();
+        for (int s = 0; s < SPRITE_COUNT; s++) {
+            TextureRegion region = regions[s];
+            if (region == null) continue;
+            for (int i = 0; i < count; i++) {
+                if (sprite[i] != s) continue;
+                float fade = life[i] / maxLife[i];
+                float radius = size[i] * fade; // shrinks as it fades
+                if (!view.isVisible(x[i], y[i], radius)) continue;
+
+                int c = i * 4;
+                batch.setPackedColor(Color.toFloatBits(rgba[c], rgba[c + 1], rgba[c + 2], rgba[c + 3] * fade));
+                batch.draw(region, x[i] - radius, y[i] - radius, radius * 2, radius * 2);
+                drawn++;
+            }
+        }
+        batch.setPackedColor(oldColor);
+        return drawn;
+    }
+
+    private void remove(int i) {
+        priorityCounts[priority[i]]--;
+        int last = --count;
+        if (i == last) return;
+
+        x[i] = x[last];
+        y[i] = y[last];
+        vx[i] = vx[last];
+        vy[i] = vy[last];
+        System.arraycopy(rgba, last * 4, rgba, i * 4, 4);
+        life[i] = life[last];
+        maxLife[i] = maxLife[last];
+        size[i] = size[last];
+        gravity[i] = gravity[last];
+        sprite[i] = sprite[last];
+        priority[i] = priority[last];
+    }
+
+    public void clear() {
+        count = 0;
+        for (int p = 0; p < PRIORITY_COUNT; p++) priorityCounts[p] = 0;
+    }
+
+    public int size() { return count; }
+    public int getCapacity() { return capacity; }
+    public int getPeak() { return peak; }
+    public int getCulledTotal() { return culledTotal; }
+    public int getDroppedTotal() { return droppedTotal; }
+
+    public void dispose() {
+        if (dotTexture != null) dotTexture.dispose();
+        dotTexture = null;
+    }
+}
@@ -8,6 +8,11 @@ import com.badlogic.gdx.graphics.g2d.SpriteBatch;
 import com.badlogic.gdx.graphics.glutils.ShapeRenderer;
 import com.badlogic.gdx.math.Vector2;
 import com.vijithapura.siege.entities.Unit;
+import com.vijithapura.siege.systems.EventBus;
+import com.vijithapura.siege.systems.GameEvent;
+import com.vijithapura.siege.systems.ViewCulling;
+import com.vijithapura.siege.utils.Constants;
+import com.vijithapura.siege.utils.TextureManager;
 
 import java.util.ArrayList;
 import java.util.Iterator;
@@ -22,12 +27,41 @@ public class VisualEffectsManager {
     private ArrayList<SelectionRing> selectionRings;
     private BitmapFont font; // Added font for rendering text
 
-    public VisualEffectsManager() {
+    // ===== PARTICLE BURSTS =====
+    private static final ParticleEngine.Emitter BLOOD = new ParticleEngine.Emitter()
+        .speed(50, 200).color(0.7f, 0.9f, 0, 0, 0, 0, 1f).life(0.5f, 1f).size(2, 5)
+        .sprite(ParticleEngine.SPRITE_BLOOD);
+    private static final ParticleEngine.Emitter DUST = new ParticleEngine.Emitter()
+        .speed(20, 80).color(0.6f, 0.8f, 0.5f, 0.7f, 0.4f, 0.5f, 0.6f).life(0.3f, 0.7f).size(3, 7)
+        .sprite(ParticleEngine.SPRITE_DUST).priority(ParticleEngine.PRIORITY_LOW);
+    private static final ParticleEngine.Emitter HIT_SPARKS = new ParticleEngine.Emitter()
+        .count(8).ring().speed(100, 100).color(Color.YELLOW).life(0.3f, 0.3f).size(2, 2);
+    private static final ParticleEngine.Emitter HEAL = new ParticleEngine.Emitter()
+        .count(12).speed(30, 80).lift(60, 60).color(Color.GREEN).life(0.8f, 0.8f).size(3, 3);
+    private static final ParticleEngine.Emitter LEVEL_UP_RING = new ParticleEngine.Emitter()
+        .count(20).ring().speed(120, 120).color(Color.GOLD).life(0.8f, 0.8f).size(4, 4)
+        .priority(ParticleEngine.PRIORITY_HIGH);
+    private static final ParticleEngine.Emitter LEVEL_UP_RISE = new ParticleEngine.Emitter()
+        .count(10).jitterX(40).lift(80, 120).color(1f, 1f, 0.9f, 0.9f, 0.2f, 0.2f, 1f).life(1.2f, 1.2f).size(5, 5)
+        .priority(ParticleEngine.PRIORITY_HIGH);
+    private static final ParticleEngine.Emitter DEATH = new ParticleEngine.Emitter()
+        .count(30).speed(100, 300).color(0.8f, 1f, 0, 0.2f, 0, 0, 1f).life(0.6f, 1.2f).size(3, 8)
+        .sprite(ParticleEngine.SPRITE_BLOOD).priority(ParticleEngine.PRIORITY_HIGH);
+    private static final ParticleEngine.Emitter CONSTRUCTION = new ParticleEngine.Emitter()
+        .count(15).jitterX(50).lift(50, 150).color(0.7f, 0.7f, 0.7f, 0.7f, 0.4f, 0.4f, 1f).life(0.8f, 0.8f).size(4, 4)
+        .sprite(ParticleEngine.SPRITE_DUST).priority(ParticleEngine.PRIORITY_LOW);
+
+    private final ParticleEngine particles = new ParticleEngine(Constants.MAX_PARTICLES);
+
+    public VisualEffectsManager(TextureManager textures) {
+        particles.loadSprites(textures);
         effects = new ArrayList<>();
         floatingTexts = new ArrayList<>();
         selectionRings = new ArrayList<>();
         // Load default font. In a real game, you might want to pass the game's font via setter
         font = new BitmapFont();
+
+        EventBus.subscribe(GameEvent.Type.UNIT_DIED, event -> particles.emit(DEATH, event.x, event.y));
     }
 
     // Allow injecting the game's main font if desired
@@ -44,31 +78,30 @@ public class VisualEffectsManager {
      * Used for performance monitoring.
      */
     public int getEffectCount() {
-        return effects.size();
+        return effects.size() + particles.size();
     }
 
     /**
-     * Removes the oldest particles if the count exceeds the limit.
+     * Removes up to count particles, least important first.
      * Prevents performance drops when too many particles are on screen.
      */
     public void clearOldest(int count) {
-        int toRemove = Math.min(count, effects.size());
-        if (toRemove > 0) {
-            // Efficiently remove from the start of the list
-            effects.subList(0, toRemove).clear();
-        }
+        particles.cull(count, ParticleEngine.PRIORITY_HIGH + 1);
     }
 
     // ==========================================
 
     public void update(float delta) {
-        // Update all effects
-        Iterator<Effect> effectIter = effects.iterator();
-        while (effectIter.hasNext()) {
-            Effect e = effectIter.next();
+        particles.update(delta);
+
+        // Update all effects (order does not matter, so finished ones are swap-removed)
+        for (int i = effects.size() - 1; i >= 0; i--) {
+            Effect e = effects.get(i);
             e.update(delta);
             if (e.isFinished()) {
-                effectIter.remove();
+                int last = effects.size() - 1;
+                effects.set(i, effects.get(last));
+                effects.remove(last);
             }
         }
 
@@ -91,82 +124,67 @@ public class VisualEffectsManager {
         }
     }
 
-    public void render(ShapeRenderer sr, SpriteBatch batch) {
+    /**
+     * Draw the effects that overlap the camera view (see ViewCulling)
+     */
+    public void render(ShapeRenderer sr, SpriteBatch batch, ViewCulling view) {
         Gdx.gl.glEnable(GL20.GL_BLEND);
         Gdx.gl.glBlendFunc(GL20.GL_SRC_ALPHA, GL20.GL_ONE_MINUS_SRC_ALPHA);
 
         // Render shape-based effects
         sr.begin(ShapeRenderer.ShapeType.Filled);
-        for (Effect e : effects) {
-            e.render(sr);
+        int drawn = 0;
+        for (int i = 0, n = effects.size(); i < n; i++) {
+            Effect e = effects.get(i);
+            if (e.isVisible(view)) {
+                e.render(sr);
+                drawn++;
+            }
         }
-        for (SelectionRing ring : selectionRings) {
-            ring.render(sr);
+        for (int i = 0, n = selectionRings.size(); i < n; i++) {
+            SelectionRing ring = selectionRings.get(i);
+            if (ring.isVisible(view)) {
+                ring.render(sr);
+                drawn++;
+            }
         }
         sr.end();
 
-        // Render text effects
-        if (!floatingTexts.isEmpty()) {
+        // Particles and text share one batch pass
+        boolean batchStarted = false;
+        if (particles.size() > 0) {
             batch.begin();
-            for (FloatingText ft : floatingTexts) {
-                ft.render(batch, font);
+            batchStarted = true;
+            drawn += particles.render(batch, view);
+        }
+        view.addDrawn(ViewCulling.Category.EFFECTS, drawn);
+        view.addCulled(ViewCulling.Category.EFFECTS, getEffectCount() + selectionRings.size() - drawn);
+
+        // Render text effects
+        for (int i = 0, n = floatingTexts.size(); i < n; i++) {
+            FloatingText ft = floatingTexts.get(i);
+            if (!ft.isVisible(view, font)) {
+                view.addCulled(ViewCulling.Category.FLOATING_TEXT, 1);
+                continue;
+            }
+            if (!batchStarted) {
+                batch.begin();
+                batchStarted = true;
             }
-            batch.end();
+            ft.render(batch, font);
+            view.addDrawn(ViewCulling.Category.FLOATING_TEXT, 1);
         }
+        if (batchStarted) batch.end();
     }
 
     // ===== Effect Creation Methods =====
 
     public void createBloodSplatter(Vector2 position, int count) {
-        for (int i = 0; i < count; i++) {
-            float angle = (float)(Math.random() * Math.PI * 2);
-            float speed = 50 + (float)(Math.random() * 150);
-            Vector2 velocity = new Vector2(
-                (float)Math.cos(angle) * speed,
-                (float)Math.sin(angle) * speed
-            );
-
-            Color color = new Color(
-                0.7f + (float)Math.random() * 0.2f,
-                0,
-                0,
-                1f
-            );
-
-            effects.add(new ParticleEffect(
-                new Vector2(position),
-                velocity,
-                color,
-                0.5f + (float)Math.random() * 0.5f,
-                2 + (float)Math.random() * 3
-            ));
-        }
+        particles.emit(BLOOD, position.x, position.y, count);
     }
 
     public void createDustCloud(Vector2 position, int count) {
-        for (int i = 0; i < count; i++) {
-            float angle = (float)(Math.random() * Math.PI * 2);
-            float speed = 20 + ((float)Math.random() * 60);
-            Vector2 velocity = new Vector2(
-                (float)Math.cos(angle) * speed,
-                (float)Math.sin(angle) * speed
-            );
-
-            Color color = new Color(
-                0.6f + (float)Math.random() * 0.2f,
-                0.5f + (float)Math.random() * 0.2f,
-                0.4f + (float)Math.random() * 0.1f,
-                0.6f
-            );
-
-            effects.add(new ParticleEffect(
-                new Vector2(position),
-                velocity,
-                color,
-                0.3f + (float)Math.random() * 0.4f,
-                3 + (float)Math.random() * 4
-            ));
-        }
+        particles.emit(DUST, position.x, position.y, count);
     }
 
     public void createHitEffect(Vector2 position) {
@@ -174,118 +192,28 @@ public class VisualEffectsManager {
         effects.add(new FlashEffect(position, Color.YELLOW, 0.2f, 20));
 
         // Sparkles
-        for (int i = 0; i < 8; i++) {
-            float angle = (float)(Math.PI * 2 * i / 8);
-            Vector2 velocity = new Vector2(
-                (float)Math.cos(angle) * 100,
-                (float)Math.sin(angle) * 100
-            );
-            effects.add(new ParticleEffect(
-                new Vector2(position),
-                velocity,
-                Color.YELLOW,
-                0.3f,
-                2
-            ));
-        }
+        particles.emit(HIT_SPARKS, position.x, position.y);
     }
 
     public void createHealEffect(Vector2 position) {
-        for (int i = 0; i < 12; i++) {
-            float angle = (float)(Math.random() * Math.PI * 2);
-            float speed = 30 + (float)(Math.random() * 50);
-            Vector2 velocity = new Vector2(
-                (float)Math.cos(angle) * speed,
-                (float)Math.sin(angle) * speed + 60 // Float upward
-            );
-
-            effects.add(new ParticleEffect(
-                new Vector2(position),
-                velocity,
-                Color.GREEN,
-                0.8f,
-                3
-            ));
-        }
+        particles.emit(HEAL, position.x, position.y); // Float upward
     }
 
     public void createLevelUpEffect(Vector2 position) {
         // Circular burst
-        for (int i = 0; i < 20; i++) {
-            float angle = (float)(Math.PI * 2 * i / 20);
-            Vector2 velocity = new Vector2(
-                (float)Math.cos(angle) * 120,
-                (float)Math.sin(angle) * 120
-            );
-
-            effects.add(new ParticleEffect(
-                new Vector2(position),
-                velocity,
-                Color.GOLD,
-                0.8f,
-                4
-            ));
-        }
+        particles.emit(LEVEL_UP_RING, position.x, position.y);
 
         // Rising particles
-        for (int i = 0; i < 10; i++) {
-            Vector2 velocity = new Vector2(
-                ((float)Math.random() - 0.5f) * 40,
-                80 + (float)Math.random() * 40
-            );
-
-            effects.add(new ParticleEffect(
-                new Vector2(position),
-                velocity,
-                new Color(1f, 0.9f, 0.2f, 1f),
-                1.2f,
-                5
-            ));
-        }
+        particles.emit(LEVEL_UP_RISE, position.x, position.y);
     }
 
     public void createDeathExplosion(Vector2 position) {
         // Large burst
-        for (int i = 0; i < 30; i++) {
-            float angle = (float)(Math.random() * Math.PI * 2);
-            float speed = 100 + (float)(Math.random() * 200);
-            Vector2 velocity = new Vector2(
-                (float)Math.cos(angle) * speed,
-                (float)Math.sin(angle) * speed
-            );
-
-            Color color = new Color(
-                0.8f + (float)Math.random() * 0.2f,
-                (float)Math.random() * 0.2f,
-                0,
-                1f
-            );
-
-            effects.add(new ParticleEffect(
-                new Vector2(position),
-                velocity,
-                color,
-                0.6f + (float)Math.random() * 0.6f,
-                3 + (float)Math.random() * 5
-            ));
-        }
+        particles.emit(DEATH, position.x, position.y);
     }
 
     public void createBuildingConstructionEffect(Vector2 position) {
-        for (int i = 0; i < 15; i++) {
-            Vector2 velocity = new Vector2(
-                ((float)Math.random() - 0.5f) * 50,
-                50 + (float)Math.random() * 100
-            );
-
-            effects.add(new ParticleEffect(
-                new Vector2(position),
-                velocity,
-                new Color(0.7f, 0.7f, 0.4f, 1f),
-                0.8f,
-                4
-            ));
-        }
+        particles.emit(CONSTRUCTION, position.x, position.y);
     }
 
     public void createArrowTrail(Vector2 start, Vector2 end) {
@@ -321,59 +249,28 @@ public class VisualEffectsManager {
     }
 
     public void clear() {
+        particles.clear();
         effects.clear();
         floatingTexts.clear();
         selectionRings.clear();
     }
 
+    public int getParticleCount() { return particles.size(); }
+    public int getPeakParticleCount() { return particles.getPeak(); }
+
+    public void dispose() {
+        particles.dispose();
+    }
+
     // ===== Effect Classes =====
 
     private interface Effect {
         void update(float delta);
+        boolean isVisible(ViewCulling view);
         void render(ShapeRenderer sr);
         boolean isFinished();
     }
 
-    private static class ParticleEffect implements Effect {
-        Vector2 position;
-        Vector2 velocity;
-        Color color;
-        float lifetime;
-        float maxLifetime;
-        float size;
-        float gravity;
-
-        public ParticleEffect(Vector2 pos, Vector2 vel, Color col, float life, float sz) {
-            position = new Vector2(pos);
-            velocity = new Vector2(vel);
-            color = new Color(col);
-            lifetime = life;
-            maxLifetime = life;
-            size = sz;
-            gravity = -200f; // Particles fall
-        }
-
-        @Override
-        public void update(float delta) {
-            position.add(velocity.x * delta, velocity.y * delta);
-            velocity.scl(0.95f); // Friction
-            velocity.y += gravity * delta;
-            lifetime -= delta;
-        }
-
-        @Override
-        public void render(ShapeRenderer sr) {
-            float alpha = lifetime / maxLifetime;
-            sr.setColor(color.r, color.g, color.b, alpha * color.a);
-            sr.circle(position.x, position.y, size * alpha);
-        }
-
-        @Override
-        public boolean isFinished() {
-            return lifetime <= 0;
-        }
-    }
-
     private static class FlashEffect implements Effect {
         Vector2 position;
         Color color;
@@ -394,6 +291,11 @@ public class VisualEffectsManager {
             lifetime -= delta;
         }
 
+        @Override
+        public boolean isVisible(ViewCulling view) {
+            return view.isVisible(position.x, position.y, maxSize);
+        }
+
         @Override
         public void render(ShapeRenderer sr) {
             float alpha = lifetime / maxLifetime;
@@ -428,6 +330,13 @@ public class VisualEffectsManager {
             lifetime -= delta;
         }
 
+        @Override
+        public boolean isVisible(ViewCulling view) {
+            float x = Math.min(start.x, end.x);
+            float y = Math.min(start.y, end.y);
+            return view.isVisible(x - 2, y - 2, Math.abs(end.x - start.x) + 4, Math.abs(end.y - start.y) + 4);
+        }
+
         @Override
         public void render(ShapeRenderer sr) {
             float alpha = lifetime / maxLifetime;
@@ -461,6 +370,12 @@ public class VisualEffectsManager {
             }
         }
 
+        public boolean isVisible(ViewCulling view) {
+            if (unit == null) return false;
+            Vector2 pos = unit.getPosition();
+            return view.isVisible(pos.x, pos.y, unit.getSize() + 12);
+        }
+
         public void render(ShapeRenderer sr) {
             if (unit == null || !unit.isAlive() || !unit.isSelected()) return;
 
@@ -511,11 +426,22 @@ public class VisualEffectsManager {
             lifetime -= delta;
         }
 
+        /**
+         * Rough bounds from the font's line height (text is drawn down from its position)
+         */
+        public boolean isVisible(ViewCulling view, BitmapFont font) {
+            float height = font.getLineHeight() * scale;
+            float width = text.length() * height * 0.6f;
+            return view.isVisible(position.x, position.y - height, width, height);
+        }
+
         public void render(SpriteBatch batch, BitmapFont font) {
+            // The pop-in scale animates, so this is the one place text is still rescaled
+            float baseScale = font.getData().scaleX;
             font.setColor(color.r, color.g, color.b, Math.min(1.0f, lifetime));
-            font.getData().setScale(scale);
+            font.getData().setScale(baseScale * scale);
             font.draw(batch, text, position.x, position.y);
-            font.getData().setScale(1.0f); // Reset scale
+            font.getData().setScale(baseScale); // Restore the shared font's size
         }
 
         public boolean isFinished() {
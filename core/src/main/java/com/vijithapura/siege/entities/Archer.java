@@ -36,10 +36,8 @@ public class Archer extends Unit {
     public void attack(Unit target) {
         if (canAttack() && target != null && target.isAlive()) {
             // Archers create projectiles instead of instant damage
-            attackTimer = attackCooldown;
-            currentTarget = target;
-            isAttacking = true;
-            attackAnimTimer = 0.3f;
+            setCurrentTarget(target);
+            startAttackCooldown();
             // Projectile will be created by combat system
         }
     }
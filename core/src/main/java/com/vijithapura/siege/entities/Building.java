@@ -2,10 +2,12 @@ package com.vijithapura.siege.entities;
 
 import com.badlogic.gdx.graphics.Color;
 import com.badlogic.gdx.graphics.g2d.Sprite;
-import com.badlogic.gdx.graphics.g2d.SpriteBatch;
-import com.badlogic.gdx.graphics.glutils.ShapeRenderer;
 import com.badlogic.gdx.math.Rectangle;
 import com.badlogic.gdx.math.Vector2;
+import com.vijithapura.siege.dsa.RenderQueue;
+import com.vijithapura.siege.dsa.UnitQueue;
+import com.vijithapura.siege.systems.EventBus;
+import com.vijithapura.siege.utils.CachedSprite;
 import com.vijithapura.siege.utils.TextureManager;
 
 /**
@@ -28,6 +30,11 @@ public class Building {
     protected Color color;
     protected String name;
     protected String spriteKey;
+    private final CachedSprite cachedSprite = new CachedSprite();
+    private final Vector2 center = new Vector2();
+    private final Vector2 spawnPosition = new Vector2();
+    private final UnitQueue productionQueue; // null for buildings that cannot train units
+    private int renderHandle = -1; // slot in BuildingManager's render grid
 
     public Building(BuildingType type, float x, float y, float width, float height) {
         this.type = type;
@@ -62,6 +69,9 @@ public class Building {
                 spriteKey = "resource_depot";
                 break;
         }
+
+        boolean trains = type == BuildingType.BARRACKS || type == BuildingType.COMMAND_CENTER;
+        this.productionQueue = trains ? new UnitQueue() : null;
     }
 
     public void update(float delta) {
@@ -70,54 +80,45 @@ public class Building {
             if (constructionProgress >= 1.0f) {
                 constructionProgress = 1.0f;
                 isConstructed = true;
+                EventBus.buildingCompleted(this);
             }
         }
     }
 
-    // New Render method utilizing SpriteBatch
-    public void render(ShapeRenderer renderer, SpriteBatch batch, TextureManager textureManager) {
-        boolean hasSprite = textureManager.hasTexture(spriteKey);
-
-        if (hasSprite && isConstructed) {
-            // Draw Sprite
-            renderer.end(); // Stop shape renderer
-            batch.begin();
+    // ===== RENDERING =====
 
-            Sprite sprite = textureManager.getSprite(spriteKey);
-            if (sprite != null) {
-                sprite.setPosition(bounds.x, bounds.y);
-                sprite.setSize(bounds.width, bounds.height);
-                sprite.setColor(Color.WHITE);
-                sprite.draw(batch);
-            }
+    public void render(RenderQueue queue, TextureManager textureManager) {
+        int layer = RenderQueue.LAYER_BUILDINGS;
+        Sprite sprite = isConstructed
+            ? cachedSprite.update(textureManager, spriteKey, bounds.x, bounds.y, bounds.width, bounds.height, Color.WHITE, 1f)
+            : null;
 
-            batch.end();
-            renderer.begin(ShapeRenderer.ShapeType.Filled); // Restart shape renderer
+        if (sprite != null) {
+            queue.sprite(layer, sprite);
+        } else if (!isConstructed) {
+            queue.setColor(color.r * 0.5f, color.g * 0.5f, color.b * 0.5f, 0.5f);
+            queue.rect(layer, bounds.x, bounds.y, bounds.width * constructionProgress, bounds.height);
+            // Outline
+            queue.setColor(Color.WHITE);
+            float thickness = 2;
+            queue.rect(layer, bounds.x, bounds.y, bounds.width, thickness);
+            queue.rect(layer, bounds.x, bounds.y + bounds.height - thickness, bounds.width, thickness);
+            queue.rect(layer, bounds.x, bounds.y, thickness, bounds.height);
+            queue.rect(layer, bounds.x + bounds.width - thickness, bounds.y, thickness, bounds.height);
         } else {
-            // Fallback to Shapes (or for construction)
-            if (!isConstructed) {
-                renderer.setColor(color.r * 0.5f, color.g * 0.5f, color.b * 0.5f, 0.5f);
-                renderer.rect(bounds.x, bounds.y, bounds.width * constructionProgress, bounds.height);
-                // Outline
-                renderer.setColor(Color.WHITE);
-                float thickness = 2;
-                renderer.rect(bounds.x, bounds.y, bounds.width, thickness);
-                renderer.rect(bounds.x, bounds.y + bounds.height - thickness, bounds.width, thickness);
-                renderer.rect(bounds.x, bounds.y, thickness, bounds.height);
-                renderer.rect(bounds.x + bounds.width - thickness, bounds.y, thickness, bounds.height);
-            } else {
-                renderer.setColor(color);
-                renderer.rect(bounds.x, bounds.y, bounds.width, bounds.height);
-            }
+            queue.setColor(color);
+            queue.rect(layer, bounds.x, bounds.y, bounds.width, bounds.height);
         }
-
-        // Always draw selection border if needed, or health bar logic (omitted for brevity)
     }
 
     public boolean contains(float x, float y) { return bounds.contains(x, y); }
-    public Vector2 getSpawnPosition() { return new Vector2(bounds.x + bounds.width / 2, bounds.y - 20); }
-    public Vector2 getCenter() { return new Vector2(bounds.x + bounds.width / 2, bounds.y + bounds.height / 2); }
+    /** Returned vectors are reused - copy them if they must be kept */
+    public Vector2 getSpawnPosition() { return spawnPosition.set(bounds.x + bounds.width / 2, bounds.y - 20); }
+    public Vector2 getCenter() { return center.set(bounds.x + bounds.width / 2, bounds.y + bounds.height / 2); }
     public BuildingType getType() { return type; }
+    public UnitQueue getProductionQueue() { return productionQueue; }
+    public int getRenderHandle() { return renderHandle; }
+    public void setRenderHandle(int renderHandle) { this.renderHandle = renderHandle; }
     public boolean isConstructed() { return isConstructed; }
     public String getName() { return name; }
     public Rectangle getBounds() { return bounds; }
@@ -1,6 +1,8 @@
 package com.vijithapura.siege.entities;
 
 import com.badlogic.gdx.graphics.Color;
+import com.vijithapura.siege.dsa.TimingWheel;
+import com.vijithapura.siege.systems.TimerSystem;
 import com.vijithapura.siege.utils.Constants;
 
 /**
@@ -8,9 +10,11 @@ import com.vijithapura.siege.utils.Constants;
  */
 public class Cavalry extends Unit {
     private boolean isCharging;
-    private float chargeTimer;
+    private final TimingWheel.Timer chargeEndTimer;
     private static final float CHARGE_DURATION = 3.0f;
     private static final float CHARGE_SPEED_MULTIPLIER = 1.8f;
+    private static final float CHARGE_DAMAGE_MULTIPLIER = 1.3f;
+    private static final int CHARGE_MODIFIER = "cavalry_charge".hashCode();
 
     public Cavalry(float x, float y) {
         super(
@@ -27,7 +31,7 @@ public class Cavalry extends Unit {
         this.attackRange = Constants.CAVALRY_ATTACK_RANGE;
         this.attackCooldown = 0.9f;
         this.isCharging = false;
-        this.chargeTimer = 0;
+        this.chargeEndTimer = new TimingWheel.Timer(t -> stopCharge());
         this.spriteKey = "cavalry";
     }
 
@@ -36,18 +40,6 @@ public class Cavalry extends Unit {
         this.name = name;
     }
 
-    @Override
-    public void update(float delta) {
-        super.update(delta);
-
-        if (isCharging) {
-            chargeTimer += delta;
-            if (chargeTimer >= CHARGE_DURATION) {
-                stopCharge();
-            }
-        }
-    }
-
     @Override
     public void moveTo(float x, float y) {
         super.moveTo(x, y);
@@ -60,15 +52,28 @@ public class Cavalry extends Unit {
     public void startCharge() {
         if (!isCharging) {
             isCharging = true;
-            chargeTimer = 0;
-            speedMultiplier *= CHARGE_SPEED_MULTIPLIER;
-            damageMultiplier *= 1.3f;
+            TimerSystem.schedule(chargeEndTimer, CHARGE_DURATION);
+            addModifier(CHARGE_MODIFIER, CHARGE_DURATION,
+                CHARGE_SPEED_MULTIPLIER - 1f, CHARGE_DAMAGE_MULTIPLIER - 1f, 0);
         }
     }
 
     private void stopCharge() {
         isCharging = false;
-        chargeTimer = 0;
+        TimerSystem.cancel(chargeEndTimer);
+        removeModifier(CHARGE_MODIFIER);
+    }
+
+    @Override
+    public void reset() {
+        super.reset();
+        isCharging = false;
+    }
+
+    @Override
+    protected void cancelTimers() {
+        super.cancelTimers();
+        TimerSystem.cancel(chargeEndTimer);
     }
 
     @Override
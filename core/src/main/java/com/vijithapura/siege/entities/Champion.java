@@ -48,18 +48,18 @@ public class Champion extends Unit {
     private void customizeChampion(ChampionType type) {
         switch (type) {
             case NANDIMITHRA:
-                this.attackDamage *= 1.2f;
+                this.baseDamage *= 1.2f;
                 this.color = new Color(0, 1, 1, 1);
                 break;
 
             case SURANIMALA:
-                this.attackDamage *= 1.5f;
-                this.speed *= 0.9f;
+                this.baseDamage *= 1.5f;
+                this.baseSpeed *= 0.9f;
                 this.color = new Color(1, 0.5f, 0, 1);
                 break;
 
             case VELUSUMANA:
-                this.speed *= 1.5f;
+                this.baseSpeed *= 1.5f;
                 this.attackRange *= 0.8f;
                 this.color = new Color(0.5f, 0.5f, 1, 1);
                 break;
@@ -67,13 +67,14 @@ public class Champion extends Unit {
             case BHARANA:
                 this.maxHealth *= 1.5f;
                 this.health = this.maxHealth;
-                this.speed *= 0.8f;
+                this.baseSpeed *= 0.8f;
                 this.color = new Color(0.8f, 0.8f, 0, 1);
                 break;
 
             default:
                 break;
         }
+        recalculateStats();
     }
 
     private String getChampionTitle(ChampionType type) {
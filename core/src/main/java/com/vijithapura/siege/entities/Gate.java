@@ -2,10 +2,13 @@ package com.vijithapura.siege.entities;
 
 import com.badlogic.gdx.graphics.Color;
 import com.badlogic.gdx.graphics.g2d.Sprite;
-import com.badlogic.gdx.graphics.g2d.SpriteBatch;
-import com.badlogic.gdx.graphics.glutils.ShapeRenderer;
 import com.badlogic.gdx.math.Rectangle;
 import com.badlogic.gdx.math.Vector2;
+import com.vijithapura.siege.dsa.RenderQueue;
+import com.vijithapura.siege.systems.EntityPools;
+import com.vijithapura.siege.systems.EventBus;
+import com.vijithapura.siege.systems.WorldStats;
+import com.vijithapura.siege.utils.CachedSprite;
 import com.vijithapura.siege.utils.Constants;
 import com.vijithapura.siege.utils.TextureManager;
 import java.util.ArrayList;
@@ -21,6 +24,7 @@ public class Gate {
     private float maxHealth;
     private boolean isDestroyed;
     private Color color;
+    private final CachedSprite towerSprite = new CachedSprite();
 
     // Offensive capabilities
     private float attackRange = 200f;
@@ -28,6 +32,8 @@ public class Gate {
     private float attackCooldown = 1.5f;
     private float attackTimer = 0;
     private Unit currentTarget;
+    private int currentTargetGeneration; // target's pool generation when it was picked
+    private final Vector2 center = new Vector2();
 
     public Gate(GatePosition position, float x, float y, float width, float height) {
         this.position = position;
@@ -36,14 +42,18 @@ public class Gate {
         this.health = maxHealth;
         this.isDestroyed = false;
         this.color = new Color(0.8f, 0.4f, 0.1f, 1);
+        WorldStats.gateBuilt();
     }
 
     public void update(float delta, ArrayList<Unit> enemies, ArrayList<Projectile> projectiles) {
         if (isDestroyed) return;
         if (attackTimer > 0) attackTimer -= delta;
         else {
-            if (currentTarget == null || !currentTarget.isAlive() || !isNearby(currentTarget.getPosition(), attackRange)) {
+            if (currentTarget == null || !currentTarget.isAlive()
+                || currentTarget.getGeneration() != currentTargetGeneration
+                || !isNearby(currentTarget.getPosition(), attackRange)) {
                 currentTarget = findNearestEnemy(enemies);
+                if (currentTarget != null) currentTargetGeneration = currentTarget.getGeneration();
             }
             if (currentTarget != null) {
                 fireProjectile(projectiles);
@@ -56,7 +66,8 @@ public class Gate {
         Unit nearest = null;
         float minDst = attackRange;
         Vector2 center = getCenter();
-        for (Unit enemy : enemies) {
+        for (int i = 0, n = enemies.size(); i < n; i++) {
+            Unit enemy = enemies.get(i);
             if (enemy.isAlive()) {
                 float dst = center.dst(enemy.getPosition());
                 if (dst < minDst) {
@@ -71,59 +82,69 @@ public class Gate {
     private void fireProjectile(ArrayList<Projectile> projectiles) {
         if (currentTarget != null) {
             Vector2 center = getCenter();
-            projectiles.add(new Projectile(center.x, center.y, currentTarget, attackDamage));
+            projectiles.add(EntityPools.obtainProjectile(center.x, center.y, currentTarget, attackDamage));
         }
     }
 
     public void takeDamage(float damage) {
         if (isDestroyed) return;
         health -= damage;
+        EventBus.damageDealt(this, damage);
         if (health <= 0) {
             health = 0;
             isDestroyed = true;
+            WorldStats.gateDestroyed();
+            EventBus.gateDestroyed(this);
         }
     }
 
-    public void render(ShapeRenderer renderer, SpriteBatch batch, TextureManager textureManager) {
+    // ===== RENDERING =====
+
+    /**
+     * Wall and tower; only changes when the gate is destroyed (part of the static world layer)
+     */
+    public void renderBody(RenderQueue queue, TextureManager textureManager) {
+        int layer = RenderQueue.LAYER_GATES;
         if (isDestroyed) {
-            renderer.setColor(0.3f, 0.2f, 0.1f, 1);
-            renderer.rect(bounds.x, bounds.y, bounds.width, bounds.height);
-        } else {
-            renderer.setColor(color);
-            renderer.rect(bounds.x, bounds.y, bounds.width, bounds.height);
-
-            // Render Offensive Tower using Sprite
-            if (textureManager.hasTexture("tower")) {
-                renderer.end();
-                batch.begin();
-                Sprite tower = textureManager.getSprite("tower");
-                float size = 40;
-                tower.setSize(size, size);
-                tower.setPosition(bounds.x + bounds.width/2 - size/2, bounds.y + bounds.height/2 - size/2);
-                tower.draw(batch);
-                batch.end();
-                renderer.begin(ShapeRenderer.ShapeType.Filled);
-            } else {
-                // Fallback Circle
-                renderer.setColor(Color.DARK_GRAY);
-                renderer.circle(bounds.x + bounds.width/2, bounds.y + bounds.height/2, 10);
-            }
+            queue.setColor(0.3f, 0.2f, 0.1f, 1);
+            queue.rect(layer, bounds.x, bounds.y, bounds.width, bounds.height);
+            return;
+        }
+
+        // Wall; shapes sort under the sprites of the same layer
+        queue.setColor(color);
+        queue.rect(layer, bounds.x, bounds.y, bounds.width, bounds.height);
 
-            // Health Bar
-            float barWidth = bounds.width;
-            float barHeight = 5;
-            float barX = bounds.x;
-            float barY = bounds.y + bounds.height + 5;
-            renderer.setColor(Color.RED);
-            renderer.rect(barX, barY, barWidth, barHeight);
-            renderer.setColor(Color.GREEN);
-            renderer.rect(barX, barY, barWidth * (health / maxHealth), barHeight);
+        // Render Offensive Tower using Sprite
+        float size = 40;
+        Sprite tower = towerSprite.update(textureManager, "tower",
+            bounds.x + bounds.width/2 - size/2, bounds.y + bounds.height/2 - size/2, size, size, Color.WHITE, 1f);
+        if (tower != null) {
+            queue.sprite(layer, tower);
+        } else {
+            // Fallback Circle
+            queue.setColor(Color.DARK_GRAY);
+            queue.circle(layer, bounds.x + bounds.width/2, bounds.y + bounds.height/2, 10);
         }
     }
 
+    public void renderHealthBar(RenderQueue queue) {
+        if (isDestroyed) return;
+
+        float barWidth = bounds.width;
+        float barHeight = 5;
+        float barX = bounds.x;
+        float barY = bounds.y + bounds.height + 5;
+        queue.setColor(Color.RED);
+        queue.rect(RenderQueue.LAYER_BARS, barX, barY, barWidth, barHeight);
+        queue.setColor(Color.GREEN);
+        queue.rect(RenderQueue.LAYER_BARS, barX, barY, barWidth * (health / maxHealth), barHeight);
+    }
+
     public boolean contains(float x, float y) { return bounds.contains(x, y); }
     public boolean isNearby(Vector2 unitPos, float range) { return getCenter().dst(unitPos) <= range; }
-    public Vector2 getCenter() { return new Vector2(bounds.x + bounds.width / 2, bounds.y + bounds.height / 2); }
+    /** Returns a reused vector - copy it if it must be kept */
+    public Vector2 getCenter() { return center.set(bounds.x + bounds.width / 2, bounds.y + bounds.height / 2); }
     public boolean isDestroyed() { return isDestroyed; }
     public float getHealth() { return health; }
     public float getMaxHealth() { return maxHealth; }
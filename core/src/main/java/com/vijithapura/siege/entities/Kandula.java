@@ -1,7 +1,10 @@
 package com.vijithapura.siege.entities;
 
 import com.badlogic.gdx.graphics.Color;
+import com.vijithapura.siege.dsa.TimingWheel;
+import com.vijithapura.siege.systems.TimerSystem;
 import com.vijithapura.siege.utils.Constants;
+import com.vijithapura.siege.utils.Log;
 
 /**
  * Kandula - King's royal elephant
@@ -9,11 +12,13 @@ import com.vijithapura.siege.utils.Constants;
  */
 public class Kandula extends Unit {
     private boolean isCharging;
-    private float chargeTimer;
-    private float chargeCooldown;
+    private final TimingWheel.Timer chargeEndTimer;
+    private final TimingWheel.Timer chargeCooldownTimer;
     private static final float CHARGE_DURATION = 2.0f;
     private static final float CHARGE_COOLDOWN_TIME = 10.0f;
     private static final float CHARGE_DAMAGE_MULTIPLIER = 5.0f;
+    private static final float CHARGE_SPEED_BONUS = 1.0f; // double speed while charging
+    private static final int CHARGE_MODIFIER = "kandula_charge".hashCode();
 
     public Kandula(float x, float y) {
         super(
@@ -30,38 +35,18 @@ public class Kandula extends Unit {
         this.attackRange = 30f;
         this.attackCooldown = 1.5f;
         this.isCharging = false;
-        this.chargeTimer = 0;
-        this.chargeCooldown = 0;
+        this.chargeEndTimer = new TimingWheel.Timer(t -> stopCharge());
+        this.chargeCooldownTimer = new TimingWheel.Timer(t -> { }); // readiness = not scheduled
         this.spriteKey = "elephant"; // Link to elephant.png sprite
     }
 
-    @Override
-    public void update(float delta) {
-        super.update(delta);
-
-        if (chargeCooldown > 0) {
-            chargeCooldown -= delta;
-        }
-
-        if (isCharging) {
-            chargeTimer += delta;
-
-            if (isMoving) {
-                speed = Constants.ELEPHANT_SPEED * 2.0f;
-            }
-
-            if (chargeTimer >= CHARGE_DURATION) {
-                stopCharge();
-            }
-        }
-    }
-
     public boolean startCharge() {
-        if (chargeCooldown <= 0) {
+        if (isChargeReady()) {
             isCharging = true;
-            chargeTimer = 0;
-            chargeCooldown = CHARGE_COOLDOWN_TIME;
-            System.out.println("[KANDULA] Charge activated!");
+            TimerSystem.schedule(chargeEndTimer, CHARGE_DURATION);
+            TimerSystem.schedule(chargeCooldownTimer, CHARGE_COOLDOWN_TIME);
+            addModifier(CHARGE_MODIFIER, CHARGE_DURATION, CHARGE_SPEED_BONUS, 0, 0);
+            Log.info(Log.UNITS, "[KANDULA] Charge activated!").commit();
             return true;
         }
         return false;
@@ -69,9 +54,8 @@ public class Kandula extends Unit {
 
     private void stopCharge() {
         isCharging = false;
-        chargeTimer = 0;
-        speed = Constants.ELEPHANT_SPEED;
-        System.out.println("[KANDULA] Charge ended");
+        removeModifier(CHARGE_MODIFIER);
+        Log.info(Log.UNITS, "[KANDULA] Charge ended").commit();
     }
 
     public float getChargeDamage() {
@@ -81,8 +65,21 @@ public class Kandula extends Unit {
         return attackDamage;
     }
 
+    @Override
+    public void reset() {
+        super.reset();
+        isCharging = false;
+    }
+
+    @Override
+    protected void cancelTimers() {
+        super.cancelTimers();
+        TimerSystem.cancel(chargeEndTimer);
+        TimerSystem.cancel(chargeCooldownTimer);
+    }
+
     public boolean isChargeReady() {
-        return chargeCooldown <= 0;
+        return !chargeCooldownTimer.isScheduled();
     }
 
     public boolean isCharging() {
@@ -90,10 +87,10 @@ public class Kandula extends Unit {
     }
 
     public float getChargeCooldown() {
-        return chargeCooldown;
+        return TimerSystem.remaining(chargeCooldownTimer);
     }
 
     public float getChargeProgress() {
-        return isCharging ? (chargeTimer / CHARGE_DURATION) : 0;
+        return isCharging ? 1f - TimerSystem.remaining(chargeEndTimer) / CHARGE_DURATION : 0;
     }
 }
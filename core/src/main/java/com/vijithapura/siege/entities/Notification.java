@@ -1,9 +1,10 @@
 package com.vijithapura.siege.entities;
 
 import com.badlogic.gdx.graphics.Color;
+import com.badlogic.gdx.utils.Pool;
 
 // Notification class for UI messages
-public class Notification {
+public class Notification implements Pool.Poolable {
     public String message;
     public Color color;
     public float alpha;
@@ -11,11 +12,33 @@ public class Notification {
     private float timer;
 
     public Notification(String message, Color color) {
+        this.color = new Color();
+        set(message, color);
+    }
+
+    /**
+     * Empty notification for pooling - call set() before use
+     */
+    public Notification() {
+        this.color = new Color();
+        reset();
+    }
+
+    public Notification set(String message, Color color) {
         this.message = message;
-        this.color = new Color(color);
+        this.color.set(color);
         this.alpha = 1.0f;
         this.lifetime = 3.0f;
         this.timer = 0;
+        return this;
+    }
+
+    @Override
+    public void reset() {
+        message = null;
+        alpha = 1.0f;
+        lifetime = 3.0f;
+        timer = 0;
     }
 
     public void update(float delta) {
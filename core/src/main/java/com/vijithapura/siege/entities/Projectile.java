@@ -1,27 +1,55 @@
 package com.vijithapura.siege.entities;
 
-public class Projectile {
+import com.badlogic.gdx.utils.Pool;
+
+public class Projectile implements Pool.Poolable {
     private float x, y;
     private float targetX, targetY;
     private float speed;
     private float damage;
     private boolean active;
     private Unit target;
+    private int targetGeneration; // target's pool generation when fired
+
+    /**
+     * Empty projectile for pooling - call init() before use
+     */
+    public Projectile() {
+        this.speed = 400f;
+        this.active = false;
+    }
 
     public Projectile(float x, float y, Unit target, float damage) {
+        init(x, y, target, damage);
+    }
+
+    public Projectile init(float x, float y, Unit target, float damage) {
         this.x = x;
         this.y = y;
         this.target = target;
+        this.targetGeneration = target.getGeneration();
         this.targetX = target.getPosition().x;
         this.targetY = target.getPosition().y;
         this.damage = damage;
         this.speed = 400f;
         this.active = true;
+        return this;
+    }
+
+    @Override
+    public void reset() {
+        target = null;
+        active = false;
     }
 
     public void update(float delta) {
         if (!active) return;
 
+        // The target went back to its pool: fly on to where it was last seen
+        if (target != null && target.getGeneration() != targetGeneration) {
+            target = null;
+        }
+
         if (target != null && target.isAlive()) {
             targetX = target.getPosition().x;
             targetY = target.getPosition().y;
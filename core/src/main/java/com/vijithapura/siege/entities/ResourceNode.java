@@ -2,15 +2,18 @@ package com.vijithapura.siege.entities;
 
 import com.badlogic.gdx.graphics.Color;
 import com.badlogic.gdx.graphics.g2d.Sprite;
-import com.badlogic.gdx.graphics.g2d.SpriteBatch;
-import com.badlogic.gdx.graphics.glutils.ShapeRenderer;
 import com.badlogic.gdx.math.Vector2;
+import com.vijithapura.siege.dsa.RenderQueue;
+import com.vijithapura.siege.systems.EventBus;
+import com.vijithapura.siege.utils.CachedSprite;
 import com.vijithapura.siege.utils.TextureManager;
 
 /**
  * Resource nodes - Now renders Trees and Stones!
  */
 public class ResourceNode {
+    private static final Color DEPLETED_TINT = new Color(0.4f, 0.4f, 0.4f, 0.5f); // Greyed out
+
     public enum ResourceType {
         WOOD,
         STONE,
@@ -25,6 +28,8 @@ public class ResourceNode {
     private Color color;
     private float size;
     private String spriteKey;
+    private final CachedSprite cachedSprite = new CachedSprite();
+    private int indexHandle = -1; // stable slot in BuildingManager's resource index
 
     public ResourceNode(ResourceType type, float x, float y, int amount) {
         this.type = type;
@@ -53,42 +58,30 @@ public class ResourceNode {
         if (resourceAmount <= 0) {
             resourceAmount = 0;
             depleted = true;
+            EventBus.nodeDepleted(this);
         }
         return gathered;
     }
 
-    public void render(ShapeRenderer renderer, SpriteBatch batch, TextureManager textureManager) {
-        boolean hasSprite = textureManager.hasTexture(spriteKey);
-
-        if (hasSprite) {
-            renderer.end();
-            batch.begin();
+    // ===== RENDERING =====
 
-            Sprite sprite = textureManager.getSprite(spriteKey);
-            if (sprite != null) {
-                // Center the sprite
-                float renderSize = size * 1.5f;
-                sprite.setPosition(position.x - renderSize/2, position.y - renderSize/2);
-                sprite.setSize(renderSize, renderSize);
-
-                if (depleted) {
-                    sprite.setColor(0.4f, 0.4f, 0.4f, 0.5f); // Greyed out
-                } else {
-                    sprite.setColor(Color.WHITE);
-                }
-                sprite.draw(batch);
-            }
+    public void render(RenderQueue queue, TextureManager textureManager) {
+        // Center the sprite
+        float renderSize = size * 1.5f;
+        Sprite sprite = cachedSprite.update(textureManager, spriteKey,
+            position.x - renderSize/2, position.y - renderSize/2, renderSize, renderSize,
+            depleted ? DEPLETED_TINT : Color.WHITE, 1f);
 
-            batch.end();
-            renderer.begin(ShapeRenderer.ShapeType.Filled);
+        if (sprite != null) {
+            queue.sprite(RenderQueue.LAYER_NODES, sprite);
         } else {
             // Fallback Shape
             if (depleted) {
-                renderer.setColor(color.r * 0.3f, color.g * 0.3f, color.b * 0.3f, 0.5f);
+                queue.setColor(color.r * 0.3f, color.g * 0.3f, color.b * 0.3f, 0.5f);
             } else {
-                renderer.setColor(color);
+                queue.setColor(color);
             }
-            renderer.circle(position.x, position.y, size);
+            queue.circle(RenderQueue.LAYER_NODES, position.x, position.y, size);
         }
     }
 
@@ -101,4 +94,7 @@ public class ResourceNode {
     public boolean isDepleted() { return depleted; }
     public int getResourceAmount() { return resourceAmount; }
     public int getMaxAmount() { return maxAmount; }
+    public float getSize() { return size; }
+    public int getIndexHandle() { return indexHandle; }
+    public void setIndexHandle(int indexHandle) { this.indexHandle = indexHandle; }
 }
@@ -35,10 +35,8 @@ public class SiegeRam extends Unit {
         if (canAttack() && gate != null && !gate.isDestroyed()) {
             float damage = attackDamage * Constants.RAM_GATE_BONUS * (crewCount / (float)MAX_CREW);
             gate.takeDamage(damage);
-            attackTimer = attackCooldown;
             targetGate = gate;
-            isAttacking = true;
-            attackAnimTimer = 0.3f;
+            startAttackCooldown();
         }
     }
 
@@ -50,6 +48,12 @@ public class SiegeRam extends Unit {
         if (health < maxHealth * 0.4f && crewCount > 1) crewCount = 1;
     }
 
+    @Override
+    public void reset() {
+        super.reset();
+        crewCount = MAX_CREW;
+    }
+
     public int getCrewCount() {
         return crewCount;
     }
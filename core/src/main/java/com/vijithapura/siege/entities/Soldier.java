@@ -18,6 +18,7 @@ public class Soldier extends Unit {
             "Soldier"
         );
 
+        this.type = UnitType.SOLDIER;
         this.size = 20;
         this.attackRange = 40f;
         this.attackCooldown = 1.0f;
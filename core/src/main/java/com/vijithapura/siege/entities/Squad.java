@@ -0,0 +1,156 @@
+package com.vijithapura.siege.entities;
+
+import com.badlogic.gdx.math.Vector2;
+
+/**
+ * A group of enemy units simulated as one aggregate while disengaged.
+ * When collapsed, only the squad runs AI and movement; members are carried
+ * along rigidly. Aggregate stats (centroid, radius, health, DPS) are refreshed
+ * every tick from the members so that engagement checks stay cheap.
+ */
+public class Squad {
+    public static final int MAX_MEMBERS = 32;
+
+    private final Unit[] members = new Unit[MAX_MEMBERS];
+    private int memberCount;
+
+    private final Vector2 centroid = new Vector2();
+    private float radius;
+    private float totalHealth;
+    private float totalMaxHealth;
+    private float totalDps;
+    private float speed; // slowest member, so the formation holds together
+
+    private boolean collapsed;
+    private float calmTime; // seconds without a threat while expanded
+    private Gate targetGate;
+
+    public void addMember(Unit unit) {
+        members[memberCount++] = unit;
+        unit.setSquad(this);
+    }
+
+    /**
+     * Remove one member (swap with last, order does not matter)
+     */
+    public void removeMember(Unit unit) {
+        for (int i = 0; i < memberCount; i++) {
+            if (members[i] == unit) {
+                members[i] = members[--memberCount];
+                members[memberCount] = null;
+                unit.setSquad(null);
+                return;
+            }
+        }
+    }
+
+    /**
+     * Detach every member (they become loose units)
+     */
+    public void disband() {
+        for (int i = 0; i < memberCount; i++) {
+            members[i].setSquad(null);
+            members[i] = null;
+        }
+        memberCount = 0;
+        collapsed = false;
+        calmTime = 0;
+        targetGate = null;
+    }
+
+    /**
+     * Drop dead members and recompute the aggregate stats
+     */
+    public void refresh() {
+        float sumX = 0, sumY = 0;
+        totalHealth = 0;
+        totalMaxHealth = 0;
+        totalDps = 0;
+        speed = Float.MAX_VALUE;
+
+        int write = 0;
+        for (int i = 0; i < memberCount; i++) {
+            Unit unit = members[i];
+            if (!unit.isAlive()) {
+                unit.setSquad(null);
+                continue;
+            }
+            members[write++] = unit;
+            Vector2 pos = unit.getPosition();
+            sumX += pos.x;
+            sumY += pos.y;
+            totalHealth += unit.getHealth();
+            totalMaxHealth += unit.getMaxHealth();
+            totalDps += unit.getAttackDamage() / Math.max(0.1f, unit.getAttackCooldown());
+            if (unit.getSpeed() < speed) speed = unit.getSpeed();
+        }
+        for (int i = write; i < memberCount; i++) members[i] = null;
+        memberCount = write;
+
+        if (memberCount == 0) {
+            radius = 0;
+            speed = 0;
+            return;
+        }
+        centroid.set(sumX / memberCount, sumY / memberCount);
+
+        float maxDistSq = 0;
+        float maxSize = 0;
+        for (int i = 0; i < memberCount; i++) {
+            Unit unit = members[i];
+            float distSq = centroid.dst2(unit.getPosition());
+            if (distSq > maxDistSq) maxDistSq = distSq;
+            if (unit.getSize() > maxSize) maxSize = unit.getSize();
+        }
+        radius = (float) Math.sqrt(maxDistSq) + maxSize;
+    }
+
+    /**
+     * Move the whole collapsed squad rigidly
+     */
+    public void translate(float dx, float dy) {
+        centroid.add(dx, dy);
+        for (int i = 0; i < memberCount; i++) {
+            members[i].getPosition().add(dx, dy);
+        }
+    }
+
+    /**
+     * Collapse: members stop their individual orders and follow the squad
+     */
+    public void collapse() {
+        collapsed = true;
+        calmTime = 0;
+        for (int i = 0; i < memberCount; i++) {
+            Vector2 pos = members[i].getPosition();
+            members[i].moveTo(pos.x, pos.y);
+        }
+    }
+
+    /**
+     * Expand: members resume individual simulation from where they stand
+     */
+    public void expand() {
+        collapsed = false;
+        calmTime = 0;
+        for (int i = 0; i < memberCount; i++) {
+            Vector2 pos = members[i].getPosition();
+            members[i].moveTo(pos.x, pos.y);
+        }
+    }
+
+    public Unit getMember(int index) { return members[index]; }
+    public int getMemberCount() { return memberCount; }
+    public boolean isEmpty() { return memberCount == 0; }
+    public Vector2 getCentroid() { return centroid; }
+    public float getRadius() { return radius; }
+    public float getTotalHealth() { return totalHealth; }
+    public float getTotalMaxHealth() { return totalMaxHealth; }
+    public float getTotalDps() { return totalDps; }
+    public float getSpeed() { return speed; }
+    public boolean isCollapsed() { return collapsed; }
+    public float getCalmTime() { return calmTime; }
+    public void setCalmTime(float calmTime) { this.calmTime = calmTime; }
+    public Gate getTargetGate() { return targetGate; }
+    public void setTargetGate(Gate gate) { this.targetGate = gate; }
+}
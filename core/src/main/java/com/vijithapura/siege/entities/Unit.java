@@ -2,21 +2,30 @@ package com.vijithapura.siege.entities;
 
 import java.util.ArrayList;
 
-import com.badlogic.gdx.Gdx;
 import com.badlogic.gdx.graphics.Color;
 import com.badlogic.gdx.graphics.g2d.Sprite;
-import com.badlogic.gdx.graphics.g2d.SpriteBatch;
-import com.badlogic.gdx.graphics.glutils.ShapeRenderer;
 import com.badlogic.gdx.math.Vector2;
+import com.badlogic.gdx.utils.Pool;
+import com.vijithapura.siege.dsa.ModifierStack;
+import com.vijithapura.siege.dsa.RenderQueue;
+import com.vijithapura.siege.dsa.TimingWheel;
+import com.vijithapura.siege.systems.EventBus;
+import com.vijithapura.siege.systems.TimerSystem;
+import com.vijithapura.siege.systems.WorldStats;
+import com.vijithapura.siege.utils.CachedSprite;
 import com.vijithapura.siege.utils.TextureManager;
+import com.vijithapura.siege.utils.Log;
+
+public class Unit implements Pool.Poolable {
+    private static final Color ENEMY_TINT = new Color(1f, 0.6f, 0.6f, 1f);
 
-public class Unit {
     // Identity
     protected int id;
     protected Vector2 position;
     protected Vector2 targetPosition;
     protected String name;
     protected String spriteKey;
+    private final CachedSprite cachedSprite = new CachedSprite();
     protected Color color;
     protected float size;
     protected UnitType type;
@@ -44,9 +53,12 @@ public class Unit {
 
     // Combat
     protected Unit currentTarget;
+    protected int currentTargetGeneration; // target's pool generation when it was picked
     protected Gate targetGate;
-    protected float attackTimer;
-    protected float attackAnimTimer;
+    protected boolean attackReady;
+    protected final TimingWheel.Timer attackCooldownTimer;
+    protected final TimingWheel.Timer attackAnimTimer;
+    protected static final float ATTACK_ANIM_TIME = 0.3f;
 
     // Pathfinding
     protected ArrayList<Vector2> path;
@@ -62,11 +74,30 @@ public class Unit {
     protected float speedMultiplier;
     protected float damageMultiplier;
     protected float armorMultiplier;
-    protected ArrayList<Buff> activeBuffs;
+    protected final ModifierStack modifiers;
+    private int buffSerial; // next buff source id
+    protected boolean statsDirty;
+    protected static final int MAX_MODIFIERS = 8;
+    private static final int BUFF_SOURCE_BASE = Integer.MIN_VALUE; // buffs get their own source ids
 
     // Team
     protected int teamId; // 0 = player, 1 = enemy
 
+    // Squad (enemies only; collapsed squads simulate their members as one)
+    protected Squad squad;
+
+    // Simulation LOD: time banked between reduced-rate updates, last wake-up event
+    protected float pendingDelta;
+    protected float lastEventTime;
+
+    // World stats: contribution currently counted in WorldStats while in the world
+    private boolean statsTracked;
+    private int statsTeam;
+    private UnitType statsType;
+    private float statsHealth;
+    private float statsMaxHealth;
+    private float statsDps;
+
     // Formation
     protected int formationRow;
     protected int formationCol;
@@ -75,6 +106,17 @@ public class Unit {
     // Rally Point
     protected Vector2 rallyPoint;
 
+    // Spawn template (restored when a pooled unit is reset)
+    private boolean templateCaptured;
+    private float spawnMaxHealth;
+    private float spawnSpeed;
+    private float spawnDamage;
+    private float spawnArmor;
+    private String spawnName;
+    private String spawnSpriteKey;
+    private final Color spawnColor = new Color();
+    private int generation; // bumped on every free, so stale references can tell
+
     public enum UnitType {
         WORKER, SOLDIER, ARCHER, CAVALRY, CHAMPION, ELEPHANT, SIEGE_RAM
     }
@@ -128,8 +170,9 @@ public class Unit {
 
         this.attackRange = 50f;
         this.attackCooldown = 1.0f;
-        this.attackTimer = 0;
-        this.attackAnimTimer = 0;
+        this.attackReady = true;
+        this.attackCooldownTimer = new TimingWheel.Timer(t -> attackReady = true);
+        this.attackAnimTimer = new TimingWheel.Timer(t -> isAttacking = false);
 
         this.path = new ArrayList<>();
         this.pathIndex = 0;
@@ -142,9 +185,11 @@ public class Unit {
         this.speedMultiplier = 1.0f;
         this.damageMultiplier = 1.0f;
         this.armorMultiplier = 1.0f;
-        this.activeBuffs = new ArrayList<>();
+        this.modifiers = new ModifierStack(MAX_MODIFIERS);
+        this.statsDirty = false;
 
         this.teamId = 0;
+        this.lastEventTime = Float.NEGATIVE_INFINITY;
         this.formationOffset = new Vector2();
         this.rallyPoint = null;
     }
@@ -152,15 +197,8 @@ public class Unit {
     public void update(float delta) {
         if (!isAlive) return;
 
-        // Update timers
-        if (attackTimer > 0) attackTimer -= delta;
-        if (attackAnimTimer > 0) {
-            attackAnimTimer -= delta;
-            if (attackAnimTimer <= 0) isAttacking = false;
-        }
-
         // Update buffs
-        updateBuffs(delta);
+        updateModifiers();
 
         // Update movement
         if (!path.isEmpty()) {
@@ -180,33 +218,34 @@ public class Unit {
         }
     }
 
-    protected void updateBuffs(float delta) {
-        speedMultiplier = 1.0f;
-        damageMultiplier = 1.0f;
-        armorMultiplier = 1.0f;
-
-        ArrayList<Buff> expiredBuffs = new ArrayList<>();
-        for (Buff buff : activeBuffs) {
-            buff.duration -= delta;
-            if (buff.duration <= 0) {
-                expiredBuffs.add(buff);
-            } else {
-                speedMultiplier += buff.speedBonus;
-                damageMultiplier += buff.damageBonus;
-                armorMultiplier += buff.armorBonus;
-            }
+    /**
+     * Expire modifiers and recompute derived stats only when something changed
+     */
+    protected void updateModifiers() {
+        if (modifiers.expire(TimerSystem.now())) {
+            statsDirty = true;
+        }
+        if (statsDirty) {
+            recalculateStats();
         }
-        activeBuffs.removeAll(expiredBuffs);
+    }
+
+    protected void recalculateStats() {
+        speedMultiplier = 1.0f + modifiers.getSpeedBonus();
+        damageMultiplier = 1.0f + modifiers.getDamageBonus();
+        armorMultiplier = 1.0f + modifiers.getArmorBonus();
 
         // Apply multipliers
         speed = baseSpeed * speedMultiplier;
         attackDamage = baseDamage * damageMultiplier;
         armor = baseArmor * armorMultiplier;
+        statsDirty = false;
+        syncStats();
     }
 
     protected void updateCombat(float delta) {
         // Check if current target is still valid
-        if (currentTarget != null && (!currentTarget.isAlive() ||
+        if (currentTarget != null && (!hasValidTarget() ||
             position.dst(currentTarget.position) > attackRange * 1.5f)) {
             currentTarget = null;
         }
@@ -226,8 +265,9 @@ public class Unit {
         }
 
         Vector2 waypoint = path.get(pathIndex);
-        Vector2 direction = new Vector2(waypoint).sub(position);
-        float distance = direction.len();
+        float dx = waypoint.x - position.x;
+        float dy = waypoint.y - position.y;
+        float distance = (float) Math.sqrt(dx * dx + dy * dy);
 
         if (distance < 5f) {
             pathIndex++;
@@ -237,144 +277,278 @@ public class Unit {
                 isMoving = false;
             }
         } else {
-            direction.nor();
-            position.add(direction.scl(speed * delta));
+            // Clamp so a long (reduced-rate) step stops at the waypoint instead of overshooting
+            float step = Math.min(speed * delta, distance) / distance;
+            position.add(dx * step, dy * step);
             isMoving = true;
         }
     }
 
     protected void moveToTarget(float delta) {
-        Vector2 direction = new Vector2(targetPosition).sub(position);
-        float distance = direction.len();
+        float dx = targetPosition.x - position.x;
+        float dy = targetPosition.y - position.y;
+        float distance = (float) Math.sqrt(dx * dx + dy * dy);
 
         if (distance < speed * delta || distance < 2f) {
             position.set(targetPosition);
             isMoving = false;
         } else {
-            direction.nor();
-            position.add(direction.scl(speed * delta));
+            float step = speed * delta / distance;
+            position.add(dx * step, dy * step);
             isMoving = true;
         }
     }
 
-    public void render(ShapeRenderer renderer, SpriteBatch batch, TextureManager textureManager) {
+    // ===== RENDERING =====
+
+    public void render(RenderQueue queue, TextureManager textureManager) {
+        render(queue, textureManager, true);
+    }
+
+    /**
+     * @param details Whether to add the health bar, level stars, buff dots and
+     *                attack line; skipped when the unit is too small on screen to read them
+     */
+    public void render(RenderQueue queue, TextureManager textureManager, boolean details) {
         if (!isAlive) return;
 
-        boolean hasSprite = spriteKey != null && textureManager != null && textureManager.hasTexture(spriteKey);
+        boolean hasSprite = hasSprite(textureManager);
         float renderSize = hasSprite ? size * 4 : size;
 
         // === RENDER UNIT BODY ===
         if (hasSprite) {
-            // ShapeRenderer should be active when this is called
-            // End it, use batch, then restart it
-            renderer.end();
-            batch.begin();
-
-            Sprite sprite = textureManager.getSprite(spriteKey);
-            if (sprite != null) {
-                sprite.setPosition(position.x - renderSize/2, position.y - renderSize/2);
-                sprite.setSize(renderSize, renderSize);
-
-                // Team color tint
-                if (teamId == 1) {
-                    sprite.setColor(1f, 0.6f, 0.6f, 1f); // Red tint for enemies
-                } else {
-                    sprite.setColor(Color.WHITE);
-                }
-
-                if (isAttacking) {
-                    sprite.setScale(1.15f);
-                } else {
-                    sprite.setScale(1.0f);
-                }
-
-                sprite.draw(batch);
-            }
-
-            batch.end();
-            renderer.begin(ShapeRenderer.ShapeType.Filled);
+            // Team color tint (red for enemies); grows while attacking
+            Sprite sprite = cachedSprite.update(textureManager, spriteKey,
+                position.x - renderSize/2, position.y - renderSize/2, renderSize, renderSize,
+                teamId == 1 ? ENEMY_TINT : Color.WHITE, isAttacking ? 1.15f : 1.0f);
+            queue.sprite(RenderQueue.LAYER_UNITS, sprite);
         } else {
-            // Just use the already-active ShapeRenderer
-            renderer.setColor(color);
-            renderer.circle(position.x, position.y, size);
+            queue.setColor(color);
+            queue.circle(RenderQueue.LAYER_UNITS, position.x, position.y, size);
         }
 
         // === SELECTION RING ===
         if (isSelected) {
-            renderer.end();
-            renderer.begin(ShapeRenderer.ShapeType.Line);
-            Gdx.gl.glLineWidth(3);
-            renderer.setColor(teamId == 0 ? Color.YELLOW : Color.RED);
-            renderer.circle(position.x, position.y, renderSize/2 + 5, 30);
-            renderer.end();
-            renderer.begin(ShapeRenderer.ShapeType.Filled);
+            queue.setColor(teamId == 0 ? Color.YELLOW : Color.RED);
+            queue.circleOutline(RenderQueue.LAYER_SELECTION, position.x, position.y, renderSize/2 + 5, 30);
         }
 
+        if (!details) return;
+
         // === ATTACK LINE ===
-        if (isAttacking && currentTarget != null && currentTarget.isAlive()) {
-            renderer.end();
-            renderer.begin(ShapeRenderer.ShapeType.Line);
-            Gdx.gl.glLineWidth(2);
-            renderer.setColor(Color.RED);
-            renderer.line(position.x, position.y, currentTarget.position.x, currentTarget.position.y);
-            renderer.end();
-            renderer.begin(ShapeRenderer.ShapeType.Filled);
+        if (isAttacking && hasValidTarget()) {
+            queue.setColor(Color.RED);
+            queue.line(RenderQueue.LAYER_ORDERS, position.x, position.y, currentTarget.position.x, currentTarget.position.y);
         }
 
         // === HEALTH BAR ===
-        renderHealthBar(renderer, renderSize);
+        renderHealthBar(queue, renderSize);
 
         // === LEVEL INDICATOR ===
         if (level > 1) {
-            renderer.setColor(Color.GOLD);
+            queue.setColor(Color.GOLD);
             float starSize = 3;
             int stars = Math.min(level - 1, 5);
             for (int i = 0; i < stars; i++) {
-                renderer.circle(position.x - (stars * starSize) + i * (starSize * 3),
+                queue.circle(RenderQueue.LAYER_BARS, position.x - (stars * starSize) + i * (starSize * 3),
                     position.y + renderSize/2 + 18, starSize);
             }
         }
 
         // === BUFF INDICATORS ===
-        renderBuffIndicators(renderer, renderSize);
+        renderBuffIndicators(queue, renderSize);
     }
 
-    protected void renderHealthBar(ShapeRenderer renderer, float renderSize) {
+    /**
+     * Width the unit is drawn at: the sprite is 4x its size, the fallback circle 1x
+     */
+    public float getRenderSize(TextureManager textureManager) {
+        return hasSprite(textureManager) ? size * 4 : size;
+    }
+
+    private boolean hasSprite(TextureManager textureManager) {
+        return textureManager != null && cachedSprite.has(textureManager, spriteKey);
+    }
+
+    protected void renderHealthBar(RenderQueue queue, float renderSize) {
         float barWidth = renderSize;
         float healthPercent = health / maxHealth;
         float barY = position.y + renderSize/2 + 8;
 
         // Background
-        renderer.setColor(0.2f, 0.2f, 0.2f, 0.8f);
-        renderer.rect(position.x - barWidth/2, barY, barWidth, 5);
+        queue.setColor(0.2f, 0.2f, 0.2f, 0.8f);
+        queue.rect(RenderQueue.LAYER_BARS, position.x - barWidth/2, barY, barWidth, 5);
 
         // Health
         Color healthColor = healthPercent > 0.6f ? Color.GREEN :
             healthPercent > 0.3f ? Color.ORANGE : Color.RED;
-        renderer.setColor(healthColor);
-        renderer.rect(position.x - barWidth/2, barY, barWidth * healthPercent, 5);
+        queue.setColor(healthColor);
+        queue.rect(RenderQueue.LAYER_BARS, position.x - barWidth/2, barY, barWidth * healthPercent, 5);
 
         // Armor indicator
         if (armor > 0) {
-            renderer.setColor(Color.CYAN);
-            renderer.rect(position.x - barWidth/2, barY - 3, barWidth * (armor / (maxHealth * 0.5f)), 2);
+            queue.setColor(Color.CYAN);
+            queue.rect(RenderQueue.LAYER_BARS, position.x - barWidth/2, barY - 3, barWidth * (armor / (maxHealth * 0.5f)), 2);
         }
     }
 
-    protected void renderBuffIndicators(ShapeRenderer renderer, float renderSize) {
-        if (activeBuffs.isEmpty()) return;
+    protected void renderBuffIndicators(RenderQueue queue, float renderSize) {
+        if (modifiers.isEmpty()) return;
 
         float indicatorSize = 4;
         float startX = position.x - renderSize/2;
         float y = position.y - renderSize/2 - 8;
 
-        for (int i = 0; i < Math.min(activeBuffs.size(), 5); i++) {
-            renderer.setColor(Color.CYAN);
-            renderer.circle(startX + i * (indicatorSize * 2 + 2), y, indicatorSize);
+        for (int i = 0; i < Math.min(modifiers.size(), 5); i++) {
+            queue.setColor(Color.CYAN);
+            queue.circle(RenderQueue.LAYER_BARS, startX + i * (indicatorSize * 2 + 2), y, indicatorSize);
+        }
+    }
+
+    // ===== SIMULATION LOD =====
+
+    /**
+     * Put the unit back on full-rate updates (damage, attacks, new orders)
+     */
+    public void wake() {
+        lastEventTime = TimerSystem.now();
+    }
+
+    public float getLastEventTime() { return lastEventTime; }
+
+    public void addPendingDelta(float delta) {
+        pendingDelta += delta;
+    }
+
+    /**
+     * Time since the last update, cleared for the next accumulation
+     */
+    public float takePendingDelta() {
+        float delta = pendingDelta;
+        pendingDelta = 0;
+        return delta;
+    }
+
+    // ===== WORLD STATS =====
+
+    /**
+     * Start counting this unit in WorldStats (on entering the world)
+     */
+    public void trackStats() {
+        if (statsTracked) return;
+        captureStats();
+        WorldStats.add(statsTeam, statsType, statsHealth, statsMaxHealth, statsDps);
+        statsTracked = true;
+    }
+
+    /**
+     * Stop counting this unit (on leaving the world)
+     */
+    public void untrackStats() {
+        if (!statsTracked) return;
+        WorldStats.remove(statsTeam, statsType, statsHealth, statsMaxHealth, statsDps);
+        statsTracked = false;
+    }
+
+    /**
+     * Replace the counted contribution with the current values (O(1))
+     */
+    protected void syncStats() {
+        if (!statsTracked) return;
+        WorldStats.remove(statsTeam, statsType, statsHealth, statsMaxHealth, statsDps);
+        captureStats();
+        WorldStats.add(statsTeam, statsType, statsHealth, statsMaxHealth, statsDps);
+    }
+
+    private void captureStats() {
+        statsTeam = teamId;
+        statsType = type;
+        statsHealth = health;
+        statsMaxHealth = maxHealth;
+        statsDps = attackCooldown > 0 ? attackDamage / attackCooldown : 0;
+    }
+
+    // ===== POOLING =====
+
+    /**
+     * Place a freshly obtained unit in the world, alive and at full health.
+     * The first call records the constructed stats so reset() can restore
+     * them when the unit is recycled.
+     */
+    public void spawn(float x, float y, int teamId) {
+        if (!templateCaptured) {
+            spawnMaxHealth = maxHealth;
+            spawnSpeed = baseSpeed;
+            spawnDamage = baseDamage;
+            spawnArmor = baseArmor;
+            spawnName = name;
+            spawnSpriteKey = spriteKey;
+            spawnColor.set(color);
+            templateCaptured = true;
         }
+        position.set(x, y);
+        targetPosition.set(x, y);
+        this.teamId = teamId;
+        health = maxHealth;
+        isAlive = true;
+    }
+
+    /**
+     * Return to the just-constructed state (called by the pool on free).
+     * The unit stays dead until spawn(), since freed units can still be
+     * referenced as targets for a while.
+     */
+    @Override
+    public void reset() {
+        cancelTimers();
+        untrackStats();
+
+        if (templateCaptured) {
+            maxHealth = spawnMaxHealth;
+            baseSpeed = spawnSpeed;
+            baseDamage = spawnDamage;
+            baseArmor = spawnArmor;
+            name = spawnName;
+            spriteKey = spawnSpriteKey;
+            color.set(spawnColor);
+        }
+        health = 0;
+        modifiers.clear();
+        recalculateStats();
+
+        isAlive = false;
+        generation++;
+        isSelected = false;
+        isMoving = false;
+        isAttacking = false;
+        isGathering = false;
+        isRetreating = false;
+        stance = UnitStance.AGGRESSIVE;
+
+        currentTarget = null;
+        targetGate = null;
+        attackReady = true;
+
+        path.clear();
+        pathIndex = 0;
+
+        level = 1;
+        experience = 0;
+        experienceToNextLevel = 100;
+        killCount = 0;
+
+        squad = null;
+        pendingDelta = 0;
+        lastEventTime = Float.NEGATIVE_INFINITY;
+        formationRow = 0;
+        formationCol = 0;
+        formationOffset.setZero();
+        rallyPoint = null;
     }
 
     public void moveTo(float x, float y) {
+        // Re-issuing the same destination (AI does this every tick) is not a new command
+        if (targetPosition.dst2(x, y) > 1f || !isMoving) wake();
         targetPosition.set(x, y);
         path.clear();
         pathIndex = 0;
@@ -385,6 +559,7 @@ public class Unit {
 
     public void setPath(ArrayList<Vector2> newPath) {
         if (newPath != null && !newPath.isEmpty()) {
+            wake();
             this.path = new ArrayList<>(newPath);
             this.pathIndex = 0;
             this.isMoving = true;
@@ -395,29 +570,50 @@ public class Unit {
     public void takeDamage(float damage) {
         float actualDamage = Math.max(1, damage - armor);
         health -= actualDamage;
+        wake();
+        EventBus.damageDealt(this, actualDamage);
 
         if (health <= 0) {
             health = 0;
             isAlive = false;
+            cancelTimers();
             onDeath();
         }
+        syncStats();
     }
 
     protected void onDeath() {
-        Gdx.app.log("Unit", name + " has been defeated!");
+        Log.debug(Log.UNITS, "{} has been defeated!").arg(name).commit();
+    }
+
+    /**
+     * Cancel every pending timer owned by this unit
+     */
+    protected void cancelTimers() {
+        TimerSystem.cancel(attackCooldownTimer);
+        TimerSystem.cancel(attackAnimTimer);
+    }
+
+    /**
+     * Start attack cooldown and swing animation timers
+     */
+    protected void startAttackCooldown() {
+        attackReady = false;
+        isAttacking = true;
+        TimerSystem.schedule(attackCooldownTimer, attackCooldown);
+        TimerSystem.schedule(attackAnimTimer, ATTACK_ANIM_TIME);
     }
 
     public boolean canAttack() {
-        return attackTimer <= 0 && isAlive;
+        return attackReady && isAlive;
     }
 
     public void attack(Unit target) {
         if (canAttack() && target != null && target.isAlive()) {
+            wake();
             target.takeDamage(attackDamage);
-            attackTimer = attackCooldown;
-            currentTarget = target;
-            isAttacking = true;
-            attackAnimTimer = 0.3f;
+            setCurrentTarget(target);
+            startAttackCooldown();
 
             if (!target.isAlive()) {
                 gainExperience(50);
@@ -428,16 +624,15 @@ public class Unit {
 
     public void attackGate(Gate gate) {
         if (canAttack() && gate != null && !gate.isDestroyed()) {
+            wake();
             float damage = attackDamage;
             // Siege units do bonus damage to gates
             if (type == UnitType.SIEGE_RAM) {
                 damage *= 3.0f;
             }
             gate.takeDamage(damage);
-            attackTimer = attackCooldown;
             targetGate = gate;
-            isAttacking = true;
-            attackAnimTimer = 0.3f;
+            startAttackCooldown();
         }
     }
 
@@ -456,65 +651,108 @@ public class Unit {
         // Stat increases
         maxHealth *= 1.12f;
         health = maxHealth;
-        attackDamage *= 1.12f;
         baseDamage *= 1.12f;
-        speed *= 1.05f;
         baseSpeed *= 1.05f;
-        armor += 1;
         baseArmor += 1;
+        recalculateStats();
 
-        Gdx.app.log("Unit", name + " leveled up to " + level + "!");
+        Log.info(Log.UNITS, "{} leveled up to {}!").arg(name).arg(level).commit();
     }
 
+    /**
+     * Buffs stack: each one gets a fresh source id, so re-applying a buff adds
+     * another modifier instead of refreshing the first (up to MAX_MODIFIERS,
+     * after which the one closest to expiry is replaced).
+     */
     public void addBuff(Buff buff) {
-        activeBuffs.add(buff);
+        int sourceId = BUFF_SOURCE_BASE + (buffSerial++ & 0xFFFF);
+        addModifier(sourceId, buff.duration, buff.speedBonus, buff.damageBonus, buff.armorBonus);
+    }
+
+    /**
+     * Add (or refresh) a timed stat modifier. Bonuses are fractions of the base stat.
+     */
+    public void addModifier(int sourceId, float duration, float speedBonus, float damageBonus, float armorBonus) {
+        modifiers.add(sourceId, TimerSystem.now() + duration, speedBonus, damageBonus, armorBonus);
+        recalculateStats();
+    }
+
+    public void removeModifier(int sourceId) {
+        if (modifiers.remove(sourceId)) {
+            recalculateStats();
+        }
     }
 
     public void heal(float amount) {
         health = Math.min(health + amount, maxHealth);
+        syncStats();
     }
 
     protected void initiateRetreat() {
         isRetreating = true;
-        // Move away from danger
-        Vector2 retreatDir = new Vector2(position).sub(targetPosition).nor().scl(200);
-        moveTo(position.x + retreatDir.x, position.y + retreatDir.y);
+        // Move 200 units away from danger
+        float dx = position.x - targetPosition.x;
+        float dy = position.y - targetPosition.y;
+        float length = (float) Math.sqrt(dx * dx + dy * dy);
+        float scale = length > 0 ? 200 / length : 0;
+        moveTo(position.x + dx * scale, position.y + dy * scale);
     }
 
     public void setStance(UnitStance newStance) {
         this.stance = newStance;
+        wake();
     }
 
     // Getters and Setters
     public int getId() { return id; }
+    /** Changes whenever the unit goes back to its pool */
+    public int getGeneration() { return generation; }
     public Vector2 getPosition() { return position; }
     public float getHealth() { return health; }
     public float getMaxHealth() { return maxHealth; }
     public float getAttackDamage() { return attackDamage; }
     public float getBaseDamage() { return baseDamage; }
     public float getAttackRange() { return attackRange; }
+    public float getAttackCooldown() { return attackCooldown; }
     public boolean isAlive() { return isAlive; }
     public boolean isSelected() { return isSelected; }
     public void setSelected(boolean selected) { this.isSelected = selected; }
     public float getSize() { return size; }
     public String getName() { return name; }
     public Color getColor() { return color; }
-    public void setColor(Color color) { this.color = new Color(color); }
+    public void setColor(Color color) { this.color.set(color); }
+    public void setName(String name) { this.name = name; }
     public int getLevel() { return level; }
     public int getExperience() { return experience; }
     public int getExperienceToNextLevel() { return experienceToNextLevel; }
-    public Unit getCurrentTarget() { return currentTarget; }
-    public void setCurrentTarget(Unit target) { this.currentTarget = target; }
+    /** The unit being attacked, or null once it died or went back to its pool */
+    public Unit getCurrentTarget() { return hasValidTarget() ? currentTarget : null; }
+
+    public void setCurrentTarget(Unit target) {
+        this.currentTarget = target;
+        this.currentTargetGeneration = target != null ? target.getGeneration() : 0;
+    }
+
+    /**
+     * The target is still the same living unit (its pool slot was not reused)
+     */
+    protected boolean hasValidTarget() {
+        return currentTarget != null && currentTarget.isAlive()
+            && currentTarget.getGeneration() == currentTargetGeneration;
+    }
     public boolean isMoving() { return isMoving; }
     public int getTeamId() { return teamId; }
-    public void setTeamId(int teamId) { this.teamId = teamId; }
+    public void setTeamId(int teamId) { this.teamId = teamId; syncStats(); }
+    public Squad getSquad() { return squad; }
+    public void setSquad(Squad squad) { this.squad = squad; }
+    public boolean isInCollapsedSquad() { return squad != null && squad.isCollapsed(); }
     public UnitType getType() { return type; }
-    public void setType(UnitType type) { this.type = type; }
+    public void setType(UnitType type) { this.type = type; syncStats(); }
     public UnitStance getStance() { return stance; }
     public int getKillCount() { return killCount; }
     public float getArmor() { return armor; }
     public void setSprite(String key) { this.spriteKey = key; }
-    public ArrayList<Buff> getActiveBuffs() { return activeBuffs; }
+    public int getActiveModifierCount() { return modifiers.size(); }
 
     // ADDED MISSING GETTER HERE
     public float getMoveSpeed() { return speed; }
@@ -523,8 +761,8 @@ public class Unit {
     public boolean isGathering() { return isGathering; }
 
     // Added Setters for external modification
-    public void setMaxHealth(float maxHealth) { this.maxHealth = maxHealth; }
-    public void setHealth(float health) { this.health = health; }
-    public void setAttackDamage(float damage) { this.attackDamage = damage; }
-    public void setBaseDamage(float damage) { this.baseDamage = damage; }
+    public void setMaxHealth(float maxHealth) { this.maxHealth = maxHealth; syncStats(); }
+    public void setHealth(float health) { this.health = health; syncStats(); }
+    public void setAttackDamage(float damage) { this.baseDamage = damage; recalculateStats(); }
+    public void setBaseDamage(float damage) { this.baseDamage = damage; recalculateStats(); }
 }
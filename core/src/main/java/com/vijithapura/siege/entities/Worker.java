@@ -1,8 +1,12 @@
 package com.vijithapura.siege.entities;
 
-import com.badlogic.gdx.Gdx;
 import com.badlogic.gdx.graphics.Color;
 import com.badlogic.gdx.math.Vector2;
+import com.vijithapura.siege.dsa.DistanceField;
+import com.vijithapura.siege.dsa.TimingWheel;
+import com.vijithapura.siege.systems.EventBus;
+import com.vijithapura.siege.systems.TimerSystem;
+import com.vijithapura.siege.utils.Log;
 
 /**
  * Worker unit with FIXED resource gathering mechanics
@@ -20,10 +24,15 @@ public class Worker extends Unit {
     private WorkerState state;
     private ResourceNode targetResourceNode;
     private Building targetBuilding;
-    private float gatherTimer;
+    private final TimingWheel.Timer gatherCycleTimer;
     private int carriedResources;
+    private ResourceNode.ResourceType carriedType;
+    private DistanceField depotField;
+    private final Vector2 stepTarget = new Vector2();
+    private int autoGatherId = -1; // bidder id in GatherAssignment, -1 = manual control
     private static final int MAX_CARRY = 10;
     private static final float GATHER_TIME = 2.0f;
+    private static final int RETURN_LOOKAHEAD = 4; // distance-field cells per moveTo
 
     public Worker(float x, float y) {
         super(x, y, 80, 85, 5, new Color(0.7f, 0.6f, 0.4f, 1f), "Worker");
@@ -31,7 +40,7 @@ public class Worker extends Unit {
         this.type = UnitType.WORKER;
         this.attackRange = 20f;
         this.carriedResources = 0;
-        this.gatherTimer = 0;
+        this.gatherCycleTimer = new TimingWheel.Timer(t -> onGatherCycle());
     }
 
     @Override
@@ -46,23 +55,16 @@ public class Worker extends Unit {
                     float dist = position.dst(targetResourceNode.getPosition());
                     if (dist < 40f) {
                         setState(WorkerState.GATHERING);
-                        Gdx.app.log("Worker", name + " started gathering");
+                        Log.debug(Log.UNITS, "{} started gathering").arg(name).commit();
                     }
                 }
                 break;
 
-            case GATHERING:
-                if (targetResourceNode != null && !targetResourceNode.isDepleted()) {
-                    gatherTimer += delta;
-
-                    if (gatherTimer >= GATHER_TIME) {
-                        gatherTimer = 0;
-                        // The ResourceManager will actually collect the resources
-                        // Worker just needs to stay in GATHERING state near the node
-                        Gdx.app.log("Worker", name + " is gathering...");
-                    }
-                } else {
-                    setState(WorkerState.IDLE);
+            case RETURNING_RESOURCES:
+                if (depotField.isSource(position.x, position.y)) {
+                    deliverResources();
+                } else if (!isMoving) {
+                    stepTowardDepot();
                 }
                 break;
 
@@ -74,6 +76,91 @@ public class Worker extends Unit {
         }
     }
 
+    /**
+     * Fired by the timing wheel once per gather cycle while GATHERING
+     */
+    private void onGatherCycle() {
+        if (state != WorkerState.GATHERING || !isAlive) return;
+
+        if (targetResourceNode != null && !targetResourceNode.isDepleted()) {
+            // The ResourceManager will actually collect the resources
+            // Worker just needs to stay in GATHERING state near the node
+            Log.trace(Log.UNITS, "{} is gathering...").arg(name).commit();
+            TimerSystem.schedule(gatherCycleTimer, GATHER_TIME);
+        } else {
+            setState(WorkerState.IDLE);
+        }
+    }
+
+    // ===== CARRYING =====
+
+    /**
+     * Load gathered resources
+     * @return Amount actually taken (limited by the free carry capacity)
+     */
+    public int carry(ResourceNode.ResourceType type, int amount) {
+        if (carriedResources > 0 && carriedType != type) return 0;
+        int taken = Math.min(amount, getFreeCapacity());
+        carriedType = type;
+        carriedResources += taken;
+        return taken;
+    }
+
+    /**
+     * Walk the carried load to the nearest drop-off by descending the depot distance field
+     */
+    public void returnToDepot(DistanceField field) {
+        this.depotField = field;
+        setState(WorkerState.RETURNING_RESOURCES);
+        stepTowardDepot();
+    }
+
+    private void stepTowardDepot() {
+        if (depotField.descend(position.x, position.y, RETURN_LOOKAHEAD, stepTarget)) {
+            moveTo(stepTarget.x, stepTarget.y);
+        } else {
+            Log.warn(Log.UNITS, "{} cannot reach a depot, holding {} {}")
+                .arg(name).arg(carriedResources).arg(carriedType).commit();
+            setState(WorkerState.IDLE);
+        }
+    }
+
+    private void deliverResources() {
+        EventBus.resourcesDelivered(carriedType, carriedResources, position.x, position.y);
+        Log.debug(Log.UNITS, "{} delivered {} {}").arg(name).arg(carriedResources).arg(carriedType).commit();
+        carriedResources = 0;
+
+        // Head back to the bound node for the next load
+        if (targetResourceNode != null && !targetResourceNode.isDepleted()) {
+            gatherFrom(targetResourceNode);
+        } else {
+            setState(WorkerState.IDLE);
+        }
+    }
+
+    /**
+     * Change the node the worker returns to after its next delivery
+     */
+    public void bindResourceNode(ResourceNode node) {
+        this.targetResourceNode = node;
+    }
+
+    @Override
+    protected void cancelTimers() {
+        super.cancelTimers();
+        TimerSystem.cancel(gatherCycleTimer);
+    }
+
+    /**
+     * Player move order: drop the current job and leave auto-gather.
+     * Any carried load is kept for the next trip to a depot.
+     */
+    public void commandMove(float x, float y) {
+        setState(WorkerState.IDLE);
+        autoGatherId = -1;
+        moveTo(x, y);
+    }
+
     public void gatherFrom(ResourceNode node) {
         this.targetResourceNode = node;
         this.setState(WorkerState.MOVING_TO_RESOURCE);
@@ -82,20 +169,35 @@ public class Worker extends Unit {
         Vector2 nodePos = node.getPosition();
         this.moveTo(nodePos.x, nodePos.y);
 
-        Gdx.app.log("Worker", name + " moving to gather " + node.getType());
+        Log.debug(Log.UNITS, "{} moving to gather {}").arg(name).arg(node.getType()).commit();
     }
 
     public void setState(WorkerState newState) {
         this.state = newState;
 
+        if (newState == WorkerState.GATHERING) {
+            TimerSystem.schedule(gatherCycleTimer, GATHER_TIME);
+        } else {
+            TimerSystem.cancel(gatherCycleTimer);
+        }
+
+        // Idle workers keep their load; it is delivered on the next return trip
         if (newState == WorkerState.IDLE) {
             targetResourceNode = null;
             targetBuilding = null;
-            carriedResources = 0;
-            gatherTimer = 0;
+            depotField = null;
         }
     }
 
+    @Override
+    public void reset() {
+        super.reset();
+        setState(WorkerState.IDLE);
+        carriedResources = 0;
+        carriedType = null;
+        autoGatherId = -1;
+    }
+
     public WorkerState getState() {
         return state;
     }
@@ -107,4 +209,20 @@ public class Worker extends Unit {
     public int getCarriedResources() {
         return carriedResources;
     }
+
+    public int getAutoGatherId() { return autoGatherId; }
+    public void setAutoGatherId(int autoGatherId) { this.autoGatherId = autoGatherId; }
+    public boolean isAutoGathering() { return autoGatherId >= 0; }
+
+    public ResourceNode.ResourceType getCarriedType() {
+        return carriedType;
+    }
+
+    public int getFreeCapacity() {
+        return MAX_CARRY - carriedResources;
+    }
+
+    public boolean isFull() {
+        return carriedResources >= MAX_CARRY;
+    }
 }
@@ -8,6 +8,7 @@ import com.badlogic.gdx.Screen;
 import com.badlogic.gdx.graphics.Color;
 import com.badlogic.gdx.graphics.GL20;
 import com.badlogic.gdx.graphics.OrthographicCamera;
+import com.badlogic.gdx.graphics.g2d.BitmapFont;
 import com.badlogic.gdx.math.Vector2;
 import com.vijithapura.siege.VijithapuraGame;
 import com.vijithapura.siege.effects.VisualEffectsManager;
@@ -18,18 +19,25 @@ import com.vijithapura.siege.entities.ResourceNode;
 import com.vijithapura.siege.entities.Unit;
 import com.vijithapura.siege.systems.BuildingManager;
 import com.vijithapura.siege.systems.CameraController;
-import com.vijithapura.siege.systems.CombatSystem;
 import com.vijithapura.siege.systems.CommandExecutor;
+import com.vijithapura.siege.systems.EntityPools;
+import com.vijithapura.siege.systems.EventBus;
+import com.vijithapura.siege.systems.GameEvent;
+import com.vijithapura.siege.systems.GatherAssignment;
+import com.vijithapura.siege.systems.ProductionSystem;
 import com.vijithapura.siege.systems.ResourceManager;
 import com.vijithapura.siege.systems.SelectionManager;
+import com.vijithapura.siege.systems.TimerSystem;
 import com.vijithapura.siege.systems.UnitManager;
 import com.vijithapura.siege.systems.WaveManager;
 import com.vijithapura.siege.systems.WorldRenderer;
+import com.vijithapura.siege.systems.WorldStats;
 import com.vijithapura.siege.ui.DetailPanel;
 import com.vijithapura.siege.ui.MinimapRenderer;
 import com.vijithapura.siege.ui.UIRenderer;
 import com.vijithapura.siege.utils.Constants;
 import com.vijithapura.siege.utils.InputHandler;
+import com.vijithapura.siege.utils.Log;
 
 /**
  * REFACTORED GameScreen - Much cleaner and organized
@@ -47,8 +55,11 @@ public class GameScreen implements Screen {
     private BuildingManager buildingManager;
     private WaveManager waveManager;
     private SelectionManager selectionManager;
+    private GatherAssignment gatherAssignment;
+    private ProductionSystem productionSystem;
     private WorldRenderer worldRenderer;
     private UIRenderer uiRenderer;
+    private final UIRenderer.GameUIData uiData = new UIRenderer.GameUIData();
     private MinimapRenderer minimapRenderer;
     private VisualEffectsManager effectsManager;
     private DetailPanel detailPanel;
@@ -85,12 +96,17 @@ public class GameScreen implements Screen {
         this.game = game;
         this.difficulty = difficulty;
 
+        // Fresh game clock and event bus before any manager schedules timers or subscribes
+        TimerSystem.reset();
+        EventBus.reset();
+        WorldStats.reset();
+
         initializeCameras();
         initializeManagers();
         initializeInput();
         initializeGame();
 
-        Gdx.app.log("GameScreen", "✓ Game initialized - Difficulty: " + difficulty);
+        Log.info(Log.GAME, "✓ Game initialized - Difficulty: {}").arg(difficulty).commit();
     }
 
     private void initializeCameras() {
@@ -126,15 +142,44 @@ public class GameScreen implements Screen {
         selectionManager = new SelectionManager();
 
         // Rendering systems
-        worldRenderer = new WorldRenderer();
-        uiRenderer = new UIRenderer(game.font);
+        worldRenderer = new WorldRenderer(buildingManager);
+        uiRenderer = new UIRenderer(game.fonts);
         minimapRenderer = new MinimapRenderer(20, 20, 180, 180);
-        effectsManager = new VisualEffectsManager();
-        effectsManager.setFont(game.font);
-        detailPanel = new DetailPanel();
+        effectsManager = new VisualEffectsManager(game.textureManager);
+        effectsManager.setFont(game.fonts.get(1.0f));
+        detailPanel = new DetailPanel(game.fonts);
 
         // Notifications
         notifications = new ArrayList<>();
+
+        subscribeToEvents();
+    }
+
+    /**
+     * Victory, defeat and feedback react to events instead of scanning every frame
+     */
+    private void subscribeToEvents() {
+        EventBus.subscribe(GameEvent.Type.GATE_DESTROYED, event -> {
+            addNotification(event.gate.getPosition() + " gate destroyed!", Color.ORANGE);
+            if (!gameWon && WorldStats.getStandingGates() == 0) {
+                gameWon = true;
+                addNotification("VICTORY! Fortress conquered!", Color.GREEN);
+            }
+        });
+
+        EventBus.subscribe(GameEvent.Type.UNIT_DIED, event -> {
+            // Dead units leave WorldStats before dispatch, so zero population means the army is gone
+            if (event.teamId == WorldStats.PLAYER_TEAM && !gameLost && WorldStats.getPopulation() == 0) {
+                gameLost = true;
+                addNotification("DEFEAT! Army destroyed!", Color.RED);
+            }
+        });
+
+        EventBus.subscribe(GameEvent.Type.WAVE_CLEARED, event -> addNotification(
+            "Wave " + event.value + " cleared! +" + (int) event.amount + " gold", Color.GREEN));
+
+        EventBus.subscribe(GameEvent.Type.NODE_DEPLETED, event -> addNotification(
+            event.node.getType() + " source depleted", Color.GRAY));
     }
 
     private void initializeInput() {
@@ -157,6 +202,10 @@ public class GameScreen implements Screen {
 
     private void initializeGame() {
         buildingManager.initializeStartingBuildings();
+        unitManager.setObstacles(buildingManager.getWalkGrid());
+        gatherAssignment = new GatherAssignment(buildingManager);
+        productionSystem = new ProductionSystem(buildingManager.getBuildings(), unitManager);
+        uiData.buildings = buildingManager.getBuildings();
         unitManager.spawnStartingUnits();
         waveManager.startFirstWave(unitManager);
 
@@ -179,19 +228,16 @@ public class GameScreen implements Screen {
 
         // Render game world
         worldRenderer.render(game, camera,
-            unitManager.getPlayerUnits(),
-            unitManager.getEnemyUnits(),
-            buildingManager.getBuildings(),
-            buildingManager.getGates(),
-            buildingManager.getResourceNodes(),
-            unitManager.getProjectiles(),
+            unitManager,
+            buildingManager,
             selectionManager.isSelecting(),
             selectionManager.getSelectionStart(),
             selectionManager.getSelectionEnd()
         );
 
-        // Render effects
-        effectsManager.render(game.shapeRenderer, game.batch);
+        // Render effects (culled against the same view as the world)
+        effectsManager.render(game.shapeRenderer, game.batch, worldRenderer.getCulling());
+        worldRenderer.getCulling().report(delta);
 
         // Render UI
         renderUI();
@@ -200,13 +246,19 @@ public class GameScreen implements Screen {
     private void update(float delta) {
         if (gameWon || gameLost) return;
 
+        // Advance game clock (fires cooldown, charge, gather and training timers)
+        TimerSystem.update(delta);
+
         // Update all managers
-        resourceManager.update(delta, unitManager.getPlayerUnits(),
-            buildingManager.getResourceNodes());
+        resourceManager.update(delta, unitManager.getPlayerUnits(), buildingManager);
+        gatherAssignment.update(unitManager.getPlayerUnits());
+
+        productionSystem.update();
 
-        unitManager.update(delta, buildingManager.getGates(), effectsManager);
+        unitManager.getSimulationLod().setView(camera);
+        unitManager.update(delta, buildingManager.getGates());
         buildingManager.update(delta);
-        waveManager.update(delta, unitManager, resourceManager, notifications);
+        waveManager.update(delta, unitManager);
         selectionManager.update(delta);
 
         uiRenderer.update(delta);
@@ -215,7 +267,8 @@ public class GameScreen implements Screen {
         updateNotifications(delta);
 
         handleInput(delta);
-        checkVictoryDefeat();
+        // Deliver this tick's events (deaths, damage, gates, nodes, waves)
+        EventBus.dispatch();
     }
 
     private void handleInput(float delta) {
@@ -268,6 +321,10 @@ public class GameScreen implements Screen {
             CommandExecutor.holdPosition(selectionManager.getSelectedUnits(), notifications);
         if (Gdx.input.isKeyJustPressed(Input.Keys.F))
             CommandExecutor.formationMove(selectionManager.getSelectedUnits(), notifications);
+        if (Gdx.input.isKeyJustPressed(Input.Keys.G)) {
+            gatherAssignment.setEnabled(!gatherAssignment.isEnabled());
+            addNotification(gatherAssignment.isEnabled() ? "Auto-gather ON" : "Auto-gather OFF", Color.CYAN);
+        }
 
         // Pause
         if (Gdx.input.isKeyJustPressed(Input.Keys.ESCAPE)) {
@@ -302,7 +359,7 @@ public class GameScreen implements Screen {
         selectionManager.handleRightClick(worldX, worldY,
             unitManager.getEnemyUnits(),
             buildingManager.getGates(),
-            buildingManager.getResourceNodes(),
+            buildingManager,
             notifications
         );
     }
@@ -364,14 +421,31 @@ public class GameScreen implements Screen {
     }
 
     private void trainUnit(Unit.UnitType type, int gold, int wood, int stone, int food) {
-        if (!resourceManager.canAfford(gold, wood, stone, food)) {
-            addNotification("Insufficient resources!", Color.RED);
-            return;
+        // Shift queues a batch; stops early when resources or queue space run out
+        boolean batch = Gdx.input.isKeyPressed(Input.Keys.SHIFT_LEFT) || Gdx.input.isKeyPressed(Input.Keys.SHIFT_RIGHT);
+        int wanted = batch ? ProductionSystem.BATCH_SIZE : 1;
+        int queued = 0;
+
+        while (queued < wanted) {
+            if (!resourceManager.canAfford(gold, wood, stone, food)) {
+                if (queued == 0) addNotification("Insufficient resources!", Color.RED);
+                break;
+            }
+            Building producer = productionSystem.findProducer(type);
+            if (producer == null) {
+                if (queued == 0) addNotification("Production queues are full!", Color.RED);
+                break;
+            }
+
+            resourceManager.spend(gold, wood, stone, food);
+            productionSystem.enqueue(producer, type);
+            queued++;
         }
 
-        resourceManager.spend(gold, wood, stone, food);
-        unitManager.queueUnit(type, buildingManager.getSpawnPoint());
-        addNotification(type.name() + " training started!", Color.GREEN);
+        if (queued > 0) {
+            addNotification(queued > 1 ? queued + " x " + type.name() + " queued" : type.name() + " training started!",
+                Color.GREEN);
+        }
     }
 
     private void renderUI() {
@@ -380,12 +454,11 @@ public class GameScreen implements Screen {
         game.shapeRenderer.setProjectionMatrix(uiCamera.combined);
 
         // Prepare UI data
-        UIRenderer.GameUIData uiData = new UIRenderer.GameUIData();
         uiData.gold = resourceManager.getGold();
         uiData.wood = resourceManager.getWood();
         uiData.stone = resourceManager.getStone();
         uiData.food = resourceManager.getFood();
-        uiData.currentPop = unitManager.getPlayerUnits().size();
+        uiData.currentPop = WorldStats.getPopulation();
         uiData.maxPop = Constants.MAX_POPULATION;
         uiData.gameTime = gameTime;
         uiData.currentWave = waveManager.getCurrentWave();
@@ -413,23 +486,23 @@ public class GameScreen implements Screen {
         }
         
         // Render detail panel on top of everything
-        detailPanel.render(game.shapeRenderer, game.batch, game.font);
+        detailPanel.render(game.shapeRenderer, game.batch);
     }
 
     private void renderGameOverScreen() {
         game.batch.begin();
-        game.font.getData().setScale(3f);
-        game.font.setColor(gameWon ? Color.GREEN : Color.RED);
+        BitmapFont titleFont = game.fonts.get(3f);
+        titleFont.setColor(gameWon ? Color.GREEN : Color.RED);
 
         String text = gameWon ? "VICTORY!" : "DEFEAT!";
         float x = Constants.SCREEN_WIDTH / 2 - 150;
         float y = Constants.SCREEN_HEIGHT / 2;
 
-        game.font.draw(game.batch, text, x, y);
+        titleFont.draw(game.batch, text, x, y);
 
-        game.font.getData().setScale(1.2f);
-        game.font.setColor(Color.WHITE);
-        game.font.draw(game.batch, "Click to return to menu", x - 50, y - 50);
+        BitmapFont hintFont = game.fonts.get(1.2f);
+        hintFont.setColor(Color.WHITE);
+        hintFont.draw(game.batch, "Click to return to menu", x - 50, y - 50);
 
         game.batch.end();
 
@@ -438,18 +511,6 @@ public class GameScreen implements Screen {
             dispose();
         }
     }
-
-    private void checkVictoryDefeat() {
-        if (!gameWon && CombatSystem.checkVictory(buildingManager.getGates())) {
-            gameWon = true;
-            addNotification("VICTORY! Fortress conquered!", Color.GREEN);
-        }
-
-        if (!gameLost && CombatSystem.checkDefeat(unitManager.getPlayerUnits())) {
-            gameLost = true;
-            addNotification("DEFEAT! Army destroyed!", Color.RED);
-        }
-    }
     
     private Object getEntityAtPosition(float worldX, float worldY) {
         // Check units (closest to click)
@@ -500,16 +561,25 @@ public class GameScreen implements Screen {
     }
 
     private void updateNotifications(float delta) {
-        notifications.removeIf(n -> {
-            n.update(delta);
-            return n.isExpired();
-        });
+        int write = 0;
+        for (int i = 0, n = notifications.size(); i < n; i++) {
+            Notification notification = notifications.get(i);
+            notification.update(delta);
+            if (!notification.isExpired()) {
+                notifications.set(write++, notification);
+            } else {
+                EntityPools.free(notification);
+            }
+        }
+        for (int i = notifications.size() - 1; i >= write; i--) {
+            notifications.remove(i);
+        }
     }
 
     private void addNotification(String message, Color color) {
-        notifications.add(new Notification(message, color));
-        if (notifications.size() > 5) notifications.remove(0);
-        Gdx.app.log("Notification", message);
+        notifications.add(EntityPools.obtainNotification(message, color));
+        if (notifications.size() > 5) EntityPools.free(notifications.remove(0));
+        Log.info(Log.GAME, "Notification: {}").arg(message).commit();
     }
 
     @Override
@@ -536,7 +606,11 @@ public class GameScreen implements Screen {
 
     @Override
     public void dispose() {
-        Gdx.app.log("GameScreen", "Disposing game screen");
+        Log.info(Log.GAME, "Disposing game screen").commit();
+        worldRenderer.dispose();
+        minimapRenderer.dispose();
+        uiRenderer.dispose();
+        effectsManager.dispose();
     }
 
     // Getters for legacy compatibility
@@ -555,9 +629,7 @@ public class GameScreen implements Screen {
     public int getPlayerFood() { return resourceManager.getFood(); }
     
     // Population getters
-    public int getCurrentPopulation() { 
-        return (int) unitManager.getPlayerUnits().stream().filter(Unit::isAlive).count();
-    }
+    public int getCurrentPopulation() { return WorldStats.getPopulation(); }
     public int getMaxPopulation() { return Constants.MAX_POPULATION; }
     
     // Wave getters
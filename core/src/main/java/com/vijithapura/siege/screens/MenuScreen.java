@@ -13,6 +13,7 @@ import com.badlogic.gdx.graphics.glutils.ShapeRenderer;
 import com.badlogic.gdx.math.Rectangle;
 import com.vijithapura.siege.VijithapuraGame;
 import com.vijithapura.siege.utils.Constants;
+import com.vijithapura.siege.utils.Log;
 
 /**
  * Age of Empires 3 Inspired Main Menu
@@ -164,7 +165,7 @@ public class MenuScreen implements Screen {
         try {
             backgroundTexture = new Texture(Gdx.files.internal("wallpaper.png"));
         } catch (Exception e) {
-            Gdx.app.log("MenuScreen", "Wallpaper not found, using gradient");
+            Log.info(Log.GAME, "Wallpaper not found, using gradient").commit();
         }
 
         // Create fonts
@@ -205,7 +206,7 @@ public class MenuScreen implements Screen {
             dustSize[i] = 1 + (float)(Math.random() * 2);
         }
 
-        Gdx.app.log("MenuScreen", "AoE3-style menu initialized");
+        Log.info(Log.GAME, "AoE3-style menu initialized").commit();
     }
 
     @Override
@@ -2,27 +2,70 @@ package com.vijithapura.siege.systems;
 
 import java.util.ArrayList;
 
+import com.badlogic.gdx.math.Rectangle;
 import com.badlogic.gdx.math.Vector2;
+import com.vijithapura.siege.dsa.BucketGrid;
+import com.vijithapura.siege.dsa.DistanceField;
+import com.vijithapura.siege.dsa.PathfindingGrid;
 import com.vijithapura.siege.entities.Building;
 import com.vijithapura.siege.entities.Gate;
+import com.vijithapura.siege.entities.Projectile;
 import com.vijithapura.siege.entities.ResourceNode;
+import com.vijithapura.siege.entities.Unit;
 import com.vijithapura.siege.utils.Constants;
+import com.vijithapura.siege.utils.Log;
 
 public class BuildingManager {
     private ArrayList<Building> buildings;
     private ArrayList<Gate> gates;
     private ArrayList<ResourceNode> resourceNodes;
 
+    // Nodes never move, so they are indexed once; depleted nodes drop out of the index
+    private static final float RESOURCE_CELL_SIZE = 128f;
+    private static final float MAX_NODE_SIZE = 30f;
+    private final BucketGrid<ResourceNode> resourceIndex;
+    private final ResourceFilter resourceFilter = new ResourceFilter();
+
+    // Render culling: every node (depleted ones are still drawn) and building, by position
+    private static final float RENDER_CELL_SIZE = 256f;
+    private final BucketGrid<ResourceNode> nodeRenderGrid;
+    private final BucketGrid<Building> buildingRenderGrid;
+    private float maxBuildingExtent;
+
+    // Walking distance to the nearest drop-off, shared by every returning worker
+    private static final float DEPOT_FIELD_CELL_SIZE = 32f;
+    private final DistanceField depotField;
+    private boolean depotFieldDirty = true;
+
+    // Cells units may not be pushed into: buildings, fortress walls and intact gates
+    private static final int WALK_CELL_SIZE = 16;
+    private static final float WALL_THICKNESS = 30;
+    private final PathfindingGrid walkGrid;
+    private boolean walkGridDirty = true;
+
+    // Gates are not given targets here; shared empty lists avoid allocating per tick
+    private final ArrayList<Unit> noTargets = new ArrayList<>();
+    private final ArrayList<Projectile> noProjectiles = new ArrayList<>();
+    private final Vector2 spawnPoint = new Vector2(250, 300);
+
     public BuildingManager() {
         buildings = new ArrayList<>();
         gates = new ArrayList<>();
         resourceNodes = new ArrayList<>();
+        resourceIndex = new BucketGrid<>(Constants.MAP_WIDTH, Constants.MAP_HEIGHT, RESOURCE_CELL_SIZE, 512);
+        nodeRenderGrid = new BucketGrid<>(Constants.MAP_WIDTH, Constants.MAP_HEIGHT, RENDER_CELL_SIZE, 512);
+        buildingRenderGrid = new BucketGrid<>(Constants.MAP_WIDTH, Constants.MAP_HEIGHT, RENDER_CELL_SIZE, 32);
+        depotField = new DistanceField(Constants.MAP_WIDTH, Constants.MAP_HEIGHT, DEPOT_FIELD_CELL_SIZE);
+        walkGrid = new PathfindingGrid(Constants.MAP_WIDTH, Constants.MAP_HEIGHT, WALK_CELL_SIZE);
+
+        EventBus.subscribe(GameEvent.Type.NODE_DEPLETED, event -> resourceIndex.remove(event.node.getIndexHandle()));
+        EventBus.subscribe(GameEvent.Type.GATE_DESTROYED, event -> walkGridDirty = true);
     }
 
     public void initializeStartingBuildings() {
-        buildings.add(new Building(Building.BuildingType.COMMAND_CENTER, 200, 200, 180, 180));
-        buildings.add(new Building(Building.BuildingType.BARRACKS, 400, 200, 150, 150));
-        buildings.add(new Building(Building.BuildingType.RESOURCE_DEPOT, 570, 200, 130, 130));
+        addBuilding(new Building(Building.BuildingType.COMMAND_CENTER, 200, 200, 180, 180));
+        addBuilding(new Building(Building.BuildingType.BARRACKS, 400, 200, 150, 150));
+        addBuilding(new Building(Building.BuildingType.RESOURCE_DEPOT, 570, 200, 130, 130));
 
         initializeGates();
         initializeResourceNodes();
@@ -31,7 +74,7 @@ public class BuildingManager {
     private void initializeGates() {
         float fortressLeft = Constants.FORTRESS_X - Constants.FORTRESS_SIZE / 2;
         float fortressBottom = Constants.FORTRESS_Y - Constants.FORTRESS_SIZE / 2;
-        float wallThickness = 30;
+        float wallThickness = WALL_THICKNESS;
 
         gates.add(new Gate(Gate.GatePosition.SOUTH,
             Constants.FORTRESS_X - Constants.GATE_WIDTH / 2,
@@ -167,18 +210,193 @@ public class BuildingManager {
             float y = 500 + (float)(Math.random() * 1700);
             resourceNodes.add(new ResourceNode(ResourceNode.ResourceType.GOLD, x, y, 800 + (int)(Math.random() * 700)));
         }
+
+        // Index every node once for click and auto-assign lookups (handle == list index)
+        for (int i = 0, n = resourceNodes.size(); i < n; i++) {
+            ResourceNode node = resourceNodes.get(i);
+            node.setIndexHandle(resourceIndex.insert(node, node.getPosition().x, node.getPosition().y));
+            nodeRenderGrid.insert(node, node.getPosition().x, node.getPosition().y);
+        }
+    }
+
+    // ===== BUILDINGS =====
+
+    public void addBuilding(Building building) {
+        buildings.add(building);
+        depotFieldDirty = true;
+        walkGridDirty = true;
+
+        Rectangle bounds = building.getBounds();
+        Vector2 center = building.getCenter();
+        building.setRenderHandle(buildingRenderGrid.insert(building, center.x, center.y));
+        maxBuildingExtent = Math.max(maxBuildingExtent, Math.max(bounds.width, bounds.height) / 2);
+    }
+
+    public void removeBuilding(Building building) {
+        if (buildings.remove(building)) {
+            depotFieldDirty = true;
+            walkGridDirty = true;
+            buildingRenderGrid.remove(building.getRenderHandle());
+            building.setRenderHandle(-1);
+        }
+    }
+
+    /**
+     * Drop-off points accept gathered resources
+     */
+    public static boolean isDropOff(Building building) {
+        return building.getType() == Building.BuildingType.RESOURCE_DEPOT
+            || building.getType() == Building.BuildingType.COMMAND_CENTER;
+    }
+
+    /**
+     * Distance field to the nearest drop-off, rebuilt only after the buildings changed
+     */
+    public DistanceField getDepotField() {
+        if (depotFieldDirty) {
+            rebuildDepotField();
+        }
+        return depotField;
+    }
+
+    private void rebuildDepotField() {
+        long start = System.nanoTime();
+        depotField.clear();
+        for (int i = 0, n = buildings.size(); i < n; i++) {
+            Building building = buildings.get(i);
+            Rectangle bounds = building.getBounds();
+            if (isDropOff(building)) {
+                depotField.addSource(bounds.x, bounds.y, bounds.width, bounds.height);
+            } else {
+                depotField.addObstacle(bounds.x, bounds.y, bounds.width, bounds.height);
+            }
+        }
+        int reached = depotField.build();
+        depotFieldDirty = false;
+
+        Log.debug(Log.DSA, "Depot distance field rebuilt: {} cells reachable in {}us")
+            .arg(reached).arg((System.nanoTime() - start) / 1000).commit();
+    }
+
+    /**
+     * Obstacle grid for local movement (same object for the whole game; refreshed in update())
+     */
+    public PathfindingGrid getWalkGrid() {
+        if (walkGridDirty) {
+            rebuildWalkGrid();
+        }
+        return walkGrid;
+    }
+
+    private void rebuildWalkGrid() {
+        walkGrid.clearObstacles();
+        for (int i = 0, n = buildings.size(); i < n; i++) {
+            Rectangle bounds = buildings.get(i).getBounds();
+            walkGrid.setObstacleArea(bounds.x, bounds.y, bounds.width, bounds.height, true);
+        }
+
+        float left = Constants.FORTRESS_X - Constants.FORTRESS_SIZE / 2f;
+        float bottom = Constants.FORTRESS_Y - Constants.FORTRESS_SIZE / 2f;
+        float size = Constants.FORTRESS_SIZE;
+        walkGrid.setObstacleArea(left, bottom, size, WALL_THICKNESS, true);
+        walkGrid.setObstacleArea(left, bottom + size - WALL_THICKNESS, size, WALL_THICKNESS, true);
+        walkGrid.setObstacleArea(left, bottom, WALL_THICKNESS, size, true);
+        walkGrid.setObstacleArea(left + size - WALL_THICKNESS, bottom, WALL_THICKNESS, size, true);
+
+        // Gates sit in the walls: blocked while standing, an opening once destroyed
+        for (int i = 0, n = gates.size(); i < n; i++) {
+            Gate gate = gates.get(i);
+            Rectangle bounds = gate.getBounds();
+            walkGrid.setObstacleArea(bounds.x, bounds.y, bounds.width, bounds.height, !gate.isDestroyed());
+        }
+        walkGridDirty = false;
     }
 
     public void update(float delta) {
-        buildings.forEach(b -> b.update(delta));
-        gates.forEach(g -> g.update(delta, new ArrayList<>(), new ArrayList<>()));
+        if (walkGridDirty) {
+            rebuildWalkGrid();
+        }
+        for (int i = 0, n = buildings.size(); i < n; i++) {
+            buildings.get(i).update(delta);
+        }
+        for (int i = 0, n = gates.size(); i < n; i++) {
+            gates.get(i).update(delta, noTargets, noProjectiles);
+        }
+    }
+
+    // ===== RESOURCE LOOKUPS =====
+
+    /**
+     * Undepleted node under a click, using the same reach as ResourceNode.isNearby
+     */
+    public ResourceNode findResourceNodeAt(float x, float y, float range) {
+        resourceFilter.type = null;
+        ResourceNode node = resourceIndex.nearest(x, y, range + MAX_NODE_SIZE, resourceFilter);
+        if (node == null) return null;
+        float dist = node.getPosition().dst(x, y);
+        return dist <= range + node.getSize() ? node : null;
     }
 
+    /**
+     * Closest undepleted node of a type within maxRange (any type when null)
+     */
+    public ResourceNode findNearestResourceNode(float x, float y, float maxRange, ResourceNode.ResourceType type) {
+        resourceFilter.type = type;
+        return resourceIndex.nearest(x, y, maxRange, resourceFilter);
+    }
+
+    /**
+     * Index handles of undepleted nodes within radius, nearest first; when out
+     * is too small the farthest are left out. A handle is the node's index in getResourceNodes()
+     */
+    public int queryResourceNodes(float x, float y, float radius, int[] out) {
+        return resourceIndex.queryNearest(x, y, radius, out);
+    }
+
+    // ===== RENDER CULLING =====
+
+    /**
+     * Handles of nodes (depleted included) that may be on screen; a handle is the node's index in getResourceNodes()
+     */
+    public int queryVisibleResourceNodes(ViewCulling view, int[] out) {
+        return queryRect(nodeRenderGrid, view, MAX_NODE_SIZE, out);
+    }
+
+    /**
+     * Render handles of buildings that may be on screen (see getBuildingByHandle)
+     */
+    public int queryVisibleBuildings(ViewCulling view, int[] out) {
+        return queryRect(buildingRenderGrid, view, maxBuildingExtent, out);
+    }
+
+    /**
+     * View rectangle grown by the largest distance from an item's position to its edge
+     */
+    private static int queryRect(BucketGrid<?> grid, ViewCulling view, float extent, int[] out) {
+        return grid.queryRect(view.getMinX() - extent, view.getMinY() - extent,
+            view.getMaxX() - view.getMinX() + extent * 2, view.getMaxY() - view.getMinY() + extent * 2, out);
+    }
+
+    public Building getBuildingByHandle(int handle) { return buildingRenderGrid.get(handle); }
+
     public Vector2 getSpawnPoint() {
-        return new Vector2(250, 300);
+        return spawnPoint;
     }
 
     public ArrayList<Building> getBuildings() { return buildings; }
     public ArrayList<Gate> getGates() { return gates; }
     public ArrayList<ResourceNode> getResourceNodes() { return resourceNodes; }
+    public int getIndexedResourceCount() { return resourceIndex.size(); }
+
+    /**
+     * Accepts undepleted nodes, optionally of one type (reused, so lookups allocate nothing)
+     */
+    private static class ResourceFilter implements BucketGrid.Filter<ResourceNode> {
+        ResourceNode.ResourceType type;
+
+        @Override
+        public boolean accept(ResourceNode node) {
+            return !node.isDepleted() && (type == null || node.getType() == type);
+        }
+    }
 }
@@ -1,11 +1,11 @@
 package com.vijithapura.siege.systems;
 
-import com.badlogic.gdx.Gdx;
 import com.badlogic.gdx.math.Vector2;
 import com.vijithapura.siege.entities.Gate;
 import com.vijithapura.siege.entities.Kandula;
 import com.vijithapura.siege.entities.Unit;
 import com.vijithapura.siege.dsa.SearchAlgorithms;
+import com.vijithapura.siege.utils.Log;
 
 import java.util.ArrayList;
 
@@ -20,11 +20,13 @@ public class CombatSystem {
     public static void processCombat(ArrayList<Unit> playerUnits, ArrayList<Unit> enemyUnits,
                                      ArrayList<Gate> gates, float delta) {
         // Player units attack enemies and gates
-        for (Unit player : playerUnits) {
+        for (int i = 0, n = playerUnits.size(); i < n; i++) {
+            Unit player = playerUnits.get(i);
             if (!player.isAlive()) continue;
 
             // Check if near any gate
-            for (Gate gate : gates) {
+            for (int g = 0, gateCount = gates.size(); g < gateCount; g++) {
+                Gate gate = gates.get(g);
                 if (!gate.isDestroyed() && gate.isNearby(player.getPosition(), player.getAttackRange())) {
                     if (player.canAttack()) {
                         float damage = player.getAttackDamage();
@@ -37,8 +39,10 @@ public class CombatSystem {
 
                         gate.takeDamage(damage);
                         player.attack(null); // Reset attack timer
-                        Gdx.app.log("CombatSystem", player.getName() + " attacked " +
-                            gate.getPosition() + " gate!");
+                        Vector2 gateCenter = gate.getCenter();
+                        Log.debug(Log.COMBAT, "{} attacked {} gate at ({}, {})")
+                            .arg(player.getName()).arg(gate.getPosition().name())
+                            .arg(gateCenter.x).arg(gateCenter.y).commit();
                     }
                 }
             }
@@ -53,13 +57,14 @@ public class CombatSystem {
 
                 if (distance <= player.getAttackRange() && player.canAttack()) {
                     player.attack(nearestEnemy);
-                    Gdx.app.log("CombatSystem", player.getName() + " attacked " + nearestEnemy.getName());
+                    Log.debug(Log.COMBAT, "{} attacked {}").arg(player.getName()).arg(nearestEnemy.getName()).commit();
                 }
             }
         }
 
         // Enemies attack player units
-        for (Unit enemy : enemyUnits) {
+        for (int i = 0, n = enemyUnits.size(); i < n; i++) {
+            Unit enemy = enemyUnits.get(i);
             if (!enemy.isAlive()) continue;
 
             Unit nearestPlayer = SearchAlgorithms.findNearestEnemy(playerUnits, enemy.getPosition());
@@ -71,33 +76,9 @@ public class CombatSystem {
 
                 if (distance <= enemy.getAttackRange() && enemy.canAttack()) {
                     enemy.attack(nearestPlayer);
-                    Gdx.app.log("CombatSystem", enemy.getName() + " attacked " + nearestPlayer.getName());
+                    Log.debug(Log.COMBAT, "{} attacked {}").arg(enemy.getName()).arg(nearestPlayer.getName()).commit();
                 }
             }
         }
     }
-
-    /**
-     * Check victory conditions
-     */
-    public static boolean checkVictory(ArrayList<Gate> gates) {
-        for (Gate gate : gates) {
-            if (!gate.isDestroyed()) {
-                return false;
-            }
-        }
-        return true; // All gates destroyed = Victory!
-    }
-
-    /**
-     * Check defeat conditions
-     */
-    public static boolean checkDefeat(ArrayList<Unit> playerUnits) {
-        for (Unit unit : playerUnits) {
-            if (unit.isAlive()) {
-                return false;
-            }
-        }
-        return true; // All units dead = Defeat
-    }
 }
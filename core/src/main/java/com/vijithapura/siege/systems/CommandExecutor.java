@@ -15,9 +15,9 @@ public class CommandExecutor {
         Gate nearest = findNearestGate(selectedUnits, gates);
         if (nearest != null) {
             for (Unit unit : selectedUnits) {
-                unit.moveTo(nearest.getCenter().x, nearest.getCenter().y);
+                moveUnit(unit, nearest.getCenter().x, nearest.getCenter().y);
             }
-            notifications.add(new Notification(
+            notifications.add(EntityPools.obtainNotification(
                 "Attack " + nearest.getPosition() + " gate!", Color.ORANGE));
         }
     }
@@ -25,10 +25,10 @@ public class CommandExecutor {
     public static void stopUnits(ArrayList<Unit> selectedUnits,
                                  ArrayList<Notification> notifications) {
         for (Unit unit : selectedUnits) {
-            unit.moveTo(unit.getPosition().x, unit.getPosition().y);
+            moveUnit(unit, unit.getPosition().x, unit.getPosition().y);
         }
         if (!selectedUnits.isEmpty()) {
-            notifications.add(new Notification("Units stopped", Color.CYAN));
+            notifications.add(EntityPools.obtainNotification("Units stopped", Color.CYAN));
         }
     }
 
@@ -38,7 +38,7 @@ public class CommandExecutor {
             unit.setStance(Unit.UnitStance.STAND_GROUND);
         }
         if (!selectedUnits.isEmpty()) {
-            notifications.add(new Notification("Hold position!", Color.GREEN));
+            notifications.add(EntityPools.obtainNotification("Hold position!", Color.GREEN));
         }
     }
 
@@ -58,13 +58,24 @@ public class CommandExecutor {
             float offsetX = (col - cols/2) * spacing;
             float offsetY = (row - selectedUnits.size()/cols/2) * spacing;
 
-            unit.moveTo(center.x + offsetX, center.y + offsetY);
+            moveUnit(unit, center.x + offsetX, center.y + offsetY);
         }
 
-        notifications.add(new Notification(
+        notifications.add(EntityPools.obtainNotification(
             "Formation move - " + selectedUnits.size() + " units", Color.CYAN));
     }
 
+    /**
+     * Player move order for one unit; workers also drop their gathering job
+     */
+    public static void moveUnit(Unit unit, float x, float y) {
+        if (unit instanceof Worker) {
+            ((Worker) unit).commandMove(x, y);
+        } else {
+            unit.moveTo(x, y);
+        }
+    }
+
     private static Gate findNearestGate(ArrayList<Unit> units, ArrayList<Gate> gates) {
         Vector2 center = calculateCenter(units);
         Gate nearest = null;
@@ -12,14 +12,15 @@ import java.util.ArrayList;
  */
 public class EnemyAI {
     private static final float ATTACK_RANGE = 200f;
-    private static final float DEFEND_RANGE = 300f;
+    static final float DEFEND_RANGE = 300f;
 
     /**
      * Update enemy behavior
      */
     public static void updateEnemies(ArrayList<Unit> enemies, ArrayList<Unit> playerUnits,
                                      ArrayList<Gate> gates, float delta) {
-        for (Unit enemy : enemies) {
+        for (int i = 0, n = enemies.size(); i < n; i++) {
+            Unit enemy = enemies.get(i);
             if (!enemy.isAlive()) continue;
 
             // Find nearest player unit
@@ -61,15 +62,16 @@ public class EnemyAI {
     /**
      * Find nearest gate to position
      */
-    private static Gate findNearestGate(Vector2 position, ArrayList<Gate> gates) {
+    static Gate findNearestGate(Vector2 position, ArrayList<Gate> gates) {
         Gate nearest = null;
         float minDistance = Float.MAX_VALUE;
 
-        for (Gate gate : gates) {
+        for (int i = 0, n = gates.size(); i < n; i++) {
+            Gate gate = gates.get(i);
             if (gate.isDestroyed()) continue;
 
-            float distance = Vector2.dst(position.x, position.y,
-                gate.getCenter().x, gate.getCenter().y);
+            Vector2 center = gate.getCenter();
+            float distance = Vector2.dst(position.x, position.y, center.x, center.y);
 
             if (distance < minDistance) {
                 minDistance = distance;
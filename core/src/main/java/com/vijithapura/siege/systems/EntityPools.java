@@ -0,0 +1,41 @@
+package com.vijithapura.siege.systems;
+
+import com.badlogic.gdx.graphics.Color;
+import com.vijithapura.siege.dsa.ObjectPool;
+import com.vijithapura.siege.entities.Notification;
+import com.vijithapura.siege.entities.Projectile;
+import com.vijithapura.siege.entities.Unit;
+
+/**
+ * Shared pools for short-lived objects created during combat and UI feedback
+ */
+public class EntityPools {
+    private static final ObjectPool<Projectile> projectiles =
+        new ObjectPool<>(Projectile::new, 64, 2048);
+    private static final ObjectPool<Notification> notifications =
+        new ObjectPool<>(Notification::new, 8, 32);
+
+    static {
+        projectiles.fill(64);
+        notifications.fill(8);
+    }
+
+    public static Projectile obtainProjectile(float x, float y, Unit target, float damage) {
+        return projectiles.obtain().init(x, y, target, damage);
+    }
+
+    public static void free(Projectile projectile) {
+        projectiles.free(projectile);
+    }
+
+    public static Notification obtainNotification(String message, Color color) {
+        return notifications.obtain().set(message, color);
+    }
+
+    public static void free(Notification notification) {
+        notifications.free(notification);
+    }
+
+    public static ObjectPool<Projectile> getProjectilePool() { return projectiles; }
+    public static ObjectPool<Notification> getNotificationPool() { return notifications; }
+}
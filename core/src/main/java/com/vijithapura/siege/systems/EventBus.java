@@ -0,0 +1,135 @@
+package com.vijithapura.siege.systems;
+
+import com.badlogic.gdx.math.Vector2;
+import com.vijithapura.siege.dsa.EventQueue;
+import com.vijithapura.siege.entities.Building;
+import com.vijithapura.siege.entities.Gate;
+import com.vijithapura.siege.entities.ResourceNode;
+import com.vijithapura.siege.entities.Unit;
+import com.vijithapura.siege.utils.Log;
+
+import java.util.ArrayList;
+
+/**
+ * Shared game event bus backed by a reusable event queue.
+ * Systems publish during the tick; dispatch() delivers the whole batch to
+ * subscribers once per tick. Events published while dispatching (e.g. the
+ * last enemy dying clears the wave) are delivered in the same dispatch.
+ */
+public class EventBus {
+    /**
+     * Receives events of the types it subscribed to
+     */
+    public interface Listener {
+        void onEvent(GameEvent event);
+    }
+
+    private static final int MAX_EVENTS_PER_DISPATCH = 65536; // guards against listener feedback loops
+    private static final GameEvent.Type[] TYPES = GameEvent.Type.values();
+
+    private static final EventQueue<GameEvent> queue = new EventQueue<>(GameEvent::new, 256);
+    private static final ArrayList<ArrayList<Listener>> listeners = new ArrayList<>();
+    private static int publishedLastDispatch;
+
+    static {
+        for (int i = 0; i < TYPES.length; i++) {
+            listeners.add(new ArrayList<>());
+        }
+    }
+
+    public static void subscribe(GameEvent.Type type, Listener listener) {
+        listeners.get(type.ordinal()).add(listener);
+    }
+
+    public static void unsubscribe(GameEvent.Type type, Listener listener) {
+        listeners.get(type.ordinal()).remove(listener);
+    }
+
+    // ===== PUBLISHING =====
+
+    public static void unitDied(Unit unit) {
+        Vector2 pos = unit.getPosition();
+        GameEvent event = queue.push().set(GameEvent.Type.UNIT_DIED, pos.x, pos.y);
+        event.teamId = unit.getTeamId();
+        event.unitType = unit.getType();
+    }
+
+    public static void damageDealt(Unit victim, float amount) {
+        Vector2 pos = victim.getPosition();
+        GameEvent event = queue.push().set(GameEvent.Type.DAMAGE_DEALT, pos.x, pos.y);
+        event.teamId = victim.getTeamId();
+        event.unitType = victim.getType();
+        event.amount = amount;
+    }
+
+    public static void damageDealt(Gate gate, float amount) {
+        Vector2 center = gate.getCenter();
+        GameEvent event = queue.push().set(GameEvent.Type.DAMAGE_DEALT, center.x, center.y);
+        event.teamId = 1; // gates belong to the defenders
+        event.gate = gate;
+        event.amount = amount;
+    }
+
+    public static void gateDestroyed(Gate gate) {
+        Vector2 center = gate.getCenter();
+        queue.push().set(GameEvent.Type.GATE_DESTROYED, center.x, center.y).gate = gate;
+    }
+
+    public static void nodeDepleted(ResourceNode node) {
+        Vector2 pos = node.getPosition();
+        queue.push().set(GameEvent.Type.NODE_DEPLETED, pos.x, pos.y).node = node;
+    }
+
+    public static void resourcesDelivered(ResourceNode.ResourceType type, int amount, float x, float y) {
+        GameEvent event = queue.push().set(GameEvent.Type.RESOURCES_DELIVERED, x, y);
+        event.resourceType = type;
+        event.value = amount;
+    }
+
+    public static void buildingCompleted(Building building) {
+        Vector2 center = building.getCenter();
+        queue.push().set(GameEvent.Type.BUILDING_COMPLETED, center.x, center.y).building = building;
+    }
+
+    public static void waveCleared(int wave, int goldBonus) {
+        GameEvent event = queue.push().set(GameEvent.Type.WAVE_CLEARED, 0, 0);
+        event.value = wave;
+        event.amount = goldBonus;
+    }
+
+    // ===== DISPATCH =====
+
+    /**
+     * Deliver every queued event to its subscribers, then empty the queue
+     */
+    public static void dispatch() {
+        int i = 0;
+        for (; i < queue.size() && i < MAX_EVENTS_PER_DISPATCH; i++) {
+            GameEvent event = queue.get(i);
+            ArrayList<Listener> subscribers = listeners.get(event.type.ordinal());
+            for (int s = 0, n = subscribers.size(); s < n; s++) {
+                subscribers.get(s).onEvent(event);
+            }
+        }
+        if (i < queue.size()) {
+            Log.warn(Log.GAME, "Event dispatch stopped after {} events, dropped {}")
+                .arg(i).arg(queue.size() - i).commit();
+        }
+        publishedLastDispatch = i;
+        queue.clear();
+    }
+
+    public static int getPendingCount() { return queue.size(); }
+    public static int getPublishedLastDispatch() { return publishedLastDispatch; }
+
+    /**
+     * Drop queued events and subscribers (new game)
+     */
+    public static void reset() {
+        queue.clear();
+        for (int i = 0; i < listeners.size(); i++) {
+            listeners.get(i).clear();
+        }
+        publishedLastDispatch = 0;
+    }
+}
@@ -0,0 +1,60 @@
+package com.vijithapura.siege.systems;
+
+import com.vijithapura.siege.entities.Building;
+import com.vijithapura.siege.entities.Gate;
+import com.vijithapura.siege.entities.ResourceNode;
+import com.vijithapura.siege.entities.Unit;
+
+/**
+ * One queued game event. Records are reused by the EventBus, so listeners
+ * must copy anything they want to keep beyond onEvent().
+ *
+ * Field use per type:
+ *   UNIT_DIED           teamId, unitType, x, y (the unit itself is already back in its pool)
+ *   DAMAGE_DEALT        teamId (victim), unitType or gate, amount, x, y
+ *   GATE_DESTROYED      gate, x, y
+ *   NODE_DEPLETED       node, x, y
+ *   WAVE_CLEARED        value (wave number), amount (gold bonus)
+ *   RESOURCES_DELIVERED resourceType, value (amount), x, y
+ *   BUILDING_COMPLETED  building, x, y (centre)
+ */
+public class GameEvent {
+    public enum Type {
+        UNIT_DIED,
+        DAMAGE_DEALT,
+        GATE_DESTROYED,
+        NODE_DEPLETED,
+        WAVE_CLEARED,
+        RESOURCES_DELIVERED,
+        BUILDING_COMPLETED
+    }
+
+    public Type type;
+    public int teamId;
+    public Unit.UnitType unitType;
+    public Gate gate;
+    public Building building;
+    public ResourceNode node;
+    public ResourceNode.ResourceType resourceType;
+    public float x, y;
+    public float amount;
+    public int value;
+
+    /**
+     * Overwrite every field so no data leaks from the record's previous use
+     */
+    GameEvent set(Type type, float x, float y) {
+        this.type = type;
+        this.teamId = -1;
+        this.unitType = null;
+        this.gate = null;
+        this.building = null;
+        this.node = null;
+        this.resourceType = null;
+        this.x = x;
+        this.y = y;
+        this.amount = 0;
+        this.value = 0;
+        return this;
+    }
+}
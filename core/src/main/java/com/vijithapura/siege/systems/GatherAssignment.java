@@ -0,0 +1,238 @@
+package com.vijithapura.siege.systems;
+
+import com.badlogic.gdx.math.Vector2;
+import com.vijithapura.siege.dsa.AuctionSolver;
+import com.vijithapura.siege.dsa.DistanceField;
+import com.vijithapura.siege.dsa.TimingWheel;
+import com.vijithapura.siege.entities.ResourceNode;
+import com.vijithapura.siege.entities.Unit;
+import com.vijithapura.siege.entities.Worker;
+import com.vijithapura.siege.utils.Log;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+
+/**
+ * Auto-gather mode: spreads idle workers over resource nodes with an
+ * incremental auction (AuctionSolver). Each node offers SLOTS_PER_NODE slots
+ * so clusters are not overcrowded, and a slot is worth less the longer the
+ * walk to the node plus the node's distance to the nearest depot.
+ *
+ * Only the affected workers bid again: the owners of a depleted node's slots,
+ * newly idle workers and workers that lost a slot to a better bid.
+ */
+public class GatherAssignment implements AuctionSolver.Market {
+    private static final int SLOTS_PER_NODE = 3;
+    private static final float CANDIDATE_RANGE = 500f;
+    private static final int MAX_CANDIDATE_NODES = 96;      // nearest nodes a worker bids on
+    private static final float MAX_TRIP_COST = 4000f; // a slot costing more than this is not worth taking
+    private static final float EPSILON = 1f;
+    private static final int MAX_BIDS_PER_UPDATE = 4000;
+    private static final float SCAN_INTERVAL = 0.5f;
+
+    private final BuildingManager buildingManager;
+    private final ArrayList<ResourceNode> nodes;
+    private final AuctionSolver solver;
+
+    private final ArrayList<Worker> bidders = new ArrayList<>(); // bidder id -> worker, null = free id
+    private final ArrayList<ResourceNode> appliedNodes = new ArrayList<>(); // node last handed to each bidder
+    private int[] freeIds = new int[16];
+    private int freeCount;
+    private final int[] nodeHandles = new int[MAX_CANDIDATE_NODES];
+
+    private final TimingWheel.Timer scanTimer;
+    private boolean scanDue;
+    private boolean enabled;
+
+    public GatherAssignment(BuildingManager buildingManager) {
+        this.buildingManager = buildingManager;
+        this.nodes = buildingManager.getResourceNodes();
+        this.solver = new AuctionSolver(nodes.size() * SLOTS_PER_NODE, 64,
+            MAX_CANDIDATE_NODES * SLOTS_PER_NODE, EPSILON);
+
+        this.scanTimer = new TimingWheel.Timer(t -> {
+            scanDue = true;
+            TimerSystem.schedule(t, SCAN_INTERVAL);
+        });
+
+        // A depleted node withdraws its slots; only their owners bid again
+        EventBus.subscribe(GameEvent.Type.NODE_DEPLETED, event -> {
+            int handle = event.node.getIndexHandle();
+            if (handle < 0) return;
+            for (int s = 0; s < SLOTS_PER_NODE; s++) {
+                solver.removeObject(handle * SLOTS_PER_NODE + s);
+            }
+        });
+    }
+
+    // ===== MODE =====
+
+    public void setEnabled(boolean enabled) {
+        if (this.enabled == enabled) return;
+        this.enabled = enabled;
+
+        if (enabled) {
+            scanDue = true;
+            TimerSystem.schedule(scanTimer, SCAN_INTERVAL);
+        } else {
+            // Workers keep their current jobs but are no longer managed
+            TimerSystem.cancel(scanTimer);
+            for (int id = 0; id < bidders.size(); id++) {
+                if (bidders.get(id) != null) withdraw(id);
+            }
+        }
+        Log.info(Log.ECONOMY, "Auto-gather {}").arg(enabled ? "enabled" : "disabled").commit();
+    }
+
+    public boolean isEnabled() { return enabled; }
+
+    // ===== UPDATE =====
+
+    public void update(ArrayList<Unit> playerUnits) {
+        if (!enabled) return;
+
+        if (scanDue) {
+            scanDue = false;
+            scanWorkers(playerUnits);
+        }
+
+        if (solver.getPendingCount() > 0) {
+            int bids = solver.solve(this, MAX_BIDS_PER_UPDATE);
+            applyChanges();
+            Log.trace(Log.ECONOMY, "Auto-gather: {} bids, {} pending").arg(bids).arg(solver.getPendingCount()).commit();
+        }
+    }
+
+    /**
+     * Enroll new idle workers and drop ones that died or were given manual orders.
+     * A player move clears the worker's bidder id (Worker.commandMove), which
+     * releases its slot here; it is only enrolled again once it stands idle.
+     */
+    private void scanWorkers(ArrayList<Unit> playerUnits) {
+        for (int id = 0; id < bidders.size(); id++) {
+            Worker worker = bidders.get(id);
+            if (worker == null) continue;
+
+            if (!worker.isAlive() || worker.getAutoGatherId() != id) {
+                // Died (possibly already recycled by the pool) or ordered elsewhere by the player
+                releaseId(id);
+                continue;
+            }
+
+            ResourceNode boundNode = worker.getTargetResourceNode();
+            if (boundNode != null && boundNode != appliedNodes.get(id) && !boundNode.isDepleted()) {
+                // Player sent this worker somewhere else
+                withdraw(id);
+            } else if (worker.getState() == Worker.WorkerState.IDLE) {
+                ResourceNode assignedNode = getAssignedNode(id);
+                if (assignedNode != null) {
+                    appliedNodes.set(id, assignedNode);
+                    worker.gatherFrom(assignedNode);
+                } else {
+                    solver.enqueue(id); // nodes may have freed up since the last bid
+                }
+            }
+        }
+
+        for (int i = 0, n = playerUnits.size(); i < n; i++) {
+            Unit unit = playerUnits.get(i);
+            if (!(unit instanceof Worker) || !unit.isAlive()) continue;
+            Worker worker = (Worker) unit;
+            if (!worker.isAutoGathering() && worker.getState() == Worker.WorkerState.IDLE && !worker.isMoving()) {
+                enroll(worker);
+            }
+        }
+    }
+
+    /**
+     * Point every worker whose slot changed at its new node
+     */
+    private void applyChanges() {
+        for (int i = 0, n = solver.getChangedCount(); i < n; i++) {
+            int id = solver.getChanged(i);
+            Worker worker = id < bidders.size() ? bidders.get(id) : null;
+            if (worker == null || worker.getAutoGatherId() != id) continue;
+
+            ResourceNode node = getAssignedNode(id);
+            appliedNodes.set(id, node);
+            if (worker.getState() == Worker.WorkerState.RETURNING_RESOURCES) {
+                worker.bindResourceNode(node); // goes there after delivering
+            } else if (node != null) {
+                if (worker.getTargetResourceNode() != node) worker.gatherFrom(node);
+            } else if (worker.getState() != Worker.WorkerState.IDLE) {
+                worker.setState(Worker.WorkerState.IDLE);
+            }
+        }
+        solver.clearChanged();
+    }
+
+    // ===== MARKET =====
+
+    @Override
+    public int candidates(int bidder, int[] out) {
+        Vector2 pos = bidders.get(bidder).getPosition();
+        int found = buildingManager.queryResourceNodes(pos.x, pos.y, CANDIDATE_RANGE, nodeHandles);
+        int count = 0;
+        for (int i = 0; i < found; i++) {
+            int first = nodeHandles[i] * SLOTS_PER_NODE;
+            for (int s = 0; s < SLOTS_PER_NODE; s++) {
+                out[count++] = first + s;
+            }
+        }
+        return count;
+    }
+
+    @Override
+    public float benefit(int bidder, int object) {
+        ResourceNode node = nodes.get(object / SLOTS_PER_NODE);
+        Vector2 pos = bidders.get(bidder).getPosition();
+        Vector2 nodePos = node.getPosition();
+        DistanceField depots = buildingManager.getDepotField();
+
+        float cost = pos.dst(nodePos) + depots.getDistance(nodePos.x, nodePos.y);
+        return MAX_TRIP_COST - cost;
+    }
+
+    // ===== BIDDERS =====
+
+    private void enroll(Worker worker) {
+        int id;
+        if (freeCount > 0) {
+            id = freeIds[--freeCount];
+            bidders.set(id, worker);
+            appliedNodes.set(id, null);
+        } else {
+            id = bidders.size();
+            bidders.add(worker);
+            appliedNodes.add(null);
+        }
+        worker.setAutoGatherId(id);
+        solver.enqueue(id);
+    }
+
+    /**
+     * Hand a worker back to manual control
+     */
+    private void withdraw(int id) {
+        Worker worker = bidders.get(id);
+        if (worker.getAutoGatherId() == id) worker.setAutoGatherId(-1);
+        releaseId(id);
+    }
+
+    private void releaseId(int id) {
+        solver.release(id);
+        bidders.set(id, null);
+        appliedNodes.set(id, null);
+        if (freeCount == freeIds.length) {
+            freeIds = Arrays.copyOf(freeIds, freeCount * 2);
+        }
+        freeIds[freeCount++] = id;
+    }
+
+    private ResourceNode getAssignedNode(int id) {
+        int slot = solver.getAssigned(id);
+        return slot >= 0 ? nodes.get(slot / SLOTS_PER_NODE) : null;
+    }
+
+    public int getManagedCount() { return bidders.size() - freeCount; }
+}
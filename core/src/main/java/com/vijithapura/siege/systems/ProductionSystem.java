@@ -0,0 +1,131 @@
+package com.vijithapura.siege.systems;
+
+import com.badlogic.gdx.math.Vector2;
+import com.vijithapura.siege.dsa.UnitQueue;
+import com.vijithapura.siege.entities.Building;
+import com.vijithapura.siege.entities.Unit;
+import com.vijithapura.siege.utils.Constants;
+import com.vijithapura.siege.utils.Log;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.PriorityQueue;
+
+/**
+ * Unit production across all buildings.
+ * Every Barracks and Command Center owns a UnitQueue; the building whose
+ * front order finishes first sits at the top of one shared priority queue
+ * keyed by absolute completion time, so an update only looks at the head
+ * instead of ticking every queue.
+ */
+public class ProductionSystem {
+    public static final int BATCH_SIZE = 5; // shift-queue
+
+    private static final Comparator<Building> BY_DEADLINE =
+        (a, b) -> Float.compare(a.getProductionQueue().getDeadline(), b.getProductionQueue().getDeadline());
+
+    private final PriorityQueue<Building> deadlines = new PriorityQueue<>(8, BY_DEADLINE);
+    private final ArrayList<Building> buildings;
+    private final UnitManager unitManager;
+
+    public ProductionSystem(ArrayList<Building> buildings, UnitManager unitManager) {
+        this.buildings = buildings;
+        this.unitManager = unitManager;
+    }
+
+    // ===== QUEUEING =====
+
+    /**
+     * Building that can train this type with the shortest queue, or null if all are full
+     */
+    public Building findProducer(Unit.UnitType type) {
+        float now = TimerSystem.now();
+        Building best = null;
+        float bestWait = Float.MAX_VALUE;
+
+        for (int i = 0, n = buildings.size(); i < n; i++) {
+            Building building = buildings.get(i);
+            if (!canTrain(building, type) || building.getProductionQueue().isFull()) continue;
+            float wait = building.getProductionQueue().getTotalRemaining(now);
+            if (wait < bestWait) {
+                bestWait = wait;
+                best = building;
+            }
+        }
+        return best;
+    }
+
+    /**
+     * Queue one unit; training starts immediately when the building is idle
+     */
+    public void enqueue(Building building, Unit.UnitType type) {
+        UnitQueue queue = building.getProductionQueue();
+        if (!queue.enqueue(type, getTrainingTime(type))) return;
+
+        if (queue.size() == 1) {
+            queue.start(TimerSystem.now());
+            deadlines.add(building);
+        }
+        Log.debug(Log.UNITS, "{} queued at {} ({} in queue)")
+            .arg(type).arg(building.getName()).arg(queue.size()).commit();
+    }
+
+    // ===== UPDATE =====
+
+    /**
+     * Complete every order whose deadline has passed
+     */
+    public void update() {
+        float now = TimerSystem.now();
+
+        while (!deadlines.isEmpty() && deadlines.peek().getProductionQueue().getDeadline() <= now) {
+            Building building = deadlines.poll();
+            UnitQueue queue = building.getProductionQueue();
+            float finishedAt = queue.getDeadline();
+
+            Unit.UnitType type = queue.poll();
+            Vector2 spawn = building.getSpawnPosition();
+            unitManager.spawnPlayerUnit(type, spawn.x, spawn.y);
+            Log.debug(Log.UNITS, "{} trained at {}").arg(type).arg(building.getName()).commit();
+
+            // Chain from the previous deadline so frame boundaries don't add delay
+            if (!queue.isEmpty()) {
+                queue.start(finishedAt);
+                deadlines.add(building);
+            }
+        }
+    }
+
+    /**
+     * Drop a building's orders (e.g. when it is removed)
+     */
+    public void cancelAll(Building building) {
+        if (building.getProductionQueue() == null) return;
+        deadlines.remove(building);
+        building.getProductionQueue().clear();
+    }
+
+    // ===== RULES =====
+
+    public static boolean canTrain(Building building, Unit.UnitType type) {
+        if (building.getProductionQueue() == null || !building.isConstructed()) return false;
+        if (type == Unit.UnitType.WORKER) {
+            return building.getType() == Building.BuildingType.COMMAND_CENTER;
+        }
+        return building.getType() == Building.BuildingType.BARRACKS;
+    }
+
+    public static float getTrainingTime(Unit.UnitType type) {
+        switch (type) {
+            case WORKER: return Constants.WORKER_TRAINING_TIME;
+            case SOLDIER: return Constants.SOLDIER_TRAINING_TIME;
+            case ARCHER: return Constants.ARCHER_TRAINING_TIME;
+            case CAVALRY: return Constants.CAVALRY_TRAINING_TIME;
+            case CHAMPION: return Constants.CHAMPION_TRAINING_TIME;
+            case SIEGE_RAM: return Constants.RAM_TRAINING_TIME;
+            default: return Constants.SOLDIER_TRAINING_TIME;
+        }
+    }
+
+    public int getActiveProducers() { return deadlines.size(); }
+}
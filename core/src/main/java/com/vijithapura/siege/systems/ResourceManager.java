@@ -1,13 +1,16 @@
 package com.vijithapura.siege.systems;
 
-import com.badlogic.gdx.Gdx;
 import com.badlogic.gdx.graphics.Color;
+import com.badlogic.gdx.math.Vector2;
+import com.vijithapura.siege.dsa.TimingWheel;
 import com.vijithapura.siege.entities.*;
+import com.vijithapura.siege.utils.Log;
 import java.util.ArrayList;
 
 /**
  * Manages resource gathering and storage
- * Fixes the worker resource collection bug
+ * Workers load up at their node every gather cycle; the stockpile only grows
+ * when a load is delivered to a depot (RESOURCES_DELIVERED)
  */
 public class ResourceManager {
     private int gold;
@@ -15,8 +18,12 @@ public class ResourceManager {
     private int stone;
     private int food;
 
-    private float gatherTimer;
+    private final TimingWheel.Timer gatherCycleTimer;
+    private boolean gatherDue;
     private static final float GATHER_INTERVAL = 2.0f;
+    private static final float GATHER_RANGE = 50f;
+    private static final int GATHER_AMOUNT = 10;
+    private static final float AUTO_ASSIGN_RANGE = 300f;
 
     private ArrayList<Notification> notifications;
 
@@ -25,101 +32,104 @@ public class ResourceManager {
         this.wood = startWood;
         this.stone = startStone;
         this.food = startFood;
-        this.gatherTimer = 0;
         this.notifications = new ArrayList<>();
-    }
 
-    public void update(float delta, ArrayList<Unit> playerUnits, ArrayList<ResourceNode> resourceNodes) {
-        gatherTimer += delta;
+        // Repeating gather cycle driven by the shared timing wheel
+        this.gatherCycleTimer = new TimingWheel.Timer(t -> {
+            gatherDue = true;
+            TimerSystem.schedule(t, GATHER_INTERVAL);
+        });
+        TimerSystem.schedule(gatherCycleTimer, GATHER_INTERVAL);
 
-        if (gatherTimer >= GATHER_INTERVAL) {
-            gatherTimer = 0;
-            processResourceGathering(playerUnits, resourceNodes);
-        }
+        EventBus.subscribe(GameEvent.Type.WAVE_CLEARED, event -> addGold((int) event.amount));
+        EventBus.subscribe(GameEvent.Type.RESOURCES_DELIVERED, this::onResourcesDelivered);
     }
 
-    private void processResourceGathering(ArrayList<Unit> playerUnits, ArrayList<ResourceNode> resourceNodes) {
-        int woodGathered = 0;
-        int stoneGathered = 0;
+    public void update(float delta, ArrayList<Unit> playerUnits, BuildingManager buildingManager) {
+        if (gatherDue) {
+            gatherDue = false;
+            processResourceGathering(playerUnits, buildingManager);
+        }
+    }
 
-        for (Unit unit : playerUnits) {
+    private void processResourceGathering(ArrayList<Unit> playerUnits, BuildingManager buildingManager) {
+        for (int i = 0, n = playerUnits.size(); i < n; i++) {
+            Unit unit = playerUnits.get(i);
             if (!(unit instanceof Worker) || !unit.isAlive()) continue;
 
             Worker worker = (Worker) unit;
 
-            // Check if worker is gathering from a resource node
+            // Workers gather from the node they are bound to
             if (worker.getState() == Worker.WorkerState.GATHERING) {
-                ResourceNode targetNode = findNearestResourceNode(worker, resourceNodes);
+                ResourceNode targetNode = worker.getTargetResourceNode();
 
-                if (targetNode != null && !targetNode.isDepleted()) {
-                    int gathered = targetNode.gather(10); // Gather 10 units
+                if (targetNode != null && worker.getPosition().dst(targetNode.getPosition()) < GATHER_RANGE) {
+                    // Still holding a load of another type from an interrupted trip: drop it off first
+                    if (worker.getCarriedResources() > 0 && worker.getCarriedType() != targetNode.getType()) {
+                        worker.returnToDepot(buildingManager.getDepotField());
+                        continue;
+                    }
+
+                    int gathered = targetNode.gather(Math.min(GATHER_AMOUNT, worker.getFreeCapacity()));
 
                     if (gathered > 0) {
-                        if (targetNode.getType() == ResourceNode.ResourceType.WOOD) {
-                            woodGathered += gathered;
-                        } else if (targetNode.getType() == ResourceNode.ResourceType.STONE) {
-                            stoneGathered += gathered;
-                        }
-
-                        Gdx.app.log("ResourceManager", worker.getName() + " gathered " +
-                            gathered + " " + targetNode.getType());
+                        worker.carry(targetNode.getType(), gathered);
+                        Log.debug(Log.ECONOMY, "{} gathered {} {}")
+                            .arg(worker.getName()).arg(gathered).arg(targetNode.getType()).commit();
+                    }
+
+                    // If node depleted, bind the nearest node of the same type for the next trip
+                    // (auto-gathering workers are re-bound by GatherAssignment instead)
+                    if (targetNode.isDepleted() && !worker.isAutoGathering()) {
+                        rebindWorker(worker, targetNode, buildingManager);
                     }
 
-                    // If node depleted, worker goes idle
-                    if (targetNode.isDepleted()) {
-                        worker.setState(Worker.WorkerState.IDLE);
+                    // Full (or nothing left here): carry the load to the nearest drop-off
+                    if (worker.getCarriedResources() > 0 && (worker.isFull() || targetNode.isDepleted())) {
+                        worker.returnToDepot(buildingManager.getDepotField());
+                    } else if (targetNode.isDepleted() && !worker.isAutoGathering()) {
+                        ResourceNode next = worker.getTargetResourceNode();
+                        if (next != null) worker.gatherFrom(next);
+                        else worker.setState(Worker.WorkerState.IDLE);
                     }
                 }
             }
         }
-
-        // Add gathered resources
-        if (woodGathered > 0) {
-            addWood(woodGathered);
-            Gdx.app.log("ResourceManager", "Total wood gathered this cycle: " + woodGathered);
-        }
-        if (stoneGathered > 0) {
-            addStone(stoneGathered);
-            Gdx.app.log("ResourceManager", "Total stone gathered this cycle: " + stoneGathered);
-        }
     }
 
-    private ResourceNode findNearestResourceNode(Worker worker, ArrayList<ResourceNode> nodes) {
-        ResourceNode nearest = null;
-        float minDist = 50f; // Gathering range
-
-        for (ResourceNode node : nodes) {
-            if (node.isDepleted()) continue;
+    private void rebindWorker(Worker worker, ResourceNode depleted, BuildingManager buildingManager) {
+        Vector2 pos = worker.getPosition();
+        worker.bindResourceNode(
+            buildingManager.findNearestResourceNode(pos.x, pos.y, AUTO_ASSIGN_RANGE, depleted.getType()));
+    }
 
-            float dist = worker.getPosition().dst(node.getPosition());
-            if (dist < minDist) {
-                minDist = dist;
-                nearest = node;
-            }
+    private void onResourcesDelivered(GameEvent event) {
+        switch (event.resourceType) {
+            case WOOD: addWood(event.value); break;
+            case STONE: addStone(event.value); break;
+            case GOLD: addGold(event.value); break;
         }
-
-        return nearest;
     }
 
     // Resource modification methods
     public void addGold(int amount) {
         gold += amount;
-        Gdx.app.log("ResourceManager", "Gold: " + gold + " (+" + amount + ")");
+        Log.debug(Log.ECONOMY, "Gold: {} (+{})").arg(gold).arg(amount).commit();
     }
 
     public void addWood(int amount) {
         wood += amount;
-        Gdx.app.log("ResourceManager", "Wood: " + wood + " (+" + amount + ")");
+        Log.debug(Log.ECONOMY, "Wood: {} (+{})").arg(wood).arg(amount).commit();
     }
 
     public void addStone(int amount) {
         stone += amount;
-        Gdx.app.log("ResourceManager", "Stone: " + stone + " (+" + amount + ")");
+        Log.debug(Log.ECONOMY, "Stone: {} (+{})").arg(stone).arg(amount).commit();
     }
 
     public void addFood(int amount) {
         food += amount;
-        Gdx.app.log("ResourceManager", "Food: " + food + " (+" + amount + ")");
+        Log.debug(Log.ECONOMY, "Food: {} (+{})").arg(food).arg(amount).commit();
     }
 
     public boolean canAfford(int goldCost, int woodCost, int stoneCost, int foodCost) {
@@ -133,8 +143,8 @@ public class ResourceManager {
         stone -= stoneCost;
         food -= foodCost;
 
-        Gdx.app.log("ResourceManager", "Spent - Gold: " + goldCost +
-            ", Wood: " + woodCost + ", Stone: " + stoneCost + ", Food: " + foodCost);
+        Log.info(Log.ECONOMY, "Spent - Gold: {}, Wood: {}, Stone: {}, Food: {}")
+            .arg(goldCost).arg(woodCost).arg(stoneCost).arg(foodCost).commit();
     }
 
     // Getters
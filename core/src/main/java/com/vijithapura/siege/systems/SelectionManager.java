@@ -23,7 +23,25 @@ public class SelectionManager {
     }
 
     public void update(float delta) {
-        // Update selection state
+        pruneSelection();
+    }
+
+    /**
+     * Drop dead units. Pooled units come back deselected, so a recycled unit
+     * is dropped too even if its slot already holds a new live unit.
+     * Runs before every command as well, since units can be recycled between frames.
+     */
+    private void pruneSelection() {
+        int write = 0;
+        for (int i = 0, n = selectedUnits.size(); i < n; i++) {
+            Unit unit = selectedUnits.get(i);
+            if (unit != null && unit.isAlive() && unit.isSelected()) {
+                selectedUnits.set(write++, unit);
+            }
+        }
+        for (int i = selectedUnits.size() - 1; i >= write; i--) {
+            selectedUnits.remove(i);
+        }
     }
 
     public void handleLeftClick(float worldX, float worldY, ArrayList<Unit> playerUnits,
@@ -43,25 +61,25 @@ public class SelectionManager {
 
             if (dist < unit.getSize() * 2 + 10) {
                 selectUnit(unit, effects);
-                notifications.add(new Notification(unit.getName() + " selected", Color.YELLOW));
+                notifications.add(EntityPools.obtainNotification(unit.getName() + " selected", Color.YELLOW));
                 return;
             }
         }
     }
 
     public void handleRightClick(float worldX, float worldY, ArrayList<Unit> enemyUnits,
-                                 ArrayList<Gate> gates, ArrayList<ResourceNode> resourceNodes,
+                                 ArrayList<Gate> gates, BuildingManager buildingManager,
                                  ArrayList<Notification> notifications) {
 
+        pruneSelection();
         if (selectedUnits.isEmpty()) return;
 
         // Check for resource nodes
-        for (ResourceNode node : resourceNodes) {
-            if (node.isNearby(new Vector2(worldX, worldY), 30)) {
-                assignWorkersToGather(node);
-                notifications.add(new Notification("Gathering " + node.getType(), Color.CYAN));
-                return;
-            }
+        ResourceNode node = buildingManager.findResourceNodeAt(worldX, worldY, 30);
+        if (node != null) {
+            assignWorkersToGather(node);
+            notifications.add(EntityPools.obtainNotification("Gathering " + node.getType(), Color.CYAN));
+            return;
         }
 
         // Check for enemy units
@@ -71,14 +89,14 @@ public class SelectionManager {
                 enemy.getPosition().x, enemy.getPosition().y);
             if (dist < enemy.getSize() * 2) {
                 attackTarget(enemy);
-                notifications.add(new Notification("Attack " + enemy.getName(), Color.ORANGE));
+                notifications.add(EntityPools.obtainNotification("Attack " + enemy.getName(), Color.ORANGE));
                 return;
             }
         }
 
         // Move command
         moveUnits(worldX, worldY);
-        notifications.add(new Notification("Moving " + selectedUnits.size() + " units", Color.CYAN));
+        notifications.add(EntityPools.obtainNotification("Moving " + selectedUnits.size() + " units", Color.CYAN));
     }
 
     private void assignWorkersToGather(ResourceNode node) {
@@ -97,7 +115,7 @@ public class SelectionManager {
 
     private void moveUnits(float x, float y) {
         for (Unit unit : selectedUnits) {
-            unit.moveTo(x, y);
+            CommandExecutor.moveUnit(unit, x, y);
         }
     }
 
@@ -148,7 +166,10 @@ public class SelectionManager {
         selectedUnits.clear();
     }
 
-    public ArrayList<Unit> getSelectedUnits() { return selectedUnits; }
+    public ArrayList<Unit> getSelectedUnits() {
+        pruneSelection();
+        return selectedUnits;
+    }
     public boolean isSelecting() { return isSelecting; }
     public Vector2 getSelectionStart() { return selectionStart; }
     public Vector2 getSelectionEnd() { return selectionEnd; }
@@ -0,0 +1,96 @@
+package com.vijithapura.siege.systems;
+
+import com.badlogic.gdx.graphics.OrthographicCamera;
+import com.badlogic.gdx.math.Vector2;
+import com.vijithapura.siege.entities.Unit;
+
+import java.util.Arrays;
+
+/**
+ * Simulation level of detail: decides how often each unit runs Unit.update.
+ * Units near the camera or in combat tick every frame; idle or distant units
+ * tick every 4th or 8th frame with the skipped time accumulated, so they end
+ * up in the same place. Updates are staggered by unit id to spread the load.
+ * Any event on a unit (damage, attack, new command) keeps it at full rate
+ * for WAKE_HOLD seconds, starting with the very next frame.
+ */
+public class SimulationLod {
+    public enum Tier {
+        FULL(1),
+        QUARTER(4),
+        EIGHTH(8);
+
+        public final int interval; // frames between updates (power of two)
+
+        Tier(int interval) {
+            this.interval = interval;
+        }
+    }
+
+    private static final Tier[] TIERS = Tier.values();
+    private static final float NEAR_MARGIN = 256f; // world units around the visible area
+    private static final float WAKE_HOLD = 1.0f;
+
+    private float viewMinX, viewMinY, viewMaxX, viewMaxY;
+    private boolean hasView;
+    private int frame;
+    private final int[] tierCounts = new int[TIERS.length];
+    private int updatedCount;
+
+    /**
+     * Use the camera's visible rectangle (plus a margin) as the "near" area
+     */
+    public void setView(OrthographicCamera camera) {
+        float halfW = camera.viewportWidth * camera.zoom / 2 + NEAR_MARGIN;
+        float halfH = camera.viewportHeight * camera.zoom / 2 + NEAR_MARGIN;
+        viewMinX = camera.position.x - halfW;
+        viewMaxX = camera.position.x + halfW;
+        viewMinY = camera.position.y - halfH;
+        viewMaxY = camera.position.y + halfH;
+        hasView = true;
+    }
+
+    /**
+     * Reset the per-frame counters
+     */
+    public void beginFrame() {
+        frame++;
+        Arrays.fill(tierCounts, 0);
+        updatedCount = 0;
+    }
+
+    /**
+     * Update a unit if its tier is due this frame, otherwise bank the time
+     */
+    public void update(Unit unit, float delta) {
+        Tier tier = classify(unit);
+        tierCounts[tier.ordinal()]++;
+
+        unit.addPendingDelta(delta);
+        if (tier == Tier.FULL || ((frame + unit.getId()) & (tier.interval - 1)) == 0) {
+            unit.update(unit.takePendingDelta());
+            updatedCount++;
+        }
+    }
+
+    private Tier classify(Unit unit) {
+        if (!unit.isAlive()) return Tier.FULL;
+        if (unit.isSelected() || unit.isAttacking() || unit.getCurrentTarget() != null
+            || TimerSystem.now() - unit.getLastEventTime() < WAKE_HOLD) {
+            return Tier.FULL;
+        }
+
+        boolean idle = !unit.isMoving();
+        if (isNearView(unit.getPosition())) {
+            return idle ? Tier.QUARTER : Tier.FULL;
+        }
+        return idle ? Tier.EIGHTH : Tier.QUARTER;
+    }
+
+    private boolean isNearView(Vector2 pos) {
+        return !hasView || (pos.x >= viewMinX && pos.x <= viewMaxX && pos.y >= viewMinY && pos.y <= viewMaxY);
+    }
+
+    public int getTierCount(Tier tier) { return tierCounts[tier.ordinal()]; }
+    public int getUpdatedCount() { return updatedCount; }
+}
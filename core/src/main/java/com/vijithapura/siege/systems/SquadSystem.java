@@ -0,0 +1,210 @@
+package com.vijithapura.siege.systems;
+
+import com.badlogic.gdx.math.Vector2;
+import com.vijithapura.siege.dsa.ObjectPool;
+import com.vijithapura.siege.dsa.SpatialGrid;
+import com.vijithapura.siege.entities.Gate;
+import com.vijithapura.siege.entities.Squad;
+import com.vijithapura.siege.entities.Unit;
+import com.vijithapura.siege.utils.Log;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+
+/**
+ * Groups disengaged enemies into squads and simulates collapsed squads as one
+ * entity: a single march toward the nearest gate instead of per-unit AI,
+ * movement and combat searches. A squad expands back into individual units
+ * when a player unit or an attacked gate comes within engagement range, and
+ * collapses again once it has been calm for a while.
+ */
+public class SquadSystem {
+    private static final float ENGAGE_RANGE = 350f;    // beyond EnemyAI.ATTACK_RANGE plus a fast unit's reaction margin
+    private static final float DISENGAGE_RANGE = 450f; // hysteresis so squads do not flicker at the boundary
+    private static final float COLLAPSE_DELAY = 2f;
+    private static final float FORM_INTERVAL = 0.5f;
+    private static final float SQUAD_RADIUS = 120f;    // neighbourhood gathered into a new squad
+    private static final float MAX_COLLAPSE_RADIUS = 250f;
+    private static final int MIN_MEMBERS = 4;
+    private static final int SQUAD_PREWARM = 64;       // squads for a large wave, so forming them mid-battle does not allocate
+
+    private final ArrayList<Squad> squads = new ArrayList<>(SQUAD_PREWARM);
+    private final ObjectPool<Squad> squadPool = new ObjectPool<>(Squad::new, SQUAD_PREWARM, 256);
+    private final int[] neighbours = new int[64];
+    private int[] threatHandles = new int[256];
+    private final Unit[] candidates = new Unit[Squad.MAX_MEMBERS];
+
+    private float[] gateHealth = new float[4];
+    private boolean[] gateUnderAttack = new boolean[4];
+    private float formTimer;
+    private int collapsedUnits;
+
+    public SquadSystem() {
+        squadPool.fill(SQUAD_PREWARM);
+    }
+
+    /**
+     * Advance all squads and periodically group loose enemies
+     * @param grid Spatial grid rebuilt this tick (player units and loose enemies)
+     */
+    public void update(float delta, ArrayList<Unit> enemyUnits, ArrayList<Gate> gates, SpatialGrid<Unit> grid) {
+        updateGateAttacks(gates);
+
+        collapsedUnits = 0;
+        int write = 0;
+        for (int i = 0, n = squads.size(); i < n; i++) {
+            Squad squad = squads.get(i);
+            squad.refresh();
+            // Expanded squads worn down below the minimum just fight on as loose units
+            if (squad.isEmpty() || (!squad.isCollapsed() && squad.getMemberCount() < MIN_MEMBERS)) {
+                release(squad);
+                continue;
+            }
+            updateSquad(squad, delta, gates, grid);
+            if (squad.isCollapsed()) collapsedUnits += squad.getMemberCount();
+            squads.set(write++, squad);
+        }
+        for (int i = squads.size() - 1; i >= write; i--) {
+            squads.remove(i);
+        }
+
+        formTimer += delta;
+        if (formTimer >= FORM_INTERVAL) {
+            formTimer = 0;
+            formSquads(enemyUnits, gates, grid);
+        }
+    }
+
+    private void updateSquad(Squad squad, float delta, ArrayList<Gate> gates, SpatialGrid<Unit> grid) {
+        Vector2 centroid = squad.getCentroid();
+
+        if (squad.isCollapsed()) {
+            if (isThreatened(centroid.x, centroid.y, squad.getRadius() + ENGAGE_RANGE, gates, grid)) {
+                squad.expand();
+                Log.debug(Log.UNITS, "Squad of {} expanded at ({}, {})")
+                    .arg(squad.getMemberCount()).arg(centroid.x).arg(centroid.y).commit();
+                return;
+            }
+            march(squad, delta, gates);
+            return;
+        }
+
+        if (isThreatened(centroid.x, centroid.y, squad.getRadius() + DISENGAGE_RANGE, gates, grid)) {
+            squad.setCalmTime(0);
+            return;
+        }
+        squad.setCalmTime(squad.getCalmTime() + delta);
+        if (squad.getCalmTime() < COLLAPSE_DELAY) return;
+
+        if (squad.getRadius() <= MAX_COLLAPSE_RADIUS) {
+            squad.collapse();
+            squad.setTargetGate(null);
+        } else {
+            // Scattered while fighting: let the formation pass regroup the survivors
+            squad.disband();
+        }
+    }
+
+    /**
+     * Aggregate version of EnemyAI's guard behaviour: head for the nearest gate
+     * and hold within defend range of it
+     */
+    private void march(Squad squad, float delta, ArrayList<Gate> gates) {
+        Vector2 centroid = squad.getCentroid();
+        Gate gate = squad.getTargetGate();
+        if (gate == null || gate.isDestroyed()) {
+            gate = EnemyAI.findNearestGate(centroid, gates);
+            squad.setTargetGate(gate);
+            if (gate == null) return;
+        }
+
+        Vector2 gatePos = gate.getCenter();
+        float dx = gatePos.x - centroid.x;
+        float dy = gatePos.y - centroid.y;
+        float distance = (float) Math.sqrt(dx * dx + dy * dy);
+        float remaining = distance - EnemyAI.DEFEND_RANGE;
+        if (remaining <= 0) return;
+
+        float step = Math.min(squad.getSpeed() * delta, remaining) / distance;
+        squad.translate(dx * step, dy * step);
+    }
+
+    /**
+     * Seed new collapsed squads from loose, disengaged enemies near each other
+     */
+    private void formSquads(ArrayList<Unit> enemyUnits, ArrayList<Gate> gates, SpatialGrid<Unit> grid) {
+        for (int i = 0, n = enemyUnits.size(); i < n; i++) {
+            Unit seed = enemyUnits.get(i);
+            if (!seed.isAlive() || seed.getSquad() != null) continue;
+
+            Vector2 pos = seed.getPosition();
+            if (isThreatened(pos.x, pos.y, SQUAD_RADIUS + DISENGAGE_RANGE, gates, grid)) continue;
+
+            int count = 0;
+            candidates[count++] = seed;
+            int found = grid.query(pos.x, pos.y, SQUAD_RADIUS, neighbours);
+            for (int k = 0; k < found && count < candidates.length; k++) {
+                Unit other = grid.get(neighbours[k]);
+                if (other == seed || other.getTeamId() != seed.getTeamId()
+                    || !other.isAlive() || other.getSquad() != null) continue;
+                candidates[count++] = other;
+            }
+            if (count < MIN_MEMBERS) continue;
+
+            Squad squad = squadPool.obtain();
+            for (int k = 0; k < count; k++) {
+                squad.addMember(candidates[k]);
+                candidates[k] = null;
+            }
+            squad.refresh();
+            squad.collapse();
+            squads.add(squad);
+            Log.debug(Log.UNITS, "Formed squad of {} (hp {}, dps {})")
+                .arg(count).arg(squad.getTotalHealth()).arg(squad.getTotalDps()).commit();
+        }
+    }
+
+    /**
+     * True if a living player unit, or a gate that took damage this tick, is within range.
+     * Player units come from the grid, so only the cells the range overlaps are visited.
+     */
+    private boolean isThreatened(float x, float y, float range, ArrayList<Gate> gates, SpatialGrid<Unit> grid) {
+        if (threatHandles.length < grid.size()) threatHandles = new int[grid.size() * 2];
+        int found = grid.query(x, y, range, threatHandles);
+        for (int i = 0; i < found; i++) {
+            Unit unit = grid.get(threatHandles[i]);
+            if (unit.getTeamId() == WorldStats.PLAYER_TEAM && unit.isAlive()) return true;
+        }
+
+        float rangeSq = range * range;
+        for (int i = 0, n = gates.size(); i < n; i++) {
+            if (!gateUnderAttack[i]) continue;
+            Vector2 c = gates.get(i).getCenter();
+            float dx = c.x - x;
+            float dy = c.y - y;
+            if (dx * dx + dy * dy <= rangeSq) return true;
+        }
+        return false;
+    }
+
+    private void updateGateAttacks(ArrayList<Gate> gates) {
+        int n = gates.size();
+        if (n > gateHealth.length) {
+            gateHealth = Arrays.copyOf(gateHealth, n);
+            gateUnderAttack = new boolean[n];
+        }
+        for (int i = 0; i < n; i++) {
+            float health = gates.get(i).getHealth();
+            gateUnderAttack[i] = health < gateHealth[i];
+            gateHealth[i] = health;
+        }
+    }
+
+    private void release(Squad squad) {
+        squad.disband();
+        squadPool.free(squad);
+    }
+
+    public ArrayList<Squad> getSquads() { return squads; }
+    public int getCollapsedUnitCount() { return collapsedUnits; }
+}
@@ -0,0 +1,353 @@
+package com.vijithapura.siege.systems;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.graphics.GL20;
+import com.badlogic.gdx.graphics.OrthographicCamera;
+import com.badlogic.gdx.graphics.Pixmap;
+import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.graphics.g2d.SpriteBatch;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
+import com.badlogic.gdx.graphics.glutils.FrameBuffer;
+import com.badlogic.gdx.graphics.glutils.ShapeRenderer;
+import com.badlogic.gdx.math.Rectangle;
+import com.badlogic.gdx.math.Vector2;
+import com.vijithapura.siege.dsa.LruSlots;
+import com.vijithapura.siege.dsa.RenderQueue;
+import com.vijithapura.siege.entities.Building;
+import com.vijithapura.siege.entities.Gate;
+import com.vijithapura.siege.entities.ResourceNode;
+import com.vijithapura.siege.utils.Constants;
+import com.vijithapura.siege.utils.Log;
+import com.vijithapura.siege.utils.TextureManager;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+
+/**
+ * The parts of the world that almost never change - grass, fortress,
+ * resource nodes, finished buildings and gate walls - pre-rendered into
+ * FrameBuffer tiles. A frame then costs one textured quad per visible tile.
+ *
+ * Tiles come in a few resolution levels. Level 0 has one texel per screen
+ * pixel at CAMERA_ZOOM_MIN, and each further level halves the resolution
+ * and doubles the world area of a tile. A frame uses the coarsest level
+ * that is still not magnified at its zoom. Every tile is the same size in
+ * texels, so the number of visible tiles stays about the same at any zoom.
+ *
+ * FrameBuffers live in a bounded LRU pool (LruSlots) sized to the visible
+ * tiles plus SPARE_TILES. A tile that comes into view takes the slot of the
+ * least recently drawn one. Tiles are rendered when they get a slot and
+ * again only after something on them changed (a node depleted, a building
+ * completed or a gate destroyed). First renders are never deferred, so the
+ * view has no holes; only re-renders of already filled tiles are spread
+ * over frames.
+ */
+public class StaticWorldLayer {
+    private static final int TILE_TEXELS = 512;           // FrameBuffer side, all levels
+    private static final float LEVEL0_TEXELS_PER_UNIT = 1f / Constants.CAMERA_ZOOM_MIN;
+    private static final int LEVELS = 1 + (int) Math.floor(
+        Math.log(Constants.CAMERA_ZOOM_MAX / Constants.CAMERA_ZOOM_MIN) / Math.log(2));
+    private static final int SPARE_TILES = 16;             // off-screen tiles kept for panning or zooming back
+    private static final float GRASS_TILE = 64;
+    private static final int MAX_REDRAWS_PER_FRAME = 4;    // re-renders of stale tiles; new tiles are always filled
+
+    private final BuildingManager buildingManager;
+    private final float[] tileSize = new float[LEVELS];    // world units per tile side
+    private final int[] levelCols = new int[LEVELS];
+    private final int[] levelRows = new int[LEVELS];
+    private final int[] firstKey = new int[LEVELS];        // key of tile (0, 0) of each level
+    private final boolean[] dirty;                         // per key, meaningful while cached
+    private final LruSlots cache;
+    private FrameBuffer[] buffers;                         // per cache slot, created when first needed
+
+    private int level;                                     // level picked by the last update()
+    private int[] visibleKeys = new int[64];
+    private int visibleCount;
+
+    private final RenderQueue queue = new RenderQueue(512);
+    private final ViewCulling tileView = new ViewCulling();
+    private final OrthographicCamera tileCamera = new OrthographicCamera();
+    private int[] handles = new int[512];
+    private int redrawCount;
+
+    public StaticWorldLayer(BuildingManager buildingManager) {
+        this.buildingManager = buildingManager;
+
+        int keys = 0;
+        for (int l = 0; l < LEVELS; l++) {
+            tileSize[l] = TILE_TEXELS / (LEVEL0_TEXELS_PER_UNIT / (1 << l));
+            levelCols[l] = (int) Math.ceil(Constants.MAP_WIDTH / tileSize[l]);
+            levelRows[l] = (int) Math.ceil(Constants.MAP_HEIGHT / tileSize[l]);
+            firstKey[l] = keys;
+            keys += levelCols[l] * levelRows[l];
+        }
+        this.dirty = new boolean[keys];
+        this.cache = new LruSlots(keys, SPARE_TILES * 2);
+        this.buffers = new FrameBuffer[cache.getCapacity()];
+
+        EventBus.subscribe(GameEvent.Type.NODE_DEPLETED, event -> {
+            Vector2 pos = event.node.getPosition();
+            float extent = event.node.getSize();
+            invalidate(pos.x - extent, pos.y - extent, extent * 2, extent * 2);
+        });
+        EventBus.subscribe(GameEvent.Type.BUILDING_COMPLETED, event -> invalidate(event.building.getBounds()));
+        EventBus.subscribe(GameEvent.Type.GATE_DESTROYED, event -> invalidate(event.gate.getBounds()));
+    }
+
+    // ===== INVALIDATION =====
+
+    public void invalidate(Rectangle area) {
+        invalidate(area.x, area.y, area.width, area.height);
+    }
+
+    /**
+     * Mark every tile overlapping the area for redraw, on all levels
+     */
+    public void invalidate(float x, float y, float width, float height) {
+        for (int l = 0; l < LEVELS; l++) {
+            int minCol = clampCol(l, (int) (x / tileSize[l]));
+            int maxCol = clampCol(l, (int) ((x + width) / tileSize[l]));
+            int minRow = clampRow(l, (int) (y / tileSize[l]));
+            int maxRow = clampRow(l, (int) ((y + height) / tileSize[l]));
+            for (int row = minRow; row <= maxRow; row++) {
+                for (int col = minCol; col <= maxCol; col++) {
+                    dirty[firstKey[l] + col + row * levelCols[l]] = true;
+                }
+            }
+        }
+    }
+
+    // ===== RENDERING =====
+
+    /**
+     * Pick the level for this zoom, give every visible tile a FrameBuffer
+     * (rendering the ones that just got theirs) and re-render up to
+     * MAX_REDRAWS_PER_FRAME stale ones. Must run before the world's
+     * projection is set, since it renders with its own.
+     */
+    public void update(ViewCulling view, float zoom, SpriteBatch batch, ShapeRenderer shapes, TextureManager textures) {
+        level = levelFor(zoom);
+        collectVisible(view);
+
+        if (cache.getCapacity() < visibleCount + SPARE_TILES) {
+            cache.grow(visibleCount + SPARE_TILES);
+            buffers = Arrays.copyOf(buffers, cache.getCapacity());
+            Log.info(Log.RENDER, "Static tile cache grown to {} tiles").arg(cache.getCapacity()).commit();
+        }
+
+        // Visible tiles first become the most recent, so the misses below never evict one of them
+        for (int i = 0; i < visibleCount; i++) {
+            cache.touch(visibleKeys[i]);
+        }
+
+        int redrawn = 0;
+        for (int i = 0; i < visibleCount; i++) {
+            int key = visibleKeys[i];
+            int slot = cache.get(key);
+            if (slot < 0) {
+                slot = cache.acquire(key);
+            } else if (!dirty[key] || redrawn == MAX_REDRAWS_PER_FRAME) {
+                // Stale tiles keep showing their old content until their turn comes
+                continue;
+            } else {
+                redrawn++;
+            }
+            renderTile(key, slot, batch, shapes, textures);
+            dirty[key] = false;
+            redrawCount++;
+        }
+    }
+
+    /**
+     * Draw the tiles found visible by the last update(), one quad each. Uses
+     * the world projection already set on the batch, which must not be active.
+     */
+    public void draw(ViewCulling view, SpriteBatch batch) {
+        float size = tileSize[level];
+        int cols = levelCols[level];
+        batch.begin();
+        for (int i = 0; i < visibleCount; i++) {
+            int key = visibleKeys[i];
+            int tile = key - firstKey[level];
+            Texture texture = buffers[cache.get(key)].getColorBufferTexture();
+            // FrameBuffer textures are stored bottom-up
+            batch.draw(texture, (tile % cols) * size, (tile / cols) * size, size, size,
+                0, 0, texture.getWidth(), texture.getHeight(), false, true);
+        }
+        batch.end();
+        view.addDrawn(ViewCulling.Category.STATIC_TILES, visibleCount);
+        view.addCulled(ViewCulling.Category.STATIC_TILES, cols * levelRows[level] - visibleCount);
+    }
+
+    /**
+     * Coarsest level whose texels are still no larger than a screen pixel
+     */
+    private static int levelFor(float zoom) {
+        int l = 0;
+        while (l + 1 < LEVELS && zoom >= Constants.CAMERA_ZOOM_MIN * (2 << l)) l++;
+        return l;
+    }
+
+    private void collectVisible(ViewCulling view) {
+        int firstCol = clampCol(level, (int) (view.getMinX() / tileSize[level]));
+        int lastCol = clampCol(level, (int) (view.getMaxX() / tileSize[level]));
+        int firstRow = clampRow(level, (int) (view.getMinY() / tileSize[level]));
+        int lastRow = clampRow(level, (int) (view.getMaxY() / tileSize[level]));
+
+        int needed = (lastCol - firstCol + 1) * (lastRow - firstRow + 1);
+        if (visibleKeys.length < needed) visibleKeys = new int[needed * 2];
+
+        visibleCount = 0;
+        for (int row = firstRow; row <= lastRow; row++) {
+            for (int col = firstCol; col <= lastCol; col++) {
+                visibleKeys[visibleCount++] = firstKey[level] + col + row * levelCols[level];
+            }
+        }
+    }
+
+    private void renderTile(int key, int slot, SpriteBatch batch, ShapeRenderer shapes, TextureManager textures) {
+        if (buffers[slot] == null) {
+            buffers[slot] = new FrameBuffer(Pixmap.Format.RGB888, TILE_TEXELS, TILE_TEXELS, false);
+            buffers[slot].getColorBufferTexture().setFilter(Texture.TextureFilter.Linear, Texture.TextureFilter.Linear);
+        }
+
+        int tileLevel = levelOf(key);
+        int tile = key - firstKey[tileLevel];
+        int col = tile % levelCols[tileLevel];
+        int row = tile / levelCols[tileLevel];
+        float size = tileSize[tileLevel];
+        float x = col * size;
+        float y = row * size;
+        tileView.setView(x, y, size, size);
+        tileCamera.setToOrtho(false, size, size);
+        tileCamera.position.set(x + size / 2f, y + size / 2f, 0);
+        tileCamera.update();
+
+        FrameBuffer fbo = buffers[slot];
+        fbo.begin();
+        Gdx.gl.glClearColor(0.15f, 0.25f, 0.15f, 1);
+        Gdx.gl.glClear(GL20.GL_COLOR_BUFFER_BIT);
+        batch.setProjectionMatrix(tileCamera.combined);
+        shapes.setProjectionMatrix(tileCamera.combined);
+
+        batch.begin();
+        drawGrass(batch, textures, x, y, x + size, y + size);
+        batch.end();
+
+        submitStatic(tileView, textures);
+        queue.flush(batch, shapes);
+        fbo.end();
+
+        Log.trace(Log.RENDER, "Static tile {},{} (level {}) rendered into slot {}")
+            .arg(col).arg(row).arg(tileLevel).arg(slot).commit();
+    }
+
+    private int levelOf(int key) {
+        int l = LEVELS - 1;
+        while (key < firstKey[l]) l--;
+        return l;
+    }
+
+    /**
+     * Grass over an area: a base layer plus a darker one offset by half a grass tile
+     */
+    private void drawGrass(SpriteBatch batch, TextureManager textures, float x, float y, float right, float top) {
+        TextureRegion grass = textures.getRegion("grass");
+        if (grass == null) return;
+
+        x = Math.max(0, x);
+        y = Math.max(0, y);
+        right = Math.min(Constants.MAP_WIDTH, right);
+        top = Math.min(Constants.MAP_HEIGHT, top);
+
+        // Draw base grass with slight color variation for depth
+        batch.setColor(0.95f, 1.0f, 0.95f, 1.0f);
+        drawGrassLayer(batch, grass, x, right, y, top, 0);
+
+        // Add subtle darker grass overlay for variation
+        batch.setColor(0.85f, 0.95f, 0.85f, 0.3f);
+        drawGrassLayer(batch, grass, x, right, y, top, -GRASS_TILE / 2);
+
+        // Reset color
+        batch.setColor(1, 1, 1, 1);
+    }
+
+    private void drawGrassLayer(SpriteBatch batch, TextureRegion grass, float left, float right,
+                                float bottom, float top, float offset) {
+        int firstCol = (int) Math.floor((left - offset) / GRASS_TILE);
+        int firstRow = (int) Math.floor((bottom - offset) / GRASS_TILE);
+        for (float gy = firstRow * GRASS_TILE + offset; gy < top; gy += GRASS_TILE) {
+            for (float gx = firstCol * GRASS_TILE + offset; gx < right; gx += GRASS_TILE) {
+                batch.draw(grass, gx, gy, GRASS_TILE, GRASS_TILE);
+            }
+        }
+    }
+
+    /**
+     * Queue the fortress, resource nodes, finished buildings and gate walls inside the view
+     */
+    private void submitStatic(ViewCulling view, TextureManager textures) {
+        submitFortress(view, textures);
+        submitResourceNodes(view, textures);
+        submitBuildings(view, textures);
+        ArrayList<Gate> gates = buildingManager.getGates();
+        for (int i = 0, n = gates.size(); i < n; i++) {
+            Rectangle bounds = gates.get(i).getBounds();
+            if (view.isVisible(bounds.x, bounds.y, bounds.width, bounds.height)) {
+                gates.get(i).renderBody(queue, textures);
+            }
+        }
+    }
+
+    private void submitFortress(ViewCulling view, TextureManager textures) {
+        float x = Constants.FORTRESS_X - Constants.FORTRESS_SIZE / 2;
+        float y = Constants.FORTRESS_Y - Constants.FORTRESS_SIZE / 2;
+        if (!view.isVisible(x, y, Constants.FORTRESS_SIZE, Constants.FORTRESS_SIZE)) return;
+
+        TextureRegion castle = textures.getRegion("castle");
+        if (castle != null) {
+            queue.region(RenderQueue.LAYER_TERRAIN, castle, x, y, Constants.FORTRESS_SIZE, Constants.FORTRESS_SIZE);
+        } else {
+            queue.setColor(0.3f, 0.3f, 0.3f, 1);
+            queue.rect(RenderQueue.LAYER_TERRAIN, x, y, Constants.FORTRESS_SIZE, Constants.FORTRESS_SIZE);
+        }
+    }
+
+    private void submitResourceNodes(ViewCulling view, TextureManager textures) {
+        ArrayList<ResourceNode> nodes = buildingManager.getResourceNodes();
+        if (handles.length < nodes.size()) handles = new int[nodes.size()];
+        int found = buildingManager.queryVisibleResourceNodes(view, handles);
+        for (int i = 0; i < found; i++) {
+            nodes.get(handles[i]).render(queue, textures);
+        }
+    }
+
+    private void submitBuildings(ViewCulling view, TextureManager textures) {
+        int total = buildingManager.getBuildings().size();
+        if (handles.length < total) handles = new int[total * 2];
+        int found = buildingManager.queryVisibleBuildings(view, handles);
+        for (int i = 0; i < found; i++) {
+            Building building = buildingManager.getBuildingByHandle(handles[i]);
+            if (building.isConstructed()) building.render(queue, textures);
+        }
+    }
+
+    // ===== TILE RANGE =====
+
+    private int clampCol(int l, int col) { return col < 0 ? 0 : (col >= levelCols[l] ? levelCols[l] - 1 : col); }
+    private int clampRow(int l, int row) { return row < 0 ? 0 : (row >= levelRows[l] ? levelRows[l] - 1 : row); }
+
+    /** Tiles rendered since the layer was created */
+    public int getRedrawCount() { return redrawCount; }
+    /** Tiles currently holding a FrameBuffer */
+    public int getCachedTileCount() { return cache.size(); }
+
+    public void dispose() {
+        for (int i = 0; i < buffers.length; i++) {
+            if (buffers[i] != null) {
+                buffers[i].dispose();
+                buffers[i] = null;
+            }
+        }
+    }
+}
@@ -0,0 +1,107 @@
+package com.vijithapura.siege.systems;
+
+import com.badlogic.gdx.math.Vector2;
+import com.vijithapura.siege.dsa.PathfindingGrid;
+import com.vijithapura.siege.dsa.SpatialGrid;
+import com.vijithapura.siege.entities.Unit;
+
+/**
+ * Local avoidance: boids-style separation applied after path following.
+ * Each unit is pushed away from overlapping neighbours found through the
+ * spatial grid, looking at no more than MAX_NEIGHBOURS of them, so the cost
+ * stays linear in the number of units. Pushes are computed for every unit
+ * first and applied afterwards, so the result does not depend on list order.
+ * A push never moves a unit from a walkable cell into a blocked one: the
+ * blocked axis is dropped so the unit slides along the obstacle instead.
+ */
+public class SteeringSystem {
+    private static final int MAX_NEIGHBOURS = 8;
+    private static final float SEPARATION_FACTOR = 0.75f; // desired gap = (sizeA + sizeB) * factor
+    private static final float SEPARATION_WEIGHT = 0.8f;  // max push as a fraction of unit speed
+    private static final float MIN_PUSH_SPEED = 40f;      // lets slow or idle units still spread out
+
+    private static final int[] neighbours = new int[MAX_NEIGHBOURS];
+    private static float[] pushX = new float[256];
+    private static float[] pushY = new float[256];
+
+    /**
+     * Push apart units in the grid (grid must have been rebuilt this tick)
+     * @param obstacles Cells pushes may not enter, or null for open ground
+     */
+    public static void applySeparation(SpatialGrid<Unit> grid, float maxUnitSize, float delta,
+                                       PathfindingGrid obstacles) {
+        int count = grid.size();
+        if (count > pushX.length) {
+            int capacity = Math.max(count, pushX.length * 2);
+            pushX = new float[capacity];
+            pushY = new float[capacity];
+        }
+
+        // Pass 1: accumulate separation for every unit
+        for (int i = 0; i < count; i++) {
+            Unit unit = grid.get(i);
+            float x = grid.getX(i);
+            float y = grid.getY(i);
+            float size = unit.getSize();
+            float radius = (size + maxUnitSize) * SEPARATION_FACTOR;
+
+            float sx = 0, sy = 0;
+            int found = grid.query(x, y, radius, neighbours, i);
+            for (int n = 0; n < found; n++) {
+                int j = neighbours[n];
+                float desired = (size + grid.get(j).getSize()) * SEPARATION_FACTOR;
+                float dx = x - grid.getX(j);
+                float dy = y - grid.getY(j);
+                float distSq = dx * dx + dy * dy;
+                if (distSq >= desired * desired) continue;
+
+                float dist = (float) Math.sqrt(distSq);
+                float nx, ny;
+                if (dist < 0.001f) {
+                    // Exactly stacked: split along a direction derived from the index pair
+                    float angle = i * 2.3999632f - j * 1.3f;
+                    nx = (float) Math.cos(angle);
+                    ny = (float) Math.sin(angle);
+                } else {
+                    nx = dx / dist;
+                    ny = dy / dist;
+                }
+                // Each side of an overlapping pair takes half of the overlap
+                float overlap = (desired - dist) * 0.5f;
+                sx += nx * overlap;
+                sy += ny * overlap;
+            }
+            pushX[i] = sx;
+            pushY[i] = sy;
+        }
+
+        // Pass 2: apply, limited to a fraction of each unit's speed
+        for (int i = 0; i < count; i++) {
+            float sx = pushX[i];
+            float sy = pushY[i];
+            if (sx == 0 && sy == 0) continue;
+
+            Unit unit = grid.get(i);
+            float maxStep = Math.max(unit.getSpeed(), MIN_PUSH_SPEED) * SEPARATION_WEIGHT * delta;
+            float lenSq = sx * sx + sy * sy;
+            if (lenSq > maxStep * maxStep) {
+                float scale = maxStep / (float) Math.sqrt(lenSq);
+                sx *= scale;
+                sy *= scale;
+            }
+            Vector2 position = unit.getPosition();
+            if (obstacles != null && obstacles.isWalkableWorld(position.x, position.y)
+                && !obstacles.isWalkableWorld(position.x + sx, position.y + sy)) {
+                // Slide along the obstacle on whichever axis stays walkable
+                if (obstacles.isWalkableWorld(position.x + sx, position.y)) {
+                    sy = 0;
+                } else if (obstacles.isWalkableWorld(position.x, position.y + sy)) {
+                    sx = 0;
+                } else {
+                    continue;
+                }
+            }
+            position.add(sx, sy);
+        }
+    }
+}
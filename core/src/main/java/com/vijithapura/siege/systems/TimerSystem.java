@@ -0,0 +1,52 @@
+package com.vijithapura.siege.systems;
+
+import com.vijithapura.siege.dsa.TimingWheel;
+
+/**
+ * Shared game clock backed by a hierarchical timing wheel.
+ * Cooldowns, charges, gather cycles and training timers schedule here
+ * instead of being decremented every frame.
+ */
+public class TimerSystem {
+    private static final float TICK_DURATION = 1f / 60f;
+
+    private static TimingWheel wheel = new TimingWheel(TICK_DURATION);
+
+    /**
+     * Advance game time and fire due timers
+     */
+    public static void update(float delta) {
+        wheel.advance(delta);
+    }
+
+    public static void schedule(TimingWheel.Timer timer, float delaySeconds) {
+        wheel.schedule(timer, delaySeconds);
+    }
+
+    public static void cancel(TimingWheel.Timer timer) {
+        wheel.cancel(timer);
+    }
+
+    public static float remaining(TimingWheel.Timer timer) {
+        return wheel.remaining(timer);
+    }
+
+    /**
+     * Current game time in seconds
+     */
+    public static float now() {
+        return wheel.getTime();
+    }
+
+    public static int getPendingCount() {
+        return wheel.getPendingCount();
+    }
+
+    /**
+     * Start a fresh clock (new game)
+     */
+    public static void reset() {
+        wheel.clear();
+        wheel = new TimingWheel(TICK_DURATION);
+    }
+}
@@ -3,94 +3,191 @@ package com.vijithapura.siege.systems;
 import java.util.ArrayList;
 
 import com.badlogic.gdx.math.Vector2;
-import com.vijithapura.siege.effects.VisualEffectsManager;
-import com.vijithapura.siege.entities.Archer;
-import com.vijithapura.siege.entities.Cavalry;
-import com.vijithapura.siege.entities.Champion;
+import com.vijithapura.siege.dsa.PathfindingGrid;
+import com.vijithapura.siege.dsa.SpatialGrid;
 import com.vijithapura.siege.entities.Gate;
 import com.vijithapura.siege.entities.Projectile;
-import com.vijithapura.siege.entities.SiegeRam;
-import com.vijithapura.siege.entities.Soldier;
 import com.vijithapura.siege.entities.Unit;
-import com.vijithapura.siege.entities.Worker;
+import com.vijithapura.siege.utils.Constants;
 
 public class UnitManager {
     private ArrayList<Unit> playerUnits;
     private ArrayList<Unit> enemyUnits;
     private ArrayList<Projectile> projectiles;
+    private final UnitPool playerPool;
+    private final UnitPool enemyPool;
+
+    // Rebuilt every tick from unit positions; shared with steering and other queries
+    private static final float GRID_CELL_SIZE = 64f;
+    private final SpatialGrid<Unit> spatialGrid;
+    private PathfindingGrid obstacles; // cells separation may not push units into (null = none)
+
+    // Enemies in collapsed squads are simulated by the squad, not individually
+    private final SquadSystem squadSystem;
+    private final ArrayList<Unit> activeEnemies;
+
+    // Reduced update rates for idle and off-screen units
+    private final SimulationLod simulationLod;
 
     public UnitManager() {
         playerUnits = new ArrayList<>();
         enemyUnits = new ArrayList<>();
         projectiles = new ArrayList<>();
+        playerPool = new UnitPool(WorldStats.PLAYER_TEAM);
+        enemyPool = new UnitPool(WorldStats.ENEMY_TEAM);
+        spatialGrid = new SpatialGrid<>(Constants.MAP_WIDTH, Constants.MAP_HEIGHT, GRID_CELL_SIZE, 512);
+        squadSystem = new SquadSystem();
+        activeEnemies = new ArrayList<>();
+        simulationLod = new SimulationLod();
     }
 
     public void spawnStartingUnits() {
         for (int i = 0; i < 5; i++) {
-            Worker w = new Worker(100 + i * 50, 150);
-            w.setSprite("worker");
-            playerUnits.add(w);
+            spawnPlayerUnit(Unit.UnitType.WORKER, 100 + i * 50, 150);
         }
 
         for (int i = 0; i < 8; i++) {
-            Soldier s = new Soldier(100 + i * 55, 220, "Soldier " + (i+1));
-            s.setSprite("soldier");
-            playerUnits.add(s);
+            Unit s = spawnPlayerUnit(Unit.UnitType.SOLDIER, 100 + i * 55, 220);
+            s.setName("Soldier " + (i+1));
         }
     }
 
-    public void update(float delta, ArrayList<Gate> gates, VisualEffectsManager effects) {
-        // Update all units
-        playerUnits.forEach(u -> u.update(delta));
-        enemyUnits.forEach(u -> u.update(delta));
+    /**
+     * Obtain a pooled player unit and add it to the world
+     */
+    public Unit spawnPlayerUnit(Unit.UnitType type, float x, float y) {
+        Unit unit = playerPool.obtain(type, x, y);
+        playerUnits.add(unit);
+        unit.trackStats();
+        return unit;
+    }
+
+    /**
+     * Obtain a pooled enemy unit and add it to the world
+     */
+    public Unit spawnEnemyUnit(Unit.UnitType type, float x, float y) {
+        Unit unit = enemyPool.obtain(type, x, y);
+        enemyUnits.add(unit);
+        unit.trackStats();
+        return unit;
+    }
+
+    /**
+     * Grow the enemy pool towards the expected wave size, a few units per call
+     * @return true once the pool is warm
+     */
+    public boolean prewarmEnemies(Unit.UnitType type, int capacity, int maxToCreate) {
+        return enemyPool.prewarm(type, capacity, maxToCreate);
+    }
+
+    public void update(float delta, ArrayList<Gate> gates) {
+        // Update all units at their LOD rate (indexed loops: no iterator or lambda allocation per tick)
+        simulationLod.beginFrame();
+        for (int i = 0, n = playerUnits.size(); i < n; i++) {
+            simulationLod.update(playerUnits.get(i), delta);
+        }
+        for (int i = 0, n = enemyUnits.size(); i < n; i++) {
+            Unit enemy = enemyUnits.get(i);
+            if (!enemy.isInCollapsedSquad()) simulationLod.update(enemy, delta);
+        }
+
+        // Local avoidance after path following (collapsed squads hold their own formation)
+        float maxUnitSize = rebuildSpatialGrid();
+        SteeringSystem.applySeparation(spatialGrid, maxUnitSize, delta, obstacles);
+
+        // Squads march as aggregates, expand near threats and absorb idle enemies
+        squadSystem.update(delta, enemyUnits, gates, spatialGrid);
+        collectActiveEnemies();
 
         // Update projectiles
-        projectiles.removeIf(p -> {
+        int write = 0;
+        for (int i = 0, n = projectiles.size(); i < n; i++) {
+            Projectile p = projectiles.get(i);
             p.update(delta);
-            return !p.isActive();
-        });
+            if (p.isActive()) {
+                projectiles.set(write++, p);
+            } else {
+                EntityPools.free(p);
+            }
+        }
+        truncate(projectiles, write);
 
         // Process combat
-        CombatSystem.processCombat(playerUnits, enemyUnits, gates, delta);
-        EnemyAI.updateEnemies(enemyUnits, playerUnits, gates, delta);
-
-        // Remove dead units with effects
-        playerUnits.removeIf(u -> {
-            if (!u.isAlive()) {
-                effects.createDeathExplosion(u.getPosition());
-                return true;
-            }
-            return false;
-        });
+        CombatSystem.processCombat(playerUnits, activeEnemies, gates, delta);
+        EnemyAI.updateEnemies(activeEnemies, playerUnits, gates, delta);
 
-        enemyUnits.removeIf(u -> {
-            if (!u.isAlive()) {
-                effects.createDeathExplosion(u.getPosition());
-                return true;
-            }
-            return false;
-        });
+        // Remove dead units (listeners react to the UNIT_DIED events at dispatch)
+        removeDeadUnits(playerUnits, playerPool);
+        removeDeadUnits(enemyUnits, enemyPool);
     }
 
-    public void queueUnit(Unit.UnitType type, Vector2 spawnPos) {
-        // Simplified - instantly spawn for now
-        Unit unit = createUnit(type, spawnPos.x, spawnPos.y);
-        if (unit != null) playerUnits.add(unit);
+    /**
+     * Re-insert every living unit at its current position
+     * @return Largest unit size in the grid
+     */
+    private float rebuildSpatialGrid() {
+        spatialGrid.clear();
+        float maxSize = 0;
+        maxSize = insertUnits(playerUnits, maxSize);
+        maxSize = insertUnits(enemyUnits, maxSize);
+        return maxSize;
+    }
+
+    private float insertUnits(ArrayList<Unit> units, float maxSize) {
+        for (int i = 0, n = units.size(); i < n; i++) {
+            Unit u = units.get(i);
+            if (!u.isAlive() || u.isInCollapsedSquad()) continue;
+            Vector2 pos = u.getPosition();
+            spatialGrid.insert(u, pos.x, pos.y);
+            if (u.getSize() > maxSize) maxSize = u.getSize();
+        }
+        return maxSize;
+    }
+
+    /**
+     * Enemies that run their own AI and combat this tick
+     */
+    private void collectActiveEnemies() {
+        activeEnemies.clear();
+        for (int i = 0, n = enemyUnits.size(); i < n; i++) {
+            Unit enemy = enemyUnits.get(i);
+            if (!enemy.isInCollapsedSquad()) activeEnemies.add(enemy);
+        }
+    }
+
+    /**
+     * Compact the list in place, keeping order (O(n), no allocation)
+     */
+    private void removeDeadUnits(ArrayList<Unit> units, UnitPool pool) {
+        int write = 0;
+        for (int i = 0, n = units.size(); i < n; i++) {
+            Unit u = units.get(i);
+            if (u.isAlive()) {
+                units.set(write++, u);
+            } else {
+                u.untrackStats();
+                EventBus.unitDied(u);
+                if (u.getSquad() != null) u.getSquad().removeMember(u);
+                pool.free(u);
+            }
+        }
+        truncate(units, write);
     }
 
-    private Unit createUnit(Unit.UnitType type, float x, float y) {
-        switch (type) {
-            case WORKER: return new Worker(x, y);
-            case SOLDIER: return new Soldier(x, y, "Soldier");
-            case ARCHER: return new Archer(x, y, "Archer");
-            case CAVALRY: return new Cavalry(x, y, "Cavalry");
-            case CHAMPION: return new Champion(x, y, Champion.ChampionType.NANDIMITHRA);
-            case SIEGE_RAM: return new SiegeRam(x, y);
-            default: return null;
+    private static void truncate(ArrayList<?> list, int size) {
+        for (int i = list.size() - 1; i >= size; i--) {
+            list.remove(i);
         }
     }
 
     public ArrayList<Unit> getPlayerUnits() { return playerUnits; }
     public ArrayList<Unit> getEnemyUnits() { return enemyUnits; }
     public ArrayList<Projectile> getProjectiles() { return projectiles; }
+    public UnitPool getPlayerPool() { return playerPool; }
+    public UnitPool getEnemyPool() { return enemyPool; }
+    public SpatialGrid<Unit> getSpatialGrid() { return spatialGrid; }
+    /** Obstacles for local avoidance, normally BuildingManager.getWalkGrid() */
+    public void setObstacles(PathfindingGrid obstacles) { this.obstacles = obstacles; }
+    public SquadSystem getSquadSystem() { return squadSystem; }
+    public SimulationLod getSimulationLod() { return simulationLod; }
 }
@@ -0,0 +1,140 @@
+package com.vijithapura.siege.systems;
+
+import com.badlogic.gdx.Application;
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.graphics.Color;
+import com.badlogic.gdx.graphics.GL20;
+import com.badlogic.gdx.graphics.Mesh;
+import com.badlogic.gdx.graphics.OrthographicCamera;
+import com.badlogic.gdx.graphics.VertexAttribute;
+import com.badlogic.gdx.graphics.VertexAttributes;
+import com.badlogic.gdx.graphics.glutils.ShaderProgram;
+import com.vijithapura.siege.utils.Log;
+
+/**
+ * Lowest render LOD tier: each far-away unit (or collapsed squad) becomes one
+ * coloured round point. Points are collected into a float array and drawn
+ * from a single vertex buffer with GL_POINTS, so a zoomed-out army of a
+ * thousand units is one draw call instead of a thousand sprites and bars.
+ * The point size is given in world units and scaled to pixels in the shader.
+ */
+public class UnitPointRenderer {
+    private static final int FLOATS_PER_POINT = 4; // x, y, packed colour, size
+    private static final float MIN_POINT_PX = 2f;
+
+    // Desktop GL only honours gl_PointSize / gl_PointCoord with these enabled
+    private static final int GL_VERTEX_PROGRAM_POINT_SIZE = 0x8642;
+    private static final int GL_POINT_SPRITE = 0x8861;
+
+    private static final String VERTEX_SHADER =
+        "attribute vec4 " + ShaderProgram.POSITION_ATTRIBUTE + ";\n" +
+        "attribute vec4 " + ShaderProgram.COLOR_ATTRIBUTE + ";\n" +
+        "attribute float a_size;\n" +
+        "uniform mat4 u_projTrans;\n" +
+        "uniform float u_pixelsPerUnit;\n" +
+        "varying vec4 v_color;\n" +
+        "void main() {\n" +
+        "    v_color = " + ShaderProgram.COLOR_ATTRIBUTE + ";\n" +
+        "    gl_PointSize = max(a_size * u_pixelsPerUnit, " + MIN_POINT_PX + ");\n" +
+        "    gl_Position = u_projTrans * " + ShaderProgram.POSITION_ATTRIBUTE + ";\n" +
+        "}\n";
+
+    private static final String FRAGMENT_SHADER =
+        "#ifdef GL_ES\n" +
+        "precision mediump float;\n" +
+        "#endif\n" +
+        "varying vec4 v_color;\n" +
+        "void main() {\n" +
+        "    vec2 d = gl_PointCoord - vec2(0.5);\n" +
+        "    if (dot(d, d) > 0.25) discard;\n" +
+        "    gl_FragColor = v_color;\n" +
+        "}\n";
+
+    private final int capacity;
+    private final float[] vertices;
+    private final Mesh mesh;
+    private final ShaderProgram shader; // null when it failed to compile
+    private int count;
+    private int pointCount;
+    private int drawCalls;
+
+    public UnitPointRenderer(int capacity) {
+        this.capacity = capacity;
+        this.vertices = new float[capacity * FLOATS_PER_POINT];
+        this.mesh = new Mesh(false, capacity, 0,
+            new VertexAttribute(VertexAttributes.Usage.Position, 2, ShaderProgram.POSITION_ATTRIBUTE),
+            new VertexAttribute(VertexAttributes.Usage.ColorPacked, 4, ShaderProgram.COLOR_ATTRIBUTE),
+            new VertexAttribute(VertexAttributes.Usage.Generic, 1, "a_size"));
+
+        ShaderProgram program = new ShaderProgram(VERTEX_SHADER, FRAGMENT_SHADER);
+        if (!program.isCompiled()) {
+            Log.warn(Log.RENDER, "Unit point shader failed, far units stay sprites: {}").arg(program.getLog()).commit();
+            program.dispose();
+            program = null;
+        }
+        this.shader = program;
+    }
+
+    /**
+     * Whether the point tier can be used at all
+     */
+    public boolean isAvailable() {
+        return shader != null;
+    }
+
+    /**
+     * Queue one point of the given world-unit diameter
+     */
+    public void add(float x, float y, float size, Color color, OrthographicCamera camera) {
+        if (count == capacity) flush(camera);
+        int v = count * FLOATS_PER_POINT;
+        vertices[v] = x;
+        vertices[v + 1] = y;
+        vertices[v + 2] = color.toFloatBits();
+        vertices[v + 3] = size;
+        count++;
+    }
+
+    /**
+     * Draw the queued points with one GL_POINTS call
+     */
+    public void flush(OrthographicCamera camera) {
+        if (count == 0 || shader == null) {
+            count = 0;
+            return;
+        }
+        if (Gdx.app.getType() == Application.ApplicationType.Desktop) {
+            Gdx.gl.glEnable(GL_VERTEX_PROGRAM_POINT_SIZE);
+            Gdx.gl.glEnable(GL_POINT_SPRITE);
+        }
+        Gdx.gl.glEnable(GL20.GL_BLEND);
+        Gdx.gl.glBlendFunc(GL20.GL_SRC_ALPHA, GL20.GL_ONE_MINUS_SRC_ALPHA);
+
+        mesh.setVertices(vertices, 0, count * FLOATS_PER_POINT);
+        shader.bind();
+        shader.setUniformMatrix("u_projTrans", camera.combined);
+        shader.setUniformf("u_pixelsPerUnit", 1f / camera.zoom);
+        mesh.render(shader, GL20.GL_POINTS, 0, count);
+
+        pointCount += count;
+        drawCalls++;
+        count = 0;
+    }
+
+    /**
+     * Reset the per-frame counters
+     */
+    public void beginFrame() {
+        count = 0;
+        pointCount = 0;
+        drawCalls = 0;
+    }
+
+    public int getPointCount() { return pointCount; }
+    public int getDrawCalls() { return drawCalls; }
+
+    public void dispose() {
+        mesh.dispose();
+        if (shader != null) shader.dispose();
+    }
+}
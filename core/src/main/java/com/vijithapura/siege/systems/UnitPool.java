@@ -0,0 +1,79 @@
+package com.vijithapura.siege.systems;
+
+import com.vijithapura.siege.dsa.ObjectPool;
+import com.vijithapura.siege.entities.Archer;
+import com.vijithapura.siege.entities.Cavalry;
+import com.vijithapura.siege.entities.Champion;
+import com.vijithapura.siege.entities.Kandula;
+import com.vijithapura.siege.entities.SiegeRam;
+import com.vijithapura.siege.entities.Soldier;
+import com.vijithapura.siege.entities.Unit;
+import com.vijithapura.siege.entities.Worker;
+
+/**
+ * One object pool per unit type for a single team.
+ * Teams keep separate pools so a recycled unit never changes sides while
+ * stale references (targets, selections) to it may still exist; freed units
+ * stay dead until they are obtained again.
+ */
+public class UnitPool {
+    private static final int MAX_FREE_PER_TYPE = 4096;
+
+    private final ObjectPool<Unit>[] pools;
+    private final int teamId;
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    public UnitPool(int teamId) {
+        this.teamId = teamId;
+        Unit.UnitType[] types = Unit.UnitType.values();
+        pools = (ObjectPool<Unit>[]) new ObjectPool[types.length];
+        for (Unit.UnitType type : types) {
+            pools[type.ordinal()] = new ObjectPool<>(() -> createUnit(type), 16, MAX_FREE_PER_TYPE);
+        }
+    }
+
+    /**
+     * Take a unit from the pool (or construct one) and spawn it at x, y for this team
+     */
+    public Unit obtain(Unit.UnitType type, float x, float y) {
+        Unit unit = pools[type.ordinal()].obtain();
+        unit.spawn(x, y, teamId);
+        return unit;
+    }
+
+    /**
+     * Return a dead unit; it is reset and stays dead until obtained again
+     */
+    public void free(Unit unit) {
+        pools[unit.getType().ordinal()].free(unit);
+    }
+
+    /**
+     * Create up to maxToCreate units towards the given capacity
+     * @return true once the pool can supply that many units without allocating
+     */
+    public boolean prewarm(Unit.UnitType type, int capacity, int maxToCreate) {
+        return pools[type.ordinal()].prewarm(capacity, maxToCreate);
+    }
+
+    public int getInUse(Unit.UnitType type) { return pools[type.ordinal()].getInUse(); }
+    public int getFree(Unit.UnitType type) { return pools[type.ordinal()].getFree(); }
+    public int getPeakInUse(Unit.UnitType type) { return pools[type.ordinal()].getPeakInUse(); }
+    public int getCreated(Unit.UnitType type) { return pools[type.ordinal()].getCreated(); }
+
+    private static Unit createUnit(Unit.UnitType type) {
+        switch (type) {
+            case WORKER:
+                Worker worker = new Worker(0, 0);
+                worker.setSprite("worker");
+                return worker;
+            case SOLDIER: return new Soldier(0, 0, "Soldier");
+            case ARCHER: return new Archer(0, 0, "Archer");
+            case CAVALRY: return new Cavalry(0, 0, "Cavalry");
+            case CHAMPION: return new Champion(0, 0, Champion.ChampionType.NANDIMITHRA);
+            case ELEPHANT: return new Kandula(0, 0);
+            case SIEGE_RAM: return new SiegeRam(0, 0);
+            default: throw new IllegalArgumentException("Unknown unit type: " + type);
+        }
+    }
+}
@@ -0,0 +1,122 @@
+package com.vijithapura.siege.systems;
+
+import com.badlogic.gdx.graphics.OrthographicCamera;
+import com.vijithapura.siege.utils.Log;
+
+import java.util.Arrays;
+
+/**
+ * Render culling against the camera's visible rectangle.
+ * setView() is called once per frame before anything is drawn; renderers
+ * then ask isVisible() for each candidate and record what they drew and what
+ * they skipped, so the savings can be read back (and are logged once a
+ * second on the Render category at debug level).
+ */
+public class ViewCulling {
+    public enum Category {
+        UNITS,
+        BUILDINGS,
+        PROJECTILES,
+        EFFECTS,
+        FLOATING_TEXT,
+        STATIC_TILES
+    }
+
+    private static final Category[] CATEGORIES = Category.values();
+    private static final float MARGIN = 8f; // world units, hides pop-in at the edges
+    private static final float REPORT_INTERVAL = 1f;
+
+    private float minX, minY, maxX, maxY;
+    private final int[] drawn = new int[CATEGORIES.length];
+    private final int[] culled = new int[CATEGORIES.length];
+    private float reportTimer;
+
+    /**
+     * Take the visible rectangle from the camera and reset the counts
+     */
+    public void setView(OrthographicCamera camera) {
+        float halfW = camera.viewportWidth * camera.zoom / 2 + MARGIN;
+        float halfH = camera.viewportHeight * camera.zoom / 2 + MARGIN;
+        minX = camera.position.x - halfW;
+        maxX = camera.position.x + halfW;
+        minY = camera.position.y - halfH;
+        maxY = camera.position.y + halfH;
+        Arrays.fill(drawn, 0);
+        Arrays.fill(culled, 0);
+    }
+
+    /**
+     * Use a fixed world rectangle instead of a camera (e.g. one static layer tile)
+     */
+    public void setView(float x, float y, float width, float height) {
+        minX = x;
+        minY = y;
+        maxX = x + width;
+        maxY = y + height;
+        Arrays.fill(drawn, 0);
+        Arrays.fill(culled, 0);
+    }
+
+    // ===== TESTS =====
+
+    /**
+     * Whether anything within extent of (x, y) can be on screen
+     */
+    public boolean isVisible(float x, float y, float extent) {
+        return x + extent >= minX && x - extent <= maxX && y + extent >= minY && y - extent <= maxY;
+    }
+
+    public boolean isVisible(float x, float y, float width, float height) {
+        return x + width >= minX && x <= maxX && y + height >= minY && y <= maxY;
+    }
+
+    /**
+     * isVisible() that also records the outcome
+     */
+    public boolean check(Category category, float x, float y, float extent) {
+        boolean visible = isVisible(x, y, extent);
+        if (visible) drawn[category.ordinal()]++;
+        else culled[category.ordinal()]++;
+        return visible;
+    }
+
+    // ===== COUNTS =====
+
+    public void addDrawn(Category category, int count) { drawn[category.ordinal()] += count; }
+    public void addCulled(Category category, int count) { culled[category.ordinal()] += count; }
+
+    public int getDrawn(Category category) { return drawn[category.ordinal()]; }
+    public int getCulled(Category category) { return culled[category.ordinal()]; }
+
+    public int getTotalDrawn() {
+        int total = 0;
+        for (int count : drawn) total += count;
+        return total;
+    }
+
+    public int getTotalCulled() {
+        int total = 0;
+        for (int count : culled) total += count;
+        return total;
+    }
+
+    /**
+     * Log this frame's counts once per REPORT_INTERVAL
+     */
+    public void report(float delta) {
+        reportTimer += delta;
+        if (reportTimer < REPORT_INTERVAL) return;
+        reportTimer = 0;
+
+        int culledTotal = getTotalCulled();
+        Log.debug(Log.RENDER, "Culled {} of {} (units {}, static tiles drawn {})")
+            .arg(culledTotal).arg(culledTotal + getTotalDrawn())
+            .arg(getCulled(Category.UNITS)).arg(getDrawn(Category.STATIC_TILES))
+            .commit();
+    }
+
+    public float getMinX() { return minX; }
+    public float getMinY() { return minY; }
+    public float getMaxX() { return maxX; }
+    public float getMaxY() { return maxY; }
+}
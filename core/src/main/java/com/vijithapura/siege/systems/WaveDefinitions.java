@@ -0,0 +1,223 @@
+package com.vijithapura.siege.systems;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.files.FileHandle;
+import com.badlogic.gdx.utils.JsonReader;
+import com.badlogic.gdx.utils.JsonValue;
+import com.vijithapura.siege.entities.Unit;
+import com.vijithapura.siege.screens.GameScreen.GameDifficulty;
+import com.vijithapura.siege.utils.Constants;
+import com.vijithapura.siege.utils.Log;
+
+import java.util.ArrayList;
+
+/**
+ * Wave compositions loaded from data/waves.json.
+ * Each entry defines a wave number and its unit groups; waves between entries
+ * (and after the last one) reuse the previous entry with counts scaled by the
+ * per-difficulty growth factor. If the file is missing or invalid, a single
+ * soldier ring around the fortress is used, matching the old hard-coded waves.
+ */
+public class WaveDefinitions {
+    public static final String DEFAULT_PATH = "data/waves.json";
+    private static final int DEFAULT_SPAWN_PER_TICK = 24;
+
+    /**
+     * Where a group appears: on a circle (ring) or spread over a disc (area)
+     */
+    public static class SpawnPoint {
+        public final String name;
+        public final float x, y, radius;
+        public final boolean ring;
+
+        public SpawnPoint(String name, float x, float y, float radius, boolean ring) {
+            this.name = name;
+            this.x = x;
+            this.y = y;
+            this.radius = radius;
+            this.ring = ring;
+        }
+
+        /**
+         * Position of the index-th unit out of total (deterministic, no allocation)
+         */
+        public float getX(int index, int total) {
+            return x + (float) Math.cos(angle(index, total)) * distance(index, total);
+        }
+
+        public float getY(int index, int total) {
+            return y + (float) Math.sin(angle(index, total)) * distance(index, total);
+        }
+
+        private float angle(int index, int total) {
+            // Ring: evenly spaced; area: golden-angle spiral
+            return ring ? (float) (Math.PI * 2 * index / total) : index * 2.3999632f;
+        }
+
+        private float distance(int index, int total) {
+            return ring ? radius : radius * (float) Math.sqrt((index + 0.5f) / total);
+        }
+    }
+
+    public static class Group {
+        public final Unit.UnitType type;
+        public final int count;
+        public final SpawnPoint spawnPoint;
+        public final float delay;    // seconds after the wave starts
+        public final float interval; // seconds between units, 0 = as fast as the spawn budget allows
+
+        public Group(Unit.UnitType type, int count, SpawnPoint spawnPoint, float delay, float interval) {
+            this.type = type;
+            this.count = count;
+            this.spawnPoint = spawnPoint;
+            this.delay = delay;
+            this.interval = interval;
+        }
+    }
+
+    public static class Wave {
+        public final int number;
+        public final Group[] groups;
+
+        public Wave(int number, Group[] groups) {
+            this.number = number;
+            this.groups = groups;
+        }
+    }
+
+    private final Wave[] waves; // sorted by wave number
+    private final float[] growth; // indexed by GameDifficulty ordinal
+    private final int spawnPerTick;
+
+    private WaveDefinitions(Wave[] waves, float[] growth, int spawnPerTick) {
+        this.waves = waves;
+        this.growth = growth;
+        this.spawnPerTick = spawnPerTick;
+    }
+
+    /**
+     * Load from the default internal file, falling back to built-in waves
+     */
+    public static WaveDefinitions load() {
+        if (Gdx.files == null) return createDefault();
+        return load(Gdx.files.internal(DEFAULT_PATH));
+    }
+
+    public static WaveDefinitions load(FileHandle file) {
+        if (!file.exists()) {
+            Log.warn(Log.ASSETS, "Wave file {} not found, using default waves").arg(file.path()).commit();
+            return createDefault();
+        }
+        try {
+            WaveDefinitions definitions = parse(new JsonReader().parse(file));
+            Log.info(Log.ASSETS, "Loaded {} wave definitions from {}")
+                .arg(definitions.waves.length).arg(file.path()).commit();
+            return definitions;
+        } catch (RuntimeException e) {
+            Log.error(Log.ASSETS, "Invalid wave file " + file.path() + ", using default waves", e);
+            return createDefault();
+        }
+    }
+
+    /**
+     * Old behaviour: 5 * growth^wave soldiers in a ring around the fortress
+     */
+    public static WaveDefinitions createDefault() {
+        SpawnPoint ring = new SpawnPoint("fortress", Constants.FORTRESS_X, Constants.FORTRESS_Y, 200, true);
+        Wave base = new Wave(0, new Group[] { new Group(Unit.UnitType.SOLDIER, 5, ring, 0, 0) });
+        return new WaveDefinitions(new Wave[] { base }, defaultGrowth(), DEFAULT_SPAWN_PER_TICK);
+    }
+
+    private static float[] defaultGrowth() {
+        float[] growth = new float[GameDifficulty.values().length];
+        for (GameDifficulty difficulty : GameDifficulty.values()) {
+            growth[difficulty.ordinal()] = difficulty == GameDifficulty.HARD ? 1.5f : 1.3f;
+        }
+        return growth;
+    }
+
+    /**
+     * Build definitions from an already parsed waves document (same layout as waves.json)
+     */
+    static WaveDefinitions parse(JsonValue root) {
+        int spawnPerTick = Math.max(1, root.getInt("spawnPerTick", DEFAULT_SPAWN_PER_TICK));
+
+        float[] growth = defaultGrowth();
+        JsonValue growthJson = root.get("growth");
+        if (growthJson != null) {
+            for (GameDifficulty difficulty : GameDifficulty.values()) {
+                growth[difficulty.ordinal()] = growthJson.getFloat(difficulty.name(), growth[difficulty.ordinal()]);
+            }
+        }
+
+        ArrayList<SpawnPoint> points = new ArrayList<>();
+        for (JsonValue p = root.getChild("spawnPoints"); p != null; p = p.next) {
+            points.add(new SpawnPoint(
+                p.getString("name"),
+                p.getFloat("x"), p.getFloat("y"),
+                p.getFloat("radius", 100f),
+                "ring".equals(p.getString("shape", "area"))));
+        }
+
+        ArrayList<Wave> waves = new ArrayList<>();
+        for (JsonValue w = root.getChild("waves"); w != null; w = w.next) {
+            int number = w.getInt("wave");
+            ArrayList<Group> groups = new ArrayList<>();
+            for (JsonValue g = w.getChild("groups"); g != null; g = g.next) {
+                groups.add(new Group(
+                    Unit.UnitType.valueOf(g.getString("type")),
+                    Math.max(0, g.getInt("count")),
+                    findSpawnPoint(points, g.getString("spawn")),
+                    Math.max(0f, g.getFloat("delay", 0f)),
+                    Math.max(0f, g.getFloat("interval", 0f))));
+            }
+            waves.add(new Wave(number, groups.toArray(new Group[0])));
+        }
+        if (waves.isEmpty()) throw new IllegalArgumentException("no waves defined");
+
+        waves.sort((a, b) -> Integer.compare(a.number, b.number));
+        return new WaveDefinitions(waves.toArray(new Wave[0]), growth, spawnPerTick);
+    }
+
+    private static SpawnPoint findSpawnPoint(ArrayList<SpawnPoint> points, String name) {
+        for (int i = 0; i < points.size(); i++) {
+            if (points.get(i).name.equals(name)) return points.get(i);
+        }
+        throw new IllegalArgumentException("unknown spawn point: " + name);
+    }
+
+    /**
+     * Definition used for a wave: the last entry at or before it
+     */
+    public Wave getWave(int wave) {
+        Wave result = waves[0];
+        for (int i = 1; i < waves.length && waves[i].number <= wave; i++) {
+            result = waves[i];
+        }
+        return result;
+    }
+
+    /**
+     * Number of units a group contributes to the given wave
+     */
+    public int getCount(Wave definition, Group group, int wave, GameDifficulty difficulty) {
+        if (group.count == 0) return 0;
+        int extraWaves = Math.max(0, wave - definition.number);
+        double scaled = group.count * Math.pow(growth[difficulty.ordinal()], extraWaves);
+        return (int) Math.min(Integer.MAX_VALUE, Math.max(1, scaled));
+    }
+
+    /**
+     * Total units in a wave
+     */
+    public int getWaveSize(int wave, GameDifficulty difficulty) {
+        Wave definition = getWave(wave);
+        int total = 0;
+        for (Group group : definition.groups) {
+            total += getCount(definition, group, wave, difficulty);
+        }
+        return total;
+    }
+
+    public int getSpawnPerTick() { return spawnPerTick; }
+}
@@ -4,9 +4,42 @@ import com.badlogic.gdx.graphics.Color;
 import com.vijithapura.siege.entities.*;
 import com.vijithapura.siege.screens.GameScreen.GameDifficulty;
 import com.vijithapura.siege.utils.Constants;
+import com.vijithapura.siege.utils.Log;
 import java.util.ArrayList;
+import java.util.Arrays;
 
+/**
+ * Runs waves from data-driven definitions.
+ * A wave is not spawned in one frame: each group becomes a spawn stream and
+ * at most spawnPerTick units are taken from the (pre-warmed) pools per update,
+ * so even very large waves arrive over a few seconds without a frame spike.
+ */
 public class WaveManager {
+    private static final int PREWARM_PER_FRAME = 32;
+    private static final Unit.UnitType[] UNIT_TYPES = Unit.UnitType.values();
+
+    /**
+     * Spawn progress of one wave group
+     */
+    private static class SpawnStream {
+        WaveDefinitions.Group group;
+        int total;
+        int spawned;
+        float nextSpawnTime;
+
+        boolean isDone() { return spawned >= total; }
+    }
+
+    private final WaveDefinitions definitions;
+    private final ArrayList<SpawnStream> streams;
+    private int activeStreams;
+    private int pendingSpawns;
+    private float waveTime;
+    private int nextStream; // round-robin start so groups share the budget fairly
+
+    private final int[] nextWaveCounts; // per unit type, for pool pre-warming
+    private int preparedWave;
+
     private int currentWave;
     private float waveTimer;
     private float timeBetweenWaves;
@@ -14,58 +47,155 @@ public class WaveManager {
     private GameDifficulty difficulty;
 
     public WaveManager(GameDifficulty difficulty) {
+        this(difficulty, WaveDefinitions.load());
+    }
+
+    public WaveManager(GameDifficulty difficulty, WaveDefinitions definitions) {
         this.difficulty = difficulty;
+        this.definitions = definitions;
+        this.streams = new ArrayList<>();
+        this.nextWaveCounts = new int[UNIT_TYPES.length];
+        this.preparedWave = -1;
         this.currentWave = 0;
         this.waveTimer = 0;
         this.timeBetweenWaves = Constants.WAVE_INTERVAL;
         this.waveInProgress = false;
+
+        EventBus.subscribe(GameEvent.Type.UNIT_DIED, event -> {
+            if (event.teamId == WorldStats.ENEMY_TEAM) checkWaveCleared();
+        });
     }
 
     public void startFirstWave(UnitManager unitManager) {
-        spawnWave(1, unitManager);
+        startWave(1);
+        updateSpawning(0, unitManager);
     }
 
-    public void update(float delta, UnitManager unitManager, ResourceManager resourceManager,
-                       ArrayList<Notification> notifications) {
-
-        if (waveInProgress && unitManager.getEnemyUnits().stream().noneMatch(Unit::isAlive)) {
-            waveInProgress = false;
-            waveTimer = 0;
-            int bonus = 100 * currentWave;
-            resourceManager.addGold(bonus);
-            notifications.add(new Notification(
-                "Wave " + currentWave + " cleared! +" + bonus + " gold", Color.GREEN));
+    public void update(float delta, UnitManager unitManager) {
+        if (pendingSpawns > 0) {
+            updateSpawning(delta, unitManager);
         }
 
         if (!waveInProgress) {
+            // Use the countdown to grow the enemy pools a little each frame
+            prewarmPools(currentWave + 1, unitManager);
+
             waveTimer += delta;
             if (waveTimer >= timeBetweenWaves) {
-                spawnWave(currentWave + 1, unitManager);
+                startWave(currentWave + 1);
                 waveTimer = 0;
             }
         }
     }
 
-    private void spawnWave(int wave, UnitManager unitManager) {
+    /**
+     * End the wave once everything has spawned and died; rewards go out via WAVE_CLEARED
+     */
+    private void checkWaveCleared() {
+        if (!waveInProgress || pendingSpawns > 0 || WorldStats.getAliveCount(WorldStats.ENEMY_TEAM) > 0) return;
+        waveInProgress = false;
+        waveTimer = 0;
+        EventBus.waveCleared(currentWave, 100 * currentWave);
+    }
+
+    /**
+     * Queue every group of a wave as a spawn stream
+     */
+    private void startWave(int wave) {
         currentWave = wave;
         waveInProgress = true;
+        waveTime = 0;
+        nextStream = 0;
+        activeStreams = 0;
+        pendingSpawns = 0;
+
+        WaveDefinitions.Wave definition = definitions.getWave(wave);
+        for (WaveDefinitions.Group group : definition.groups) {
+            int count = definitions.getCount(definition, group, wave, difficulty);
+            if (count == 0) continue;
+
+            if (activeStreams == streams.size()) streams.add(new SpawnStream());
+            SpawnStream stream = streams.get(activeStreams++);
+            stream.group = group;
+            stream.total = count;
+            stream.spawned = 0;
+            stream.nextSpawnTime = group.delay;
+            pendingSpawns += count;
+        }
 
-        double scaling = difficulty == GameDifficulty.HARD ? 1.5 : 1.3;
-        int count = (int)(5 * Math.pow(scaling, wave));
+        Log.info(Log.GAME, "Wave {} started: {} units in {} groups, {} per tick")
+            .arg(wave).arg(pendingSpawns).arg(activeStreams).arg(definitions.getSpawnPerTick()).commit();
+        checkWaveCleared(); // an empty wave is cleared immediately
+    }
+
+    /**
+     * Spawn up to the per-tick budget from streams whose next unit is due
+     */
+    private void updateSpawning(float delta, UnitManager unitManager) {
+        waveTime += delta;
+        int budget = definitions.getSpawnPerTick();
+
+        // Round-robin one unit at a time so concurrent groups arrive interleaved
+        boolean spawnedAny = true;
+        while (budget > 0 && spawnedAny) {
+            spawnedAny = false;
+            for (int k = 0; k < activeStreams && budget > 0; k++) {
+                SpawnStream stream = streams.get((nextStream + k) % activeStreams);
+                if (stream.isDone() || stream.nextSpawnTime > waveTime) continue;
+
+                spawnUnit(stream, unitManager);
+                stream.nextSpawnTime += stream.group.interval;
+                budget--;
+                spawnedAny = true;
+            }
+        }
+        nextStream = activeStreams > 0 ? (nextStream + 1) % activeStreams : 0;
+
+        if (pendingSpawns == 0) {
+            UnitPool pool = unitManager.getEnemyPool();
+            Log.info(Log.GAME, "Wave {} fully spawned after {}s (soldiers created {}, peak in use {})")
+                .arg(currentWave).arg(waveTime)
+                .arg(pool.getCreated(Unit.UnitType.SOLDIER))
+                .arg(pool.getPeakInUse(Unit.UnitType.SOLDIER)).commit();
+            checkWaveCleared();
+        }
+    }
+
+    private void spawnUnit(SpawnStream stream, UnitManager unitManager) {
+        WaveDefinitions.SpawnPoint point = stream.group.spawnPoint;
+        int index = stream.spawned++;
+        pendingSpawns--;
+
+        Unit enemy = unitManager.spawnEnemyUnit(stream.group.type,
+            point.getX(index, stream.total), point.getY(index, stream.total));
+        enemy.setName("Invader");
+        enemy.setColor(Color.RED);
+        applyDifficultyModifiers(enemy);
+    }
 
-        for (int i = 0; i < count; i++) {
-            float angle = (float)(Math.PI * 2 * i / count);
-            float x = Constants.FORTRESS_X + (float)Math.cos(angle) * 200;
-            float y = Constants.FORTRESS_Y + (float)Math.sin(angle) * 200;
+    /**
+     * Grow enemy pools towards the next wave's composition, PREWARM_PER_FRAME units per call
+     */
+    private void prewarmPools(int wave, UnitManager unitManager) {
+        if (preparedWave != wave) {
+            preparedWave = wave;
+            Arrays.fill(nextWaveCounts, 0);
+            WaveDefinitions.Wave definition = definitions.getWave(wave);
+            for (WaveDefinitions.Group group : definition.groups) {
+                nextWaveCounts[group.type.ordinal()] += definitions.getCount(definition, group, wave, difficulty);
+            }
+        }
 
-            Soldier enemy = new Soldier(x, y, "Invader");
-            enemy.setTeamId(1);
-            enemy.setColor(Color.RED);
-            applyDifficultyModifiers(enemy);
-            unitManager.getEnemyUnits().add(enemy);
+        for (int i = 0; i < UNIT_TYPES.length; i++) {
+            if (nextWaveCounts[i] == 0) continue;
+            if (!unitManager.prewarmEnemies(UNIT_TYPES[i], nextWaveCounts[i], PREWARM_PER_FRAME)) return;
         }
     }
 
+    public int getWaveSize(int wave) {
+        return definitions.getWaveSize(wave, difficulty);
+    }
+
     private void applyDifficultyModifiers(Unit unit) {
         unit.setMaxHealth(unit.getMaxHealth() * difficulty.enemyHealthMultiplier);
         unit.setHealth(unit.getMaxHealth());
@@ -75,4 +205,5 @@ public class WaveManager {
     public int getCurrentWave() { return currentWave; }
     public boolean isWaveInProgress() { return waveInProgress; }
     public float getTimeToNextWave() { return timeBetweenWaves - waveTimer; }
+    public int getPendingSpawns() { return pendingSpawns; }
 }
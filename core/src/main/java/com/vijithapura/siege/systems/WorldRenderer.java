@@ -1,168 +1,272 @@
 package com.vijithapura.siege.systems;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 
-import com.badlogic.gdx.Gdx;
 import com.badlogic.gdx.graphics.Color;
 import com.badlogic.gdx.graphics.OrthographicCamera;
-import com.badlogic.gdx.graphics.Texture;
-import com.badlogic.gdx.graphics.g2d.Sprite;
+import com.badlogic.gdx.graphics.g2d.SpriteBatch;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
 import com.badlogic.gdx.graphics.glutils.ShapeRenderer;
+import com.badlogic.gdx.math.Rectangle;
 import com.badlogic.gdx.math.Vector2;
 import com.vijithapura.siege.VijithapuraGame;
+import com.vijithapura.siege.dsa.RenderQueue;
+import com.vijithapura.siege.dsa.SpatialGrid;
 import com.vijithapura.siege.entities.Building;
 import com.vijithapura.siege.entities.Gate;
 import com.vijithapura.siege.entities.Projectile;
-import com.vijithapura.siege.entities.ResourceNode;
+import com.vijithapura.siege.entities.Squad;
 import com.vijithapura.siege.entities.Unit;
 import com.vijithapura.siege.utils.Constants;
+import com.vijithapura.siege.utils.TextureManager;
 
+/**
+ * Draws the world through a RenderQueue: every entity submits its sprites and
+ * shapes, and one sorted flush draws them layer by layer (nodes, buildings,
+ * gates, units, projectiles, bars, selection rings, attack lines). With the
+ * packed atlas the consecutive sprite layers share one texture, so the whole
+ * sprite part is a single batch.
+ *
+ * Only what overlaps the camera view is submitted. Units come from
+ * UnitManager's spatial grid (collapsed squads are culled as a whole) and
+ * buildings from BuildingManager's static render grid, so off-screen entities
+ * are never even visited.
+ *
+ * Grass, the fortress, resource nodes, finished buildings and gate walls live
+ * in the StaticWorldLayer and cost one quad per visible tile; only buildings
+ * under construction and gate health bars are submitted here every frame.
+ *
+ * Units are drawn at a level of detail picked from their drawn size and the
+ * camera zoom: full detail, then the sprite alone with no bars or indicators,
+ * then a single coloured point from UnitPointRenderer (one point per
+ * collapsed squad, sized by its largest member).
+ */
 public class WorldRenderer {
+    private static final float UNIT_EXTENT = 64f; // sprite (4x size, attack pulse) plus bars above it
 
-    public void render(VijithapuraGame game, OrthographicCamera camera,
-                       ArrayList<Unit> playerUnits, ArrayList<Unit> enemyUnits,
-                       ArrayList<Building> buildings, ArrayList<Gate> gates,
-                       ArrayList<ResourceNode> resourceNodes, ArrayList<Projectile> projectiles,
-                       boolean isSelecting, Vector2 selectionStart, Vector2 selectionEnd) {
+    // Render LOD tiers
+    public static final int LOD_FULL = 0;
+    public static final int LOD_SPRITE = 1;
+    public static final int LOD_POINT = 2;
 
-        game.batch.setProjectionMatrix(camera.combined);
-        game.shapeRenderer.setProjectionMatrix(camera.combined);
+    // Drawn size over zoom squared at which the reference unit changes tier
+    private static final float LOD_DETAIL_SIZE = Constants.RENDER_LOD_REFERENCE_SIZE
+        / (Constants.RENDER_LOD_DETAIL_ZOOM * Constants.RENDER_LOD_DETAIL_ZOOM);
+    private static final float LOD_POINT_SIZE = Constants.RENDER_LOD_REFERENCE_SIZE
+        / (Constants.RENDER_LOD_POINT_ZOOM * Constants.RENDER_LOD_POINT_ZOOM);
 
-        // 1. Background
-        renderBackground(game);
+    private static final Color PLAYER_POINT = new Color(0.35f, 0.55f, 0.80f, 1f);
+    private static final Color ENEMY_POINT = new Color(0.75f, 0.25f, 0.20f, 1f);
 
-        // 2. Fortress
-        renderFortress(game);
+    private final RenderQueue queue = new RenderQueue(1024);
+    private final ViewCulling culling = new ViewCulling();
+    private final StaticWorldLayer staticLayer;
+    private int[] unitHandles = new int[512];
+    private int[] buildingHandles = new int[32];
 
-        // 3. Resource nodes
-        renderResourceNodes(game, resourceNodes);
+    private final UnitPointRenderer points = new UnitPointRenderer(Constants.RENDER_LOD_MAX_POINTS);
+    private final int[] lodCounts = new int[3];
+    private OrthographicCamera camera;
+    private float lodScale;
+
+    public WorldRenderer(BuildingManager buildingManager) {
+        staticLayer = new StaticWorldLayer(buildingManager);
+        queue.setLineWidth(RenderQueue.LAYER_SELECTION, 3);
+        queue.setLineWidth(RenderQueue.LAYER_ORDERS, 2);
+    }
+
+    public void render(VijithapuraGame game, OrthographicCamera camera,
+                       UnitManager unitManager, BuildingManager buildingManager,
+                       boolean isSelecting, Vector2 selectionStart, Vector2 selectionEnd) {
 
-        // 4. Buildings
-        renderBuildings(game, buildings);
+        SpriteBatch batch = game.batch;
+        ShapeRenderer shapes = game.shapeRenderer;
+        TextureManager textures = game.textureManager;
 
-        // 5. Gates
-        renderGates(game, gates);
+        // 1. Static layer: bring visible tiles up to date (uses its own projection), then one quad per tile
+        culling.setView(camera);
+        staticLayer.update(culling, camera.zoom, batch, shapes, textures);
 
-        // 6. Units
-        renderUnits(game, playerUnits);
-        renderUnits(game, enemyUnits);
+        batch.setProjectionMatrix(camera.combined);
+        shapes.setProjectionMatrix(camera.combined);
+        staticLayer.draw(culling, batch);
 
-        // 7. Projectiles
-        renderProjectiles(game, projectiles);
+        // 2. Everything that changes is queued, then drawn in one sorted flush;
+        //    far units become points, drawn first in one call
+        this.camera = camera;
+        lodScale = 1f / (camera.zoom * camera.zoom);
+        points.beginFrame();
+        Arrays.fill(lodCounts, 0);
 
-        // 8. Selection box
+        submitBuildings(buildingManager, textures);
+        submitGates(buildingManager.getGates());
+        submitUnits(unitManager, textures);
+        submitProjectiles(textures, unitManager.getProjectiles());
         if (isSelecting) {
-            renderSelectionBox(game, selectionStart, selectionEnd);
+            submitSelectionBox(selectionStart, selectionEnd);
         }
+
+        points.flush(camera);
+        queue.flush(batch, shapes);
     }
 
-    private void renderBackground(VijithapuraGame game) {
-        game.batch.begin();
-        if (game.textureManager.hasTexture("grass")) {
-            Texture grass = game.textureManager.getTexture("grass");
-            grass.setWrap(Texture.TextureWrap.Repeat, Texture.TextureWrap.Repeat);
-            
-            // Draw base grass with slight color variation for depth
-            game.batch.setColor(0.95f, 1.0f, 0.95f, 1.0f);
-            game.batch.draw(grass, 0, 0, Constants.MAP_WIDTH, Constants.MAP_HEIGHT,
-                0, 0, Constants.MAP_WIDTH/64, Constants.MAP_HEIGHT/64);
-            
-            // Add subtle darker grass overlay for variation
-            game.batch.setColor(0.85f, 0.95f, 0.85f, 0.3f);
-            game.batch.draw(grass, 0, 0, Constants.MAP_WIDTH, Constants.MAP_HEIGHT,
-                0.5f, 0.5f, Constants.MAP_WIDTH/64 + 0.5f, Constants.MAP_HEIGHT/64 + 0.5f);
-            
-            // Reset color
-            game.batch.setColor(1, 1, 1, 1);
-        }
-        game.batch.end();
+    public RenderQueue getQueue() { return queue; }
+    public ViewCulling getCulling() { return culling; }
+    public StaticWorldLayer getStaticLayer() { return staticLayer; }
+    public UnitPointRenderer getPointRenderer() { return points; }
+
+    /** Units drawn at the given LOD tier last frame (a collapsed squad point counts once) */
+    public int getLodCount(int tier) { return lodCounts[tier]; }
+
+    public void dispose() {
+        staticLayer.dispose();
+        points.dispose();
     }
 
-    private void renderFortress(VijithapuraGame game) {
-        float x = Constants.FORTRESS_X - Constants.FORTRESS_SIZE / 2;
-        float y = Constants.FORTRESS_Y - Constants.FORTRESS_SIZE / 2;
+    // ===== CULLED SUBMISSION =====
 
-        game.batch.begin();
-        if (game.textureManager.hasTexture("castle")) {
-            Sprite castle = game.textureManager.getSprite("castle");
-            castle.setPosition(x, y);
-            castle.setSize(Constants.FORTRESS_SIZE, Constants.FORTRESS_SIZE);
-            castle.draw(game.batch);
-        }
-        game.batch.end();
+    /**
+     * Buildings still under construction; finished ones are in the static layer
+     */
+    private void submitBuildings(BuildingManager buildingManager, TextureManager textures) {
+        int total = buildingManager.getBuildings().size();
+        if (buildingHandles.length < total) buildingHandles = new int[total * 2];
 
-        if (!game.textureManager.hasTexture("castle")) {
-            game.shapeRenderer.begin(ShapeRenderer.ShapeType.Filled);
-            game.shapeRenderer.setColor(0.3f, 0.3f, 0.3f, 1);
-            game.shapeRenderer.rect(x, y, Constants.FORTRESS_SIZE, Constants.FORTRESS_SIZE);
-            game.shapeRenderer.end();
+        int found = buildingManager.queryVisibleBuildings(culling, buildingHandles);
+        int drawn = 0;
+        for (int i = 0; i < found; i++) {
+            Building building = buildingManager.getBuildingByHandle(buildingHandles[i]);
+            if (building.isConstructed()) continue;
+            Rectangle bounds = building.getBounds();
+            if (culling.isVisible(bounds.x, bounds.y, bounds.width, bounds.height)) {
+                building.render(queue, textures);
+                drawn++;
+            }
         }
+        culling.addDrawn(ViewCulling.Category.BUILDINGS, drawn);
+        culling.addCulled(ViewCulling.Category.BUILDINGS, total - drawn);
     }
 
-    private void renderResourceNodes(VijithapuraGame game, ArrayList<ResourceNode> nodes) {
-        game.shapeRenderer.begin(ShapeRenderer.ShapeType.Filled);
-        for (ResourceNode node : nodes) {
-            node.render(game.shapeRenderer, game.batch, game.textureManager);
+    /**
+     * Gate health bars; the walls themselves are in the static layer
+     */
+    private void submitGates(ArrayList<Gate> gates) {
+        for (int i = 0, n = gates.size(); i < n; i++) {
+            Gate gate = gates.get(i);
+            Rectangle bounds = gate.getBounds();
+            // Health bar sits 10 units above the wall
+            if (culling.isVisible(bounds.x, bounds.y, bounds.width, bounds.height + 10)) {
+                gate.renderHealthBar(queue);
+                culling.addDrawn(ViewCulling.Category.BUILDINGS, 1);
+            } else {
+                culling.addCulled(ViewCulling.Category.BUILDINGS, 1);
+            }
         }
-        game.shapeRenderer.end();
     }
 
-    private void renderBuildings(VijithapuraGame game, ArrayList<Building> buildings) {
-        game.shapeRenderer.begin(ShapeRenderer.ShapeType.Filled);
-        for (Building b : buildings) {
-            b.render(game.shapeRenderer, game.batch, game.textureManager);
+    private void submitUnits(UnitManager unitManager, TextureManager textures) {
+        SpatialGrid<Unit> grid = unitManager.getSpatialGrid();
+        if (unitHandles.length < grid.size()) unitHandles = new int[grid.size() * 2];
+
+        // Cell-level candidates from the grid, then an exact test on the current position
+        float extent = UNIT_EXTENT;
+        int found = grid.queryRect(culling.getMinX() - extent, culling.getMinY() - extent,
+            culling.getMaxX() - culling.getMinX() + extent * 2, culling.getMaxY() - culling.getMinY() + extent * 2,
+            unitHandles);
+        int drawn = 0;
+        for (int i = 0; i < found; i++) {
+            Unit unit = grid.get(unitHandles[i]);
+            Vector2 pos = unit.getPosition();
+            if (unit.isAlive() && culling.isVisible(pos.x, pos.y, extent)) {
+                submitUnit(unit, textures);
+                drawn++;
+            }
         }
-        game.shapeRenderer.end();
+        int culled = grid.size() - drawn;
+
+        // Collapsed squads are carried by the squad and kept out of the grid
+        ArrayList<Squad> squads = unitManager.getSquadSystem().getSquads();
+        for (int s = 0, n = squads.size(); s < n; s++) {
+            Squad squad = squads.get(s);
+            if (!squad.isCollapsed()) continue;
+            Vector2 centroid = squad.getCentroid();
+            if (!culling.isVisible(centroid.x, centroid.y, squad.getRadius() + extent)) {
+                culled += squad.getMemberCount();
+                continue;
+            }
+            Unit largest = getLargestMember(squad);
+            if (largest != null && lodTier(largest.getRenderSize(textures)) == LOD_POINT) {
+                // Whole formation as one point
+                float diameter = Math.max(squad.getRadius() * 2, largest.getSize() * 2);
+                points.add(centroid.x, centroid.y, diameter, ENEMY_POINT, camera);
+                lodCounts[LOD_POINT]++;
+            } else {
+                for (int m = 0, count = squad.getMemberCount(); m < count; m++) {
+                    submitUnit(squad.getMember(m), textures);
+                }
+            }
+            drawn += squad.getMemberCount();
+        }
+
+        culling.addDrawn(ViewCulling.Category.UNITS, drawn);
+        culling.addCulled(ViewCulling.Category.UNITS, culled);
     }
 
-    private void renderGates(VijithapuraGame game, ArrayList<Gate> gates) {
-        game.shapeRenderer.begin(ShapeRenderer.ShapeType.Filled);
-        for (Gate g : gates) {
-            g.render(game.shapeRenderer, game.batch, game.textureManager);
+    private void submitUnit(Unit unit, TextureManager textures) {
+        int tier = lodTier(unit.getRenderSize(textures));
+        lodCounts[tier]++;
+        if (tier == LOD_POINT) {
+            Vector2 pos = unit.getPosition();
+            Color color = unit.getTeamId() != 0 ? ENEMY_POINT : unit.isSelected() ? Color.YELLOW : PLAYER_POINT;
+            points.add(pos.x, pos.y, unit.getSize() * 2, color, camera);
+        } else {
+            unit.render(queue, textures, tier == LOD_FULL);
         }
-        game.shapeRenderer.end();
     }
 
-    private void renderUnits(VijithapuraGame game, ArrayList<Unit> units) {
-        game.shapeRenderer.begin(ShapeRenderer.ShapeType.Filled);
-        for (Unit u : units) {
-            if (u.isAlive()) {
-                u.render(game.shapeRenderer, game.batch, game.textureManager);
-            }
+    /**
+     * LOD tier for a unit drawn renderSize wide. On-screen size alone barely
+     * changes across the zoom range (a soldier is still 42 px at the widest
+     * zoom), so the thresholds grow with the zoom: size / zoom^2 is compared
+     * against the reference unit at its switch zooms.
+     */
+    private int lodTier(float renderSize) {
+        float scaled = renderSize * lodScale;
+        if (scaled >= LOD_DETAIL_SIZE) return LOD_FULL;
+        if (scaled >= LOD_POINT_SIZE || !points.isAvailable()) return LOD_SPRITE;
+        return LOD_POINT;
+    }
+
+    private static Unit getLargestMember(Squad squad) {
+        Unit largest = null;
+        for (int m = 0, count = squad.getMemberCount(); m < count; m++) {
+            Unit member = squad.getMember(m);
+            if (largest == null || member.getSize() > largest.getSize()) largest = member;
         }
-        game.shapeRenderer.end();
+        return largest;
     }
 
-    private void renderProjectiles(VijithapuraGame game, ArrayList<Projectile> projectiles) {
-        if (game.textureManager.hasTexture("arrow")) {
-            game.batch.begin();
-            Sprite arrow = game.textureManager.getSprite("arrow");
-            for (Projectile p : projectiles) {
-                arrow.setPosition(p.getX() - 5, p.getY() - 5);
-                arrow.setSize(10, 20);
-                arrow.draw(game.batch);
-            }
-            game.batch.end();
-        } else {
-            game.shapeRenderer.begin(ShapeRenderer.ShapeType.Filled);
-            game.shapeRenderer.setColor(Color.WHITE);
-            for (Projectile p : projectiles) {
-                game.shapeRenderer.circle(p.getX(), p.getY(), 3);
+    private void submitProjectiles(TextureManager textures, ArrayList<Projectile> projectiles) {
+        TextureRegion arrow = textures.getRegion("arrow");
+        queue.setColor(Color.WHITE);
+        for (int i = 0, n = projectiles.size(); i < n; i++) {
+            Projectile p = projectiles.get(i);
+            if (!culling.check(ViewCulling.Category.PROJECTILES, p.getX(), p.getY(), 20)) continue;
+            if (arrow != null) {
+                queue.region(RenderQueue.LAYER_PROJECTILES, arrow, p.getX() - 5, p.getY() - 5, 10, 20);
+            } else {
+                queue.circle(RenderQueue.LAYER_PROJECTILES, p.getX(), p.getY(), 3);
             }
-            game.shapeRenderer.end();
         }
     }
 
-    private void renderSelectionBox(VijithapuraGame game, Vector2 start, Vector2 end) {
-        game.shapeRenderer.begin(ShapeRenderer.ShapeType.Line);
-        Gdx.gl.glLineWidth(2);
-        game.shapeRenderer.setColor(Color.YELLOW);
+    private void submitSelectionBox(Vector2 start, Vector2 end) {
+        queue.setColor(Color.YELLOW);
         float x = Math.min(start.x, end.x);
         float y = Math.min(start.y, end.y);
-        game.shapeRenderer.rect(x, y,
+        queue.rectOutline(RenderQueue.LAYER_ORDERS, x, y,
             Math.abs(end.x - start.x),
             Math.abs(end.y - start.y));
-        Gdx.gl.glLineWidth(1);
-        game.shapeRenderer.end();
     }
 }
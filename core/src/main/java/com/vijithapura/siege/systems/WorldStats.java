@@ -0,0 +1,81 @@
+package com.vijithapura.siege.systems;
+
+import com.vijithapura.siege.entities.Unit;
+
+import java.util.Arrays;
+
+/**
+ * Incrementally maintained world aggregates: units per team and type, total
+ * army health and DPS, and standing gates. Units add their contribution when
+ * they enter the world, update it whenever health, damage, type or team
+ * change (Unit.syncStats) and remove it when they are taken out of the world,
+ * so every query here is O(1) instead of a scan over the unit lists.
+ */
+public class WorldStats {
+    public static final int PLAYER_TEAM = 0;
+    public static final int ENEMY_TEAM = 1;
+    private static final int TEAMS = 2;
+    private static final int TYPES = Unit.UnitType.values().length;
+
+    private static final int[] alive = new int[TEAMS];
+    private static final int[][] typeCounts = new int[TEAMS][TYPES];
+    private static final float[] totalHealth = new float[TEAMS];
+    private static final float[] totalMaxHealth = new float[TEAMS];
+    private static final float[] totalDps = new float[TEAMS];
+    private static int totalGates;
+    private static int standingGates;
+
+    // ===== UNITS (called by Unit) =====
+
+    public static void add(int team, Unit.UnitType type, float health, float maxHealth, float dps) {
+        apply(team, type, health, maxHealth, dps, 1);
+    }
+
+    public static void remove(int team, Unit.UnitType type, float health, float maxHealth, float dps) {
+        apply(team, type, health, maxHealth, dps, -1);
+    }
+
+    private static void apply(int team, Unit.UnitType type, float health, float maxHealth, float dps, int sign) {
+        if (team < 0 || team >= TEAMS) return;
+        alive[team] += sign;
+        if (type != null) typeCounts[team][type.ordinal()] += sign;
+        totalHealth[team] += sign * health;
+        totalMaxHealth[team] += sign * maxHealth;
+        totalDps[team] += sign * dps;
+    }
+
+    // ===== GATES =====
+
+    public static void gateBuilt() {
+        totalGates++;
+        standingGates++;
+    }
+
+    public static void gateDestroyed() {
+        standingGates--;
+    }
+
+    // ===== QUERIES =====
+
+    public static int getAliveCount(int team) { return alive[team]; }
+    public static int getPopulation() { return alive[PLAYER_TEAM]; }
+    public static int getTypeCount(int team, Unit.UnitType type) { return typeCounts[team][type.ordinal()]; }
+    public static float getTotalHealth(int team) { return Math.max(0, totalHealth[team]); }
+    public static float getTotalMaxHealth(int team) { return Math.max(0, totalMaxHealth[team]); }
+    public static float getTotalDps(int team) { return Math.max(0, totalDps[team]); }
+    public static int getStandingGates() { return standingGates; }
+    public static int getTotalGates() { return totalGates; }
+
+    /**
+     * Clear every counter (new game)
+     */
+    public static void reset() {
+        Arrays.fill(alive, 0);
+        for (int[] counts : typeCounts) Arrays.fill(counts, 0);
+        Arrays.fill(totalHealth, 0);
+        Arrays.fill(totalMaxHealth, 0);
+        Arrays.fill(totalDps, 0);
+        totalGates = 0;
+        standingGates = 0;
+    }
+}
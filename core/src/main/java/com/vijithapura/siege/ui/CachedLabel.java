@@ -0,0 +1,98 @@
+package com.vijithapura.siege.ui;
+
+import com.badlogic.gdx.graphics.Color;
+import com.badlogic.gdx.graphics.g2d.Batch;
+import com.badlogic.gdx.graphics.g2d.BitmapFont;
+import com.badlogic.gdx.graphics.g2d.BitmapFontCache;
+import com.badlogic.gdx.graphics.g2d.GlyphLayout;
+
+/**
+ * One line of UI text (optionally shadowed) kept as prebuilt glyph vertices.
+ * set() compares the new text and colour with the current ones and only lays
+ * the glyphs out again when something differs, so a label bound to a value
+ * that rarely changes (a resource count, the wave timer) costs a vertex copy
+ * per frame instead of a layout. Each label keeps the font of its own size,
+ * so nothing is rescaled.
+ */
+public class CachedLabel {
+    private static final float SHADOW_OFFSET = 2;
+
+    private final BitmapFontCache shadow; // null for plain text
+    private final BitmapFontCache main;
+    private final Color shadowColor;
+    private final StringBuilder text = new StringBuilder();
+    private final Color color = new Color();
+    private boolean empty = true;
+    private float width;
+    private float x, y;
+
+    public CachedLabel(BitmapFont font) {
+        this(font, null);
+    }
+
+    public CachedLabel(BitmapFont font, Color shadowColor) {
+        this.shadowColor = shadowColor;
+        this.shadow = shadowColor != null ? new BitmapFontCache(font, font.usesIntegerPositions()) : null;
+        this.main = new BitmapFontCache(font, font.usesIntegerPositions());
+    }
+
+    /**
+     * Bind the label's content
+     * @return true if the glyphs had to be rebuilt
+     */
+    public boolean set(CharSequence newText, Color newColor) {
+        if (!empty && color.equals(newColor) && contentEquals(newText)) return false;
+
+        text.setLength(0);
+        text.append(newText);
+        color.set(newColor);
+        empty = false;
+
+        // Lay out at the origin; setPosition() moves the finished vertices
+        if (shadow != null) {
+            shadow.clear();
+            shadow.setColor(shadowColor);
+            shadow.addText(text, SHADOW_OFFSET, -SHADOW_OFFSET);
+            shadow.setPosition(x, y);
+        }
+        main.clear();
+        main.setColor(color);
+        GlyphLayout layout = main.addText(text, 0, 0);
+        width = layout.width;
+        main.setPosition(x, y);
+        return true;
+    }
+
+    /**
+     * Place the text baseline's left end at (x, y)
+     */
+    public void setPosition(float x, float y) {
+        if (x == this.x && y == this.y) return;
+        this.x = x;
+        this.y = y;
+        if (shadow != null) shadow.setPosition(x, y);
+        main.setPosition(x, y);
+    }
+
+    /**
+     * Multiply the main text's colour (shadow untouched), e.g. for a shimmer
+     */
+    public void tint(Color tint) {
+        main.tint(tint);
+    }
+
+    public void draw(Batch batch) {
+        if (shadow != null) shadow.draw(batch);
+        main.draw(batch);
+    }
+
+    public float getWidth() { return width; }
+
+    private boolean contentEquals(CharSequence other) {
+        if (other.length() != text.length()) return false;
+        for (int i = 0, n = text.length(); i < n; i++) {
+            if (text.charAt(i) != other.charAt(i)) return false;
+        }
+        return true;
+    }
+}
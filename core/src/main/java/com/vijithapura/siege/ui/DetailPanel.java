@@ -12,6 +12,8 @@ import com.vijithapura.siege.entities.Building;
 import com.vijithapura.siege.entities.Gate;
 import com.vijithapura.siege.entities.ResourceNode;
 import com.vijithapura.siege.entities.Unit;
+import com.vijithapura.siege.utils.FontManager;
+import com.vijithapura.siege.utils.TextFormat;
 
 /**
  * Detailed information panel that appears when clicking on any selectable entity
@@ -28,12 +30,29 @@ public class DetailPanel {
     private static final Color TEXT_COLOR = new Color(0.85f, 0.82f, 0.75f, 1f);
     private static final Color STAT_GOOD = new Color(0.25f, 0.65f, 0.25f, 1f);
     private static final Color STAT_BAD = new Color(0.75f, 0.20f, 0.15f, 1f);
-    
-    public DetailPanel() {
+    private static final Color STAT_MID = new Color(0.85f, 0.70f, 0.20f, 1f);
+    private static final Color ACCENT_COLOR = new Color(0.65f, 0.50f, 0.15f, 1f);
+    private static final Color STATUS_COLOR = new Color(0.7f, 0.7f, 0.9f, 1f);
+    private static final Color WARNING_COLOR = new Color(0.9f, 0.7f, 0.2f, 1f);
+    private static final Color HINT_COLOR = new Color(0.7f, 0.9f, 0.7f, 1f);
+    private static final int MAX_LINES = 12;
+
+    // One cached label per text row, rebound every frame
+    private final CachedLabel[] lines = new CachedLabel[MAX_LINES];
+    private final StringBuilder text = new StringBuilder();
+    private int lineCount;
+    private float lineX, lineY;
+
+    public DetailPanel(FontManager fonts) {
         bounds = new Rectangle(0, 0, 300, 400);
         visible = false;
         selectedEntity = null;
         clickPosition = new Vector2();
+
+        BitmapFont font = fonts.get(1.0f);
+        for (int i = 0; i < MAX_LINES; i++) {
+            lines[i] = new CachedLabel(font);
+        }
     }
     
     public void show(Object entity, float screenX, float screenY) {
@@ -58,7 +77,7 @@ public class DetailPanel {
         return visible;
     }
     
-    public void render(ShapeRenderer sr, SpriteBatch batch, BitmapFont font) {
+    public void render(ShapeRenderer sr, SpriteBatch batch) {
         if (!visible || selectedEntity == null) return;
         
         Gdx.gl.glEnable(GL20.GL_BLEND);
@@ -77,194 +96,133 @@ public class DetailPanel {
         sr.rect(bounds.x, bounds.y, bounds.width, bounds.height);
         
         // Inner accent border
-        sr.setColor(new Color(0.65f, 0.50f, 0.15f, 1f));
+        sr.setColor(ACCENT_COLOR);
         Gdx.gl.glLineWidth(1);
         sr.rect(bounds.x + 5, bounds.y + 5, bounds.width - 10, bounds.height - 10);
         sr.end();
         
         // Content
-        batch.begin();
-        float textX = bounds.x + 15;
-        float textY = bounds.y + bounds.height - 25;
-        
+        lineCount = 0;
+        lineX = bounds.x + 15;
+        lineY = bounds.y + bounds.height - 25;
+
         if (selectedEntity instanceof Unit) {
-            renderUnitDetails((Unit) selectedEntity, batch, font, textX, textY);
+            renderUnitDetails((Unit) selectedEntity);
         } else if (selectedEntity instanceof Building) {
-            renderBuildingDetails((Building) selectedEntity, batch, font, textX, textY);
+            renderBuildingDetails((Building) selectedEntity);
         } else if (selectedEntity instanceof ResourceNode) {
-            renderResourceDetails((ResourceNode) selectedEntity, batch, font, textX, textY);
+            renderResourceDetails((ResourceNode) selectedEntity);
         } else if (selectedEntity instanceof Gate) {
-            renderGateDetails((Gate) selectedEntity, batch, font, textX, textY);
+            renderGateDetails((Gate) selectedEntity);
+        }
+
+        batch.begin();
+        for (int i = 0; i < lineCount; i++) {
+            lines[i].draw(batch);
         }
-        
         batch.end();
     }
     
-    private void renderUnitDetails(Unit unit, SpriteBatch batch, BitmapFont font, float x, float y) {
-        font.setColor(TITLE_COLOR);
-        font.draw(batch, "=== UNIT DETAILS ===", x, y);
-        y -= 30;
-        
-        font.setColor(TEXT_COLOR);
-        font.draw(batch, "Name: " + unit.getName(), x, y);
-        y -= 25;
-        
-        font.draw(batch, "Type: " + unit.getType(), x, y);
-        y -= 25;
-        
+    private void renderUnitDetails(Unit unit) {
+        line("=== UNIT DETAILS ===", TITLE_COLOR, 30);
+        line(text().append("Name: ").append(unit.getName()), TEXT_COLOR, 25);
+        line(text().append("Type: ").append(unit.getType()), TEXT_COLOR, 25);
+
         // Health bar
-        font.setColor(STAT_GOOD);
-        float healthPercent = unit.getHealth() / unit.getMaxHealth();
-        String healthText = String.format("Health: %.0f / %.0f (%.0f%%)", 
-            unit.getHealth(), unit.getMaxHealth(), healthPercent * 100);
-        font.draw(batch, healthText, x, y);
-        y -= 25;
-        
-        font.setColor(TEXT_COLOR);
-        font.draw(batch, "Speed: " + String.format("%.1f", unit.getSpeed()), x, y);
-        y -= 25;
-        
-        font.draw(batch, "Damage: " + String.format("%.1f", unit.getAttackDamage()), x, y);
-        y -= 25;
-        
-        font.draw(batch, "Attack Range: " + String.format("%.0f", unit.getAttackRange()), x, y);
-        y -= 25;
-        
-        font.draw(batch, "Armor: " + unit.getArmor(), x, y);
-        y -= 25;
-        
-        font.draw(batch, "Team: " + (unit.getTeamId() == 0 ? "Player" : "Enemy"), x, y);
-        y -= 30;
-        
+        line(TextFormat.appendRatio(text().append("Health: "), unit.getHealth(), unit.getMaxHealth()), STAT_GOOD, 25);
+
+        line(TextFormat.appendFixed(text().append("Speed: "), unit.getSpeed(), 1), TEXT_COLOR, 25);
+        line(TextFormat.appendFixed(text().append("Damage: "), unit.getAttackDamage(), 1), TEXT_COLOR, 25);
+        line(TextFormat.appendFixed(text().append("Attack Range: "), unit.getAttackRange(), 0), TEXT_COLOR, 25);
+        line(TextFormat.appendFixed(text().append("Armor: "), unit.getArmor(), 1), TEXT_COLOR, 25);
+        line(unit.getTeamId() == 0 ? "Team: Player" : "Team: Enemy", TEXT_COLOR, 30);
+
         // Status
-        font.setColor(new Color(0.7f, 0.7f, 0.9f, 1f));
         if (unit.isAttacking()) {
-            font.draw(batch, "Status: ATTACKING", x, y);
+            line("Status: ATTACKING", STATUS_COLOR, 0);
         } else if (unit.isMoving()) {
-            font.draw(batch, "Status: MOVING", x, y);
+            line("Status: MOVING", STATUS_COLOR, 0);
         } else if (unit.isGathering()) {
-            font.draw(batch, "Status: GATHERING", x, y);
+            line("Status: GATHERING", STATUS_COLOR, 0);
         } else {
-            font.draw(batch, "Status: IDLE", x, y);
+            line("Status: IDLE", STATUS_COLOR, 0);
         }
     }
-    
-    private void renderBuildingDetails(Building building, SpriteBatch batch, BitmapFont font, float x, float y) {
-        font.setColor(TITLE_COLOR);
-        font.draw(batch, "=== BUILDING ===", x, y);
-        y -= 30;
-        
-        font.setColor(TEXT_COLOR);
-        font.draw(batch, "Type: " + building.getType(), x, y);
-        y -= 25;
-        
-        font.setColor(STAT_GOOD);
-        float healthPercent = building.getHealth() / building.getMaxHealth();
-        String healthText = String.format("Health: %.0f / %.0f (%.0f%%)", 
-            building.getHealth(), building.getMaxHealth(), healthPercent * 100);
-        font.draw(batch, healthText, x, y);
-        y -= 25;
-        
-        font.setColor(TEXT_COLOR);
+
+    private void renderBuildingDetails(Building building) {
+        line("=== BUILDING ===", TITLE_COLOR, 30);
+        line(text().append("Type: ").append(building.getType()), TEXT_COLOR, 25);
+        line(TextFormat.appendRatio(text().append("Health: "), building.getHealth(), building.getMaxHealth()), STAT_GOOD, 25);
+
         Rectangle b = building.getBounds();
-        font.draw(batch, "Size: " + (int)b.width + " x " + (int)b.height, x, y);
-        y -= 30;
-        
+        line(text().append("Size: ").append((int)b.width).append(" x ").append((int)b.height), TEXT_COLOR, 30);
+
         if (building.isUnderConstruction()) {
-            font.setColor(new Color(0.9f, 0.7f, 0.2f, 1f));
             float progress = building.getConstructionProgress() * 100;
-            font.draw(batch, "Construction: " + String.format("%.0f%%", progress), x, y);
-            y -= 25;
+            line(TextFormat.appendFixed(text().append("Construction: "), progress, 0).append('%'), WARNING_COLOR, 25);
         } else {
-            font.setColor(STAT_GOOD);
-            font.draw(batch, "Status: OPERATIONAL", x, y);
-            y -= 25;
+            line("Status: OPERATIONAL", STAT_GOOD, 25);
         }
-        
-        font.setColor(TEXT_COLOR);
+
         Vector2 pos = building.getCenter();
-        font.draw(batch, "Position: " + (int)pos.x + ", " + (int)pos.y, x, y);
+        line(text().append("Position: ").append((int)pos.x).append(", ").append((int)pos.y), TEXT_COLOR, 0);
     }
-    
-    private void renderResourceDetails(ResourceNode node, SpriteBatch batch, BitmapFont font, float x, float y) {
-        font.setColor(TITLE_COLOR);
-        font.draw(batch, "=== RESOURCE ===", x, y);
-        y -= 30;
-        
-        font.setColor(TEXT_COLOR);
-        String resourceType = node.getType().toString();
-        font.draw(batch, "Type: " + resourceType, x, y);
-        y -= 25;
-        
+
+    private void renderResourceDetails(ResourceNode node) {
+        line("=== RESOURCE ===", TITLE_COLOR, 30);
+        line(text().append("Type: ").append(node.getType()), TEXT_COLOR, 25);
+
         // Resource amount with color coding
         int remaining = node.getResourceAmount();
         int max = node.getMaxAmount();
         float percent = (float) remaining / max;
-        
-        if (percent > 0.6f) {
-            font.setColor(STAT_GOOD);
-        } else if (percent > 0.3f) {
-            font.setColor(new Color(0.85f, 0.70f, 0.20f, 1f));
-        } else {
-            font.setColor(STAT_BAD);
-        }
-        
-        String amountText = String.format("Amount: %d / %d (%.0f%%)", remaining, max, percent * 100);
-        font.draw(batch, amountText, x, y);
-        y -= 30;
-        
+        Color amountColor = percent > 0.6f ? STAT_GOOD : percent > 0.3f ? STAT_MID : STAT_BAD;
+        line(TextFormat.appendRatio(text().append("Amount: "), remaining, max), amountColor, 30);
+
         if (node.isDepleted()) {
-            font.setColor(STAT_BAD);
-            font.draw(batch, "Status: DEPLETED", x, y);
+            line("Status: DEPLETED", STAT_BAD, 25);
         } else {
-            font.setColor(STAT_GOOD);
-            font.draw(batch, "Status: AVAILABLE", x, y);
+            line("Status: AVAILABLE", STAT_GOOD, 25);
         }
-        y -= 25;
-        
-        font.setColor(TEXT_COLOR);
+
         Vector2 pos = node.getPosition();
-        font.draw(batch, "Position: " + (int)pos.x + ", " + (int)pos.y, x, y);
-        y -= 30;
-        
+        line(text().append("Position: ").append((int)pos.x).append(", ").append((int)pos.y), TEXT_COLOR, 30);
+
         // Gathering info
-        font.setColor(new Color(0.7f, 0.9f, 0.7f, 1f));
-        font.draw(batch, "Right-click with workers", x, y);
-        y -= 20;
-        font.draw(batch, "to gather resources", x, y);
+        line("Right-click with workers", HINT_COLOR, 20);
+        line("to gather resources", HINT_COLOR, 0);
     }
-    
-    private void renderGateDetails(Gate gate, SpriteBatch batch, BitmapFont font, float x, float y) {
-        font.setColor(TITLE_COLOR);
-        font.draw(batch, "=== GATE ===", x, y);
-        y -= 30;
-        
-        font.setColor(TEXT_COLOR);
-        font.draw(batch, "Position: " + gate.getPosition(), x, y);
-        y -= 25;
-        
-        font.setColor(STAT_BAD);
-        float healthPercent = gate.getHealth() / gate.getMaxHealth();
-        String healthText = String.format("Health: %.0f / %.0f (%.0f%%)", 
-            gate.getHealth(), gate.getMaxHealth(), healthPercent * 100);
-        font.draw(batch, healthText, x, y);
-        y -= 30;
-        
+
+    private void renderGateDetails(Gate gate) {
+        line("=== GATE ===", TITLE_COLOR, 30);
+        line(text().append("Position: ").append(gate.getPosition()), TEXT_COLOR, 25);
+        line(TextFormat.appendRatio(text().append("Health: "), gate.getHealth(), gate.getMaxHealth()), STAT_BAD, 30);
+
         if (gate.isDestroyed()) {
-            font.setColor(STAT_BAD);
-            font.draw(batch, "Status: DESTROYED", x, y);
+            line("Status: DESTROYED", STAT_BAD, 30);
         } else {
-            font.setColor(new Color(0.9f, 0.7f, 0.2f, 1f));
-            font.draw(batch, "Status: STANDING", x, y);
+            line("Status: STANDING", WARNING_COLOR, 30);
         }
-        y -= 30;
-        
-        font.setColor(TEXT_COLOR);
-        font.draw(batch, "Objective: Destroy all gates", x, y);
-        y -= 20;
-        font.draw(batch, "to win the game!", x, y);
+
+        line("Objective: Destroy all gates", TEXT_COLOR, 20);
+        line("to win the game!", TEXT_COLOR, 0);
     }
-    
+
+    /**
+     * Bind the next line and move down by gap; its glyphs are only rebuilt if the text changed
+     */
+    private void line(CharSequence content, Color color, float gap) {
+        CachedLabel label = lines[lineCount++];
+        label.set(content, color);
+        label.setPosition(lineX, lineY);
+        lineY -= gap;
+    }
+
+    private StringBuilder text() {
+        text.setLength(0);
+        return text;
+    }
+
     public boolean handleClick(float screenX, float screenY) {
         if (visible && bounds.contains(screenX, screenY)) {
             return true; // Click consumed by panel
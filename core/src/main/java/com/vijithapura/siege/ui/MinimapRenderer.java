@@ -4,10 +4,16 @@ import com.badlogic.gdx.Gdx;
 import com.badlogic.gdx.graphics.Color;
 import com.badlogic.gdx.graphics.GL20;
 import com.badlogic.gdx.graphics.OrthographicCamera;
+import com.badlogic.gdx.graphics.Pixmap;
+import com.badlogic.gdx.graphics.Texture;
 import com.badlogic.gdx.graphics.g2d.SpriteBatch;
+import com.badlogic.gdx.graphics.glutils.FrameBuffer;
 import com.badlogic.gdx.graphics.glutils.ShapeRenderer;
+import com.badlogic.gdx.math.Matrix4;
 import com.badlogic.gdx.math.Rectangle;
 import com.vijithapura.siege.entities.*;
+import com.vijithapura.siege.systems.EventBus;
+import com.vijithapura.siege.systems.GameEvent;
 import com.vijithapura.siege.utils.Constants;
 
 import java.util.ArrayList;
@@ -15,6 +21,13 @@ import java.util.ArrayList;
 /**
  * Age of Empires 3 Inspired Minimap
  * Features: Aged parchment map, detailed terrain, clear unit indicators
+ *
+ * The parchment, terrain, resource nodes, buildings, fortress and border are
+ * baked into a FrameBuffer and only re-baked when a node depletes or a
+ * building completes. Unit dots are plotted into a Pixmap and uploaded
+ * MINIMAP_UNIT_REFRESH_RATE times a second. Combat flashes come from
+ * DAMAGE_DEALT events. Per frame only the two textures, the gates, the
+ * flashes and the camera frame are drawn.
  */
 public class MinimapRenderer {
     private Rectangle bounds;
@@ -54,19 +67,67 @@ public class MinimapRenderer {
 
     private static final Color CAMERA_FRAME = new Color(0.95f, 0.85f, 0.35f, 0.9f);
 
+    private static final Color COMBAT_FLASH = new Color(1f, 0.9f, 0.3f, 1f);
+    private static final int FLASH_CAPACITY = 64;
+    private static final float FLASH_LIFETIME = 0.6f;
+    private static final float FLASH_MERGE_DISTANCE = 4f; // minimap pixels
+
     private float animTimer;
     private float mapRotation; // For aesthetic touch
 
+    // Cached base layer
+    private FrameBuffer baseLayer;
+    private boolean baseDirty = true;
+    private final Matrix4 bakeProjection = new Matrix4();
+
+    // Unit overlay, refreshed at a fixed rate
+    private Pixmap unitPixmap;
+    private Texture unitTexture;
+    private float unitRefreshInterval;
+    private float unitRefreshTimer;
+    private boolean unitsDirty = true;
+    private final Color scratchColor = new Color();
+
+    // Combat flashes (ring buffer in minimap coordinates)
+    private final float[] flashX = new float[FLASH_CAPACITY];
+    private final float[] flashY = new float[FLASH_CAPACITY];
+    private final float[] flashAge = new float[FLASH_CAPACITY];
+    private int nextFlash;
+
     public MinimapRenderer(float x, float y, float width, float height) {
         bounds = new Rectangle(x, y, width, height);
         scaleX = bounds.width / Constants.MAP_WIDTH;
         scaleY = bounds.height / Constants.MAP_HEIGHT;
         animTimer = 0;
         mapRotation = 0;
+        setUnitRefreshRate(Constants.MINIMAP_UNIT_REFRESH_RATE);
+        java.util.Arrays.fill(flashAge, FLASH_LIFETIME);
+
+        EventBus.subscribe(GameEvent.Type.DAMAGE_DEALT, event -> addCombatFlash(event.x, event.y));
+        EventBus.subscribe(GameEvent.Type.NODE_DEPLETED, event -> baseDirty = true);
+        EventBus.subscribe(GameEvent.Type.BUILDING_COMPLETED, event -> baseDirty = true);
     }
 
     public void update(float delta) {
         animTimer += delta;
+        unitRefreshTimer += delta;
+        for (int i = 0; i < FLASH_CAPACITY; i++) {
+            if (flashAge[i] < FLASH_LIFETIME) flashAge[i] += delta;
+        }
+    }
+
+    /**
+     * How often unit dots are re-plotted, in updates per second
+     */
+    public void setUnitRefreshRate(float hz) {
+        unitRefreshInterval = 1f / Math.max(1f, hz);
+    }
+
+    /**
+     * Re-bake the static layer on the next render (e.g. after a building is added)
+     */
+    public void markDirty() {
+        baseDirty = true;
     }
 
     public void render(ShapeRenderer sr, SpriteBatch batch, OrthographicCamera camera,
@@ -74,7 +135,59 @@ public class MinimapRenderer {
                        ArrayList<Gate> gates, ArrayList<Building> buildings,
                        ArrayList<ResourceNode> resourceNodes) {
 
+        if (baseDirty || baseLayer == null) {
+            bakeBaseLayer(sr, buildings, resourceNodes);
+        }
+        if (unitsDirty || unitRefreshTimer >= unitRefreshInterval) {
+            plotUnits(playerUnits, enemyUnits);
+        }
+
         sr.setProjectionMatrix(batch.getProjectionMatrix());
+        Gdx.gl.glEnable(GL20.GL_BLEND);
+        Gdx.gl.glBlendFunc(GL20.GL_SRC_ALPHA, GL20.GL_ONE_MINUS_SRC_ALPHA);
+
+        // Parchment, terrain, nodes, buildings, fortress and border (FrameBuffer is stored bottom-up)
+        batch.begin();
+        Texture base = baseLayer.getColorBufferTexture();
+        batch.draw(base, bounds.x, bounds.y, bounds.width, bounds.height,
+            0, 0, base.getWidth(), base.getHeight(), false, true);
+        batch.end();
+
+        // Gates change colour with their health
+        renderGates(sr, gates);
+
+        // Military units
+        batch.begin();
+        batch.draw(unitTexture, bounds.x, bounds.y, bounds.width, bounds.height);
+        batch.end();
+
+        // Battle indicators
+        renderCombatFlashes(sr);
+
+        // Camera viewport
+        renderCameraViewport(sr, camera);
+    }
+
+    // ===== CACHED LAYERS =====
+
+    /**
+     * Draw everything that only changes on game events into the base FrameBuffer
+     */
+    private void bakeBaseLayer(ShapeRenderer sr, ArrayList<Building> buildings,
+                               ArrayList<ResourceNode> resourceNodes) {
+        int width = Math.max(1, Math.round(bounds.width));
+        int height = Math.max(1, Math.round(bounds.height));
+        if (baseLayer == null || baseLayer.getWidth() != width || baseLayer.getHeight() != height) {
+            if (baseLayer != null) baseLayer.dispose();
+            baseLayer = new FrameBuffer(Pixmap.Format.RGB888, width, height, false);
+        }
+
+        bakeProjection.setToOrtho2D(bounds.x, bounds.y, bounds.width, bounds.height);
+        sr.setProjectionMatrix(bakeProjection);
+
+        baseLayer.begin();
+        Gdx.gl.glClearColor(MAP_BG.r, MAP_BG.g, MAP_BG.b, 1);
+        Gdx.gl.glClear(GL20.GL_COLOR_BUFFER_BIT);
 
         // Parchment map background
         renderParchmentBackground(sr);
@@ -86,20 +199,35 @@ public class MinimapRenderer {
         renderResourceNodes(sr, resourceNodes);
         renderBuildings(sr, buildings);
         renderFortress(sr);
-        renderGates(sr, gates);
-
-        // Military units
-        renderUnits(sr, playerUnits, true);
-        renderUnits(sr, enemyUnits, false);
-
-        // Camera viewport
-        renderCameraViewport(sr, camera);
 
         // Ornate border
         renderOrnateBorder(sr);
 
-        // Battle indicators
-        renderCombatFlashes(sr, playerUnits, enemyUnits);
+        baseLayer.end();
+        baseDirty = false;
+    }
+
+    /**
+     * Re-plot every unit dot into the overlay Pixmap and upload it
+     */
+    private void plotUnits(ArrayList<Unit> playerUnits, ArrayList<Unit> enemyUnits) {
+        int width = Math.max(1, Math.round(bounds.width));
+        int height = Math.max(1, Math.round(bounds.height));
+        if (unitPixmap == null || unitPixmap.getWidth() != width || unitPixmap.getHeight() != height) {
+            disposeUnitOverlay();
+            unitPixmap = new Pixmap(width, height, Pixmap.Format.RGBA8888);
+            unitPixmap.setBlending(Pixmap.Blending.None); // later circles replace earlier ones
+            unitTexture = new Texture(unitPixmap);
+        }
+
+        unitPixmap.setColor(0, 0, 0, 0);
+        unitPixmap.fill();
+        plotUnits(playerUnits, true);
+        plotUnits(enemyUnits, false);
+        unitTexture.draw(unitPixmap, 0, 0);
+
+        unitRefreshTimer = 0;
+        unitsDirty = false;
     }
 
     private void renderParchmentBackground(ShapeRenderer sr) {
@@ -350,38 +478,37 @@ public class MinimapRenderer {
         sr.end();
     }
 
-    private void renderUnits(ShapeRenderer sr, ArrayList<Unit> units, boolean isPlayer) {
+    private void plotUnits(ArrayList<Unit> units, boolean isPlayer) {
         if (units == null) return;
 
-        sr.begin(ShapeRenderer.ShapeType.Filled);
-
-        for (Unit unit : units) {
+        int height = unitPixmap.getHeight();
+        for (int i = 0, n = units.size(); i < n; i++) {
+            Unit unit = units.get(i);
             if (unit == null || !unit.isAlive()) continue;
 
-            float x = unit.getPosition().x * scaleX + bounds.x;
-            float y = unit.getPosition().y * scaleY + bounds.y;
+            // Pixmap rows run top-down
+            int x = Math.round(unit.getPosition().x * scaleX);
+            int y = height - Math.round(unit.getPosition().y * scaleY);
 
             Color unitColor;
-            float size = 2.5f;
+            int size = 2;
 
             if (isPlayer) {
                 // Player units - different colors by type
                 if (unit instanceof Worker) {
                     unitColor = PLAYER_WORKER;
-                    size = 2f;
                 } else if (unit instanceof Cavalry) {
                     unitColor = PLAYER_CAVALRY;
-                    size = 3f;
+                    size = 3;
                 } else if (unit instanceof SiegeRam) {
                     unitColor = PLAYER_SIEGE;
-                    size = 4f;
+                    size = 4;
                 } else if (unit instanceof Champion) {
-                    unitColor = CHAMPION_GOLD;
-                    size = 3.5f;
                     // Pulsing champion
                     float pulse = (float)Math.sin(animTimer * 3) * 0.2f + 0.8f;
-                    unitColor = new Color(unitColor.r * pulse, unitColor.g * pulse,
-                        unitColor.b * pulse, 1f);
+                    unitColor = scratchColor.set(CHAMPION_GOLD.r * pulse, CHAMPION_GOLD.g * pulse,
+                        CHAMPION_GOLD.b * pulse, 1f);
+                    size = 3;
                 } else {
                     unitColor = PLAYER_INFANTRY;
                 }
@@ -389,31 +516,28 @@ public class MinimapRenderer {
                 // Enemy units
                 if (unit instanceof Champion) {
                     unitColor = CHAMPION_GOLD;
-                    size = 3.5f;
+                    size = 3;
                 } else if (unit instanceof SiegeRam) {
                     unitColor = ENEMY_ELITE;
-                    size = 4f;
+                    size = 4;
                 } else {
                     unitColor = ENEMY_UNIT;
-                    size = 2.5f;
                 }
             }
 
-            // Unit dot with border for clarity
-            sr.setColor(0, 0, 0, 0.6f);
-            sr.circle(x, y, size + 0.5f);
-
-            sr.setColor(unitColor);
-            sr.circle(x, y, size);
-
-            // Highlight for selected/important units
+            // Highlight for selected/important units, under the dot
             if (isPlayer && (unit.isSelected() || unit instanceof Champion)) {
-                sr.setColor(unitColor.r, unitColor.g, unitColor.b, 0.4f);
-                sr.circle(x, y, size + 1.5f);
+                unitPixmap.setColor(unitColor.r, unitColor.g, unitColor.b, 0.4f);
+                unitPixmap.fillCircle(x, y, size + 2);
             }
-        }
 
-        sr.end();
+            // Unit dot with border for clarity
+            unitPixmap.setColor(0, 0, 0, 0.6f);
+            unitPixmap.fillCircle(x, y, size + 1);
+
+            unitPixmap.setColor(unitColor);
+            unitPixmap.fillCircle(x, y, size);
+        }
     }
 
     private void renderCameraViewport(ShapeRenderer sr, OrthographicCamera camera) {
@@ -492,22 +616,40 @@ public class MinimapRenderer {
         sr.end();
     }
 
-    private void renderCombatFlashes(ShapeRenderer sr, ArrayList<Unit> playerUnits,
-                                     ArrayList<Unit> enemyUnits) {
-        sr.begin(ShapeRenderer.ShapeType.Filled);
+    private void addCombatFlash(float worldX, float worldY) {
+        float x = worldX * scaleX + bounds.x;
+        float y = worldY * scaleY + bounds.y;
 
-        // Show active combat areas
-        for (Unit player : playerUnits) {
-            if (player == null || !player.isAlive()) continue;
-            if (player.getCurrentTarget() == null) continue;
+        // A fight keeps refreshing the flash already shown there instead of stacking new ones
+        float mergeSq = FLASH_MERGE_DISTANCE * FLASH_MERGE_DISTANCE;
+        for (int i = 0; i < FLASH_CAPACITY; i++) {
+            if (flashAge[i] >= FLASH_LIFETIME) continue;
+            float dx = flashX[i] - x;
+            float dy = flashY[i] - y;
+            if (dx * dx + dy * dy <= mergeSq) {
+                flashAge[i] = 0;
+                return;
+            }
+        }
 
-            float x = player.getPosition().x * scaleX + bounds.x;
-            float y = player.getPosition().y * scaleY + bounds.y;
+        flashX[nextFlash] = x;
+        flashY[nextFlash] = y;
+        flashAge[nextFlash] = 0;
+        nextFlash = (nextFlash + 1) % FLASH_CAPACITY;
+    }
+
+    private void renderCombatFlashes(ShapeRenderer sr) {
+        sr.begin(ShapeRenderer.ShapeType.Filled);
 
-            // Combat flash effect
-            float pulse = (float)Math.abs(Math.sin(animTimer * 6));
-            sr.setColor(1f, 0.9f, 0.3f, pulse * 0.5f);
-            sr.circle(x, y, 5);
+        // Show active combat areas
+        float pulse = (float)Math.abs(Math.sin(animTimer * 6));
+        for (int i = 0; i < FLASH_CAPACITY; i++) {
+            if (flashAge[i] >= FLASH_LIFETIME) continue;
+
+            // Combat flash effect, fading out once the fighting stops
+            float fade = 1f - flashAge[i] / FLASH_LIFETIME;
+            sr.setColor(COMBAT_FLASH.r, COMBAT_FLASH.g, COMBAT_FLASH.b, pulse * fade * 0.5f);
+            sr.circle(flashX[i], flashY[i], 5);
         }
 
         sr.end();
@@ -529,5 +671,20 @@ public class MinimapRenderer {
         bounds.set(x, y, width, height);
         scaleX = bounds.width / Constants.MAP_WIDTH;
         scaleY = bounds.height / Constants.MAP_HEIGHT;
+        baseDirty = true;
+        unitsDirty = true;
+    }
+
+    private void disposeUnitOverlay() {
+        if (unitTexture != null) unitTexture.dispose();
+        if (unitPixmap != null) unitPixmap.dispose();
+        unitTexture = null;
+        unitPixmap = null;
+    }
+
+    public void dispose() {
+        if (baseLayer != null) baseLayer.dispose();
+        baseLayer = null;
+        disposeUnitOverlay();
     }
 }
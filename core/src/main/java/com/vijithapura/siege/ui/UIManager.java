@@ -10,9 +10,11 @@ import com.badlogic.gdx.graphics.glutils.ShapeRenderer;
 import com.badlogic.gdx.math.Rectangle;
 import com.vijithapura.siege.entities.*;
 import com.vijithapura.siege.screens.GameScreen;
+import com.vijithapura.siege.systems.WorldStats;
 import com.vijithapura.siege.utils.Constants;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 
 /**
  * Age of Empires 3 Inspired UI Manager
@@ -33,6 +35,8 @@ public class UIManager {
     // Animation
     private float pulseTimer;
     private float goldShimmer;
+    private ShapeRenderer shapes; // the caller's renderer, reused for bars and notification backgrounds
+    private final int[] selectionTypeCounts = new int[6];
 
     // AoE3 Inspired Color Palette
     private static final Color WOOD_DARK = new Color(0.15f, 0.10f, 0.05f, 0.95f);
@@ -210,6 +214,9 @@ public class UIManager {
     }
 
     public void render(ShapeRenderer sr, SpriteBatch batch, GameScreen screen) {
+        shapes = sr;
+        sr.setProjectionMatrix(batch.getProjectionMatrix());
+
         // Render all panels
         topBar.render(sr);
         bottomBar.render(sr);
@@ -299,12 +306,12 @@ public class UIManager {
         x = Constants.SCREEN_WIDTH - 350;
         font.getData().setScale(1.0f);
 
-        int playerCount = countAlive(screen.getPlayerUnits());
+        int playerCount = WorldStats.getAliveCount(WorldStats.PLAYER_TEAM);
         font.setColor(STEEL_BLUE);
         drawTextWithEmboss(batch, "⚔ Your Army: " + playerCount, x, y, TEXT_DARK);
 
         x += 160;
-        int enemyCount = countAlive(screen.getEnemyUnits());
+        int enemyCount = WorldStats.getAliveCount(WorldStats.ENEMY_TEAM);
         font.setColor(BLOOD_RED);
         drawTextWithEmboss(batch, "☠ Enemies: " + enemyCount, x, y, TEXT_DARK);
     }
@@ -562,8 +569,7 @@ public class UIManager {
                                          float current, float max, float width) {
         batch.end();
 
-        ShapeRenderer sr = new ShapeRenderer();
-        sr.setProjectionMatrix(batch.getProjectionMatrix());
+        ShapeRenderer sr = shapes;
 
         float height = 22;
         float healthPercent = current / max;
@@ -597,7 +603,6 @@ public class UIManager {
         Gdx.gl.glLineWidth(1);
         sr.end();
 
-        sr.dispose();
         batch.begin();
 
         // Health text
@@ -618,8 +623,7 @@ public class UIManager {
                                      int current, int max, float width) {
         batch.end();
 
-        ShapeRenderer sr = new ShapeRenderer();
-        sr.setProjectionMatrix(batch.getProjectionMatrix());
+        ShapeRenderer sr = shapes;
 
         float height = 14;
         float xpPercent = (float)current / max;
@@ -646,7 +650,6 @@ public class UIManager {
         sr.rect(x, y - height, width, height);
         sr.end();
 
-        sr.dispose();
         batch.begin();
 
         // XP text
@@ -681,7 +684,7 @@ public class UIManager {
         y -= 22;
         font.getData().setScale(0.95f);
         font.setColor(new Color(0.95f, 0.75f, 0.60f, 1f));
-        String enemyText = "⚔ Enemies Remaining: " + countAlive(screen.getEnemyUnits());
+        String enemyText = "⚔ Enemies Remaining: " + WorldStats.getAliveCount(WorldStats.ENEMY_TEAM);
         layout.setText(font, enemyText);
         drawTextWithEmboss(batch, enemyText, x - layout.width/2, y, TEXT_DARK);
     }
@@ -700,8 +703,7 @@ public class UIManager {
             float textWidth = 300;
             batch.end();
 
-            ShapeRenderer sr = new ShapeRenderer();
-            sr.setProjectionMatrix(batch.getProjectionMatrix());
+            ShapeRenderer sr = shapes;
             sr.begin(ShapeRenderer.ShapeType.Filled);
 
             // Parchment background
@@ -715,7 +717,6 @@ public class UIManager {
             sr.rect(x - textWidth/2 - 10, y - 25, textWidth + 20, 35);
             sr.end();
 
-            sr.dispose();
             batch.begin();
 
             // Message text
@@ -740,17 +741,14 @@ public class UIManager {
         font.draw(batch, text, x, y);
     }
 
-    private int countAlive(ArrayList<Unit> units) {
-        int count = 0;
-        for (Unit u : units) {
-            if (u != null && u.isAlive()) count++;
-        }
-        return count;
-    }
-
+    /**
+     * Composition of the current selection (world-wide counts come from WorldStats)
+     */
     private int[] countUnitTypes(ArrayList<Unit> units) {
-        int[] counts = new int[6];
-        for (Unit u : units) {
+        int[] counts = selectionTypeCounts;
+        Arrays.fill(counts, 0);
+        for (int i = 0, n = units.size(); i < n; i++) {
+            Unit u = units.get(i);
             if (u == null || !u.isAlive()) continue;
             if (u instanceof Worker) counts[0]++;
             else if (u instanceof Soldier) counts[1]++;
@@ -3,20 +3,39 @@ package com.vijithapura.siege.ui;
 import com.badlogic.gdx.Gdx;
 import com.badlogic.gdx.graphics.Color;
 import com.badlogic.gdx.graphics.GL20;
+import com.badlogic.gdx.graphics.Pixmap;
+import com.badlogic.gdx.graphics.Texture;
 import com.badlogic.gdx.graphics.g2d.BitmapFont;
 import com.badlogic.gdx.graphics.g2d.GlyphLayout;
 import com.badlogic.gdx.graphics.g2d.SpriteBatch;
+import com.badlogic.gdx.graphics.glutils.FrameBuffer;
 import com.badlogic.gdx.graphics.glutils.ShapeRenderer;
+import com.badlogic.gdx.math.Matrix4;
+import com.badlogic.gdx.utils.FloatArray;
+import com.vijithapura.siege.dsa.UnitQueue;
 import com.vijithapura.siege.entities.*;
+import com.vijithapura.siege.systems.TimerSystem;
 import com.vijithapura.siege.utils.Constants;
+import com.vijithapura.siege.utils.FontManager;
+import com.vijithapura.siege.utils.TextFormat;
 import java.util.ArrayList;
 
 /**
  * Professional Age of Empires 3 inspired UI rendering
  * Separated from GameScreen for better code organization
+ *
+ * Retained: the wooden bars, framed sections and the fixed recruit/command
+ * text are baked once into two FrameBuffers and drawn as two quads. Every
+ * value shown (resources, time, wave, selection, production) is a
+ * CachedLabel that only lays its glyphs out again when the bound data
+ * changes. Only the fading notifications are drawn immediately.
  */
 public class UIRenderer {
-    private BitmapFont font;
+    private final BitmapFont font;        // notifications
+    private final BitmapFont titleFont;   // section headings
+    private final BitmapFont buttonFont;
+    private final BitmapFont costFont;
+    private final BitmapFont hintFont;
     private GlyphLayout layout;
 
     // AoE3 Color Palette - Richer, More Atmospheric
@@ -33,12 +52,51 @@ public class UIRenderer {
 
     private static final int TOP_BAR_HEIGHT = 50;
     private static final int BOTTOM_PANEL_HEIGHT = 200;
+    private static final int BAKE_PADDING = 3;
 
     private float animTimer = 0;
-
-    public UIRenderer(BitmapFont font) {
-        this.font = font;
+    private final StringBuilder productionText = new StringBuilder(); // rebuilt in place each frame
+    private final StringBuilder scratch = new StringBuilder();
+    private final Color scratchColor = new Color();
+
+    // Baked chrome
+    private FrameBuffer topBar;
+    private FrameBuffer bottomPanel;
+    private final Matrix4 savedProjection = new Matrix4();
+    private final Matrix4 bakeProjection = new Matrix4();
+
+    // Bound text
+    private final CachedLabel goldLabel, woodLabel, stoneLabel, foodLabel, popLabel;
+    private final CachedLabel timeLabel, waveLabel, productionLabel;
+    private final CachedLabel selectionTitle, hpLabel, attackLabel, armorLabel, moreLabel, waveStatusLabel;
+    private final FloatArray notificationWidths = new FloatArray();
+
+    private static final Color WOOD_TEXT = new Color(0.55f, 0.40f, 0.25f, 1f);
+    private static final Color STONE_TEXT = new Color(0.65f, 0.65f, 0.70f, 1f);
+    private static final Color FOOD_TEXT = new Color(0.90f, 0.70f, 0.35f, 1f);
+
+    public UIRenderer(FontManager fonts) {
+        this.font = fonts.get(1.0f);
+        this.titleFont = fonts.get(1.2f);
+        this.buttonFont = fonts.get(0.9f);
+        this.costFont = fonts.get(0.7f);
+        this.hintFont = fonts.get(0.8f);
         this.layout = new GlyphLayout();
+
+        goldLabel = new CachedLabel(fonts.get(1.3f), TEXT_SHADOW);
+        woodLabel = new CachedLabel(fonts.get(1.3f), TEXT_SHADOW);
+        stoneLabel = new CachedLabel(fonts.get(1.3f), TEXT_SHADOW);
+        foodLabel = new CachedLabel(fonts.get(1.3f), TEXT_SHADOW);
+        popLabel = new CachedLabel(fonts.get(1.3f), TEXT_SHADOW);
+        timeLabel = new CachedLabel(fonts.get(1.5f), TEXT_SHADOW);
+        waveLabel = new CachedLabel(fonts.get(1.1f), TEXT_SHADOW);
+        productionLabel = new CachedLabel(fonts.get(0.75f), TEXT_SHADOW);
+        selectionTitle = new CachedLabel(fonts.get(1.2f), TEXT_SHADOW);
+        hpLabel = new CachedLabel(fonts.get(0.95f), TEXT_SHADOW);
+        attackLabel = new CachedLabel(fonts.get(0.95f), TEXT_SHADOW);
+        armorLabel = new CachedLabel(fonts.get(0.95f), TEXT_SHADOW);
+        moreLabel = new CachedLabel(fonts.get(0.85f), TEXT_SHADOW);
+        waveStatusLabel = new CachedLabel(fonts.get(1.0f), TEXT_SHADOW);
     }
 
     public void update(float delta) {
@@ -46,22 +104,91 @@ public class UIRenderer {
     }
 
     public void renderGameUI(SpriteBatch batch, ShapeRenderer sr, GameUIData data) {
+        if (topBar == null || bottomPanel == null) {
+            bakeChrome(batch, sr);
+        }
+
         Gdx.gl.glEnable(GL20.GL_BLEND);
         sr.setProjectionMatrix(batch.getProjectionMatrix());
 
-        // Draw panels
-        renderTopResourceBar(sr, data);
-        renderBottomCommandPanel(sr, data);
-
-        // Draw text content
+        // Draw panels (two cached quads) and text content
         batch.begin();
+        drawBaked(batch, topBar, 0, Constants.SCREEN_HEIGHT - TOP_BAR_HEIGHT - BAKE_PADDING);
+        drawBaked(batch, bottomPanel, 0, 0);
         renderTopBarContent(batch, data);
         renderBottomPanelContent(batch, data);
-        renderNotifications(batch, data.notifications);
         batch.end();
+
+        renderNotifications(batch, sr, data.notifications);
+    }
+
+    // ===== BAKED CHROME =====
+
+    /**
+     * Draw the bars, frames and fixed text into FrameBuffers (once, or after invalidate())
+     */
+    private void bakeChrome(SpriteBatch batch, ShapeRenderer sr) {
+        savedProjection.set(batch.getProjectionMatrix());
+        Gdx.gl.glEnable(GL20.GL_BLEND);
+        // Keep the target's alpha opaque where panels are drawn, transparent in the padding
+        Gdx.gl.glBlendFuncSeparate(GL20.GL_SRC_ALPHA, GL20.GL_ONE_MINUS_SRC_ALPHA, GL20.GL_ONE, GL20.GL_ONE_MINUS_SRC_ALPHA);
+        batch.setBlendFunctionSeparate(GL20.GL_SRC_ALPHA, GL20.GL_ONE_MINUS_SRC_ALPHA, GL20.GL_ONE, GL20.GL_ONE_MINUS_SRC_ALPHA);
+
+        // The gold border lines straddle the panel edges, hence the padding
+        if (topBar == null) topBar = createBakeTarget(TOP_BAR_HEIGHT + BAKE_PADDING);
+        beginBake(topBar, batch, sr, Constants.SCREEN_HEIGHT - TOP_BAR_HEIGHT - BAKE_PADDING);
+        renderTopResourceBar(sr);
+        topBar.end();
+
+        if (bottomPanel == null) bottomPanel = createBakeTarget(BOTTOM_PANEL_HEIGHT + BAKE_PADDING);
+        beginBake(bottomPanel, batch, sr, 0);
+        renderBottomCommandPanel(sr);
+        batch.begin();
+        renderActionButtons(batch, 250, 30);
+        batch.end();
+        bottomPanel.end();
+
+        Gdx.gl.glBlendFunc(GL20.GL_SRC_ALPHA, GL20.GL_ONE_MINUS_SRC_ALPHA);
+        batch.setBlendFunction(GL20.GL_SRC_ALPHA, GL20.GL_ONE_MINUS_SRC_ALPHA);
+        batch.setProjectionMatrix(savedProjection);
+        sr.setProjectionMatrix(savedProjection);
     }
 
-    private void renderTopResourceBar(ShapeRenderer sr, GameUIData data) {
+    private FrameBuffer createBakeTarget(int height) {
+        return new FrameBuffer(Pixmap.Format.RGBA8888, Constants.SCREEN_WIDTH, height, false);
+    }
+
+    private void beginBake(FrameBuffer target, SpriteBatch batch, ShapeRenderer sr, float y) {
+        bakeProjection.setToOrtho2D(0, y, target.getWidth(), target.getHeight());
+        batch.setProjectionMatrix(bakeProjection);
+        sr.setProjectionMatrix(bakeProjection);
+        target.begin();
+        Gdx.gl.glClearColor(0, 0, 0, 0);
+        Gdx.gl.glClear(GL20.GL_COLOR_BUFFER_BIT);
+    }
+
+    private void drawBaked(SpriteBatch batch, FrameBuffer baked, float x, float y) {
+        Texture texture = baked.getColorBufferTexture();
+        // FrameBuffer textures are stored bottom-up
+        batch.draw(texture, x, y, texture.getWidth(), texture.getHeight(),
+            0, 0, texture.getWidth(), texture.getHeight(), false, true);
+    }
+
+    /**
+     * Re-bake the panels on the next frame
+     */
+    public void invalidate() {
+        dispose();
+    }
+
+    public void dispose() {
+        if (topBar != null) topBar.dispose();
+        if (bottomPanel != null) bottomPanel.dispose();
+        topBar = null;
+        bottomPanel = null;
+    }
+
+    private void renderTopResourceBar(ShapeRenderer sr) {
         sr.begin(ShapeRenderer.ShapeType.Filled);
 
         float y = Constants.SCREEN_HEIGHT - TOP_BAR_HEIGHT;
@@ -84,7 +211,7 @@ public class UIRenderer {
         sr.end();
     }
 
-    private void renderBottomCommandPanel(ShapeRenderer sr, GameUIData data) {
+    private void renderBottomCommandPanel(ShapeRenderer sr) {
         sr.begin(ShapeRenderer.ShapeType.Filled);
 
         // Main panel
@@ -159,62 +286,69 @@ public class UIRenderer {
         float iconGap = 180;
         float startX = 40;
 
-        font.getData().setScale(1.3f);
-
-        // Gold with shimmer
+        // Gold with shimmer (a tint over the cached glyphs)
+        scratch.setLength(0);
+        goldLabel.set(scratch.append("⚜ ").append(data.gold), GOLD_BRIGHT);
+        goldLabel.setPosition(startX, y);
         float shimmer = (float)Math.sin(animTimer * 2) * 0.1f + 0.9f;
-        drawTextWithShadow(batch, "⚜ " + data.gold, startX, y,
-            new Color(GOLD_BRIGHT.r * shimmer, GOLD_BRIGHT.g * shimmer, GOLD_BRIGHT.b, 1f));
+        goldLabel.tint(scratchColor.set(shimmer, shimmer, 1f, 1f));
+        goldLabel.draw(batch);
 
         // Wood
-        drawTextWithShadow(batch, "🌲 " + data.wood, startX + iconGap, y,
-            new Color(0.55f, 0.40f, 0.25f, 1f));
+        drawResource(batch, woodLabel, "🌲 ", data.wood, startX + iconGap, y, WOOD_TEXT);
 
         // Stone
-        drawTextWithShadow(batch, "⛰ " + data.stone, startX + iconGap * 2, y,
-            new Color(0.65f, 0.65f, 0.70f, 1f));
+        drawResource(batch, stoneLabel, "⛰ ", data.stone, startX + iconGap * 2, y, STONE_TEXT);
 
         // Food
-        drawTextWithShadow(batch, "🌾 " + data.food, startX + iconGap * 3, y,
-            new Color(0.90f, 0.70f, 0.35f, 1f));
+        drawResource(batch, foodLabel, "🌾 ", data.food, startX + iconGap * 3, y, FOOD_TEXT);
 
         // Population
         Color popColor = data.currentPop >= data.maxPop ?
             Color.RED : data.currentPop >= data.maxPop * 0.8f ?
             Color.ORANGE : PARCHMENT;
-        drawTextWithShadow(batch, "👥 " + data.currentPop + "/" + data.maxPop,
-            startX + iconGap * 4, y, popColor);
+        scratch.setLength(0);
+        popLabel.set(scratch.append("👥 ").append(data.currentPop).append('/').append(data.maxPop), popColor);
+        popLabel.setPosition(startX + iconGap * 4, y);
+        popLabel.draw(batch);
 
         // Game time (centered)
-        String timeStr = String.format("%02d:%02d",
-            (int)(data.gameTime / 60), (int)(data.gameTime % 60));
-        font.getData().setScale(1.5f);
-        layout.setText(font, timeStr);
-        drawTextWithShadow(batch, timeStr,
-            Constants.SCREEN_WIDTH/2 - layout.width/2, y, GOLD_BRIGHT);
+        int minutes = (int)(data.gameTime / 60);
+        int seconds = (int)(data.gameTime % 60);
+        scratch.setLength(0);
+        TextFormat.appendPadded(scratch, minutes, 2).append(':');
+        TextFormat.appendPadded(scratch, seconds, 2);
+        timeLabel.set(scratch, GOLD_BRIGHT);
+        timeLabel.setPosition(Constants.SCREEN_WIDTH/2 - timeLabel.getWidth()/2, y);
+        timeLabel.draw(batch);
 
         // Wave info (right)
-        font.getData().setScale(1.1f);
-        String waveText = "Wave " + data.currentWave;
-        layout.setText(font, waveText);
-        drawTextWithShadow(batch, waveText,
-            Constants.SCREEN_WIDTH - layout.width - 40, y,
+        scratch.setLength(0);
+        waveLabel.set(scratch.append("Wave ").append(data.currentWave),
             data.waveInProgress ? Color.RED : Color.GREEN);
+        waveLabel.setPosition(Constants.SCREEN_WIDTH - waveLabel.getWidth() - 40, y);
+        waveLabel.draw(batch);
+    }
+
+    private void drawResource(SpriteBatch batch, CachedLabel label, String icon, int amount,
+                              float x, float y, Color color) {
+        scratch.setLength(0);
+        label.set(scratch.append(icon).append(amount), color);
+        label.setPosition(x, y);
+        label.draw(batch);
     }
 
     private void renderBottomPanelContent(SpriteBatch batch, GameUIData data) {
-        // Action buttons section
-        renderActionButtons(batch, 250, 30);
+        // Action buttons are part of the baked panel
+        renderProductionQueues(batch, data, 460, 175);
 
         // Selection info section
         renderSelectionInfo(batch, data, 710, 30);
     }
 
     private void renderActionButtons(SpriteBatch batch, float baseX, float baseY) {
-        font.getData().setScale(1.2f);
-        drawTextWithShadow(batch, "⚔ RECRUIT UNITS", baseX, baseY + 145, GOLD_BRIGHT);
+        drawTextWithShadow(batch, titleFont, "⚔ RECRUIT UNITS", baseX, baseY + 145, GOLD_BRIGHT);
 
-        font.getData().setScale(0.9f);
         float x = baseX;
         float y = baseY + 110;
         float spacing = 140;
@@ -232,98 +366,141 @@ public class UIRenderer {
 
         // Commands
         y -= 50;
-        font.getData().setScale(0.8f);
-        drawTextWithShadow(batch, "[Q] Attack Gate  [E] Stop  [H] Hold  [F] Formation",
+        drawTextWithShadow(batch, hintFont, "[Q] Attack Gate  [E] Stop  [H] Hold  [F] Formation  [G] Auto-gather",
             baseX, y, PARCHMENT);
     }
 
-    private void renderButton(SpriteBatch batch, float x, float y, String label, String cost) {
-        drawTextWithShadow(batch, label, x, y, PARCHMENT);
+    /**
+     * One line per producing building, read straight from its queue (nothing copied)
+     */
+    private void renderProductionQueues(SpriteBatch batch, GameUIData data, float x, float y) {
+        if (data.buildings == null) return;
+        float now = TimerSystem.now();
+        productionText.setLength(0);
+
+        for (int i = 0, n = data.buildings.size(); i < n; i++) {
+            UnitQueue queue = data.buildings.get(i).getProductionQueue();
+            if (queue == null) continue;
+            if (productionText.length() > 0) productionText.append("   ");
+            productionText.append(data.buildings.get(i).getName()).append(": ");
+            if (queue.isEmpty()) {
+                productionText.append("idle");
+            } else {
+                productionText.append(queue.get(0)).append(' ')
+                    .append((int) (queue.getProgress(now) * 100)).append('%');
+                if (queue.size() > 1) productionText.append(" +").append(queue.size() - 1);
+            }
+        }
 
-        font.getData().setScale(0.7f);
-        drawTextWithShadow(batch, cost, x, y - 18, GOLD_DARK);
-        font.getData().setScale(0.9f);
+        productionLabel.set(productionText, PARCHMENT);
+        productionLabel.setPosition(x, y);
+        productionLabel.draw(batch);
     }
 
-    private void renderSelectionInfo(SpriteBatch batch, GameUIData data, float x, float y) {
-        font.getData().setScale(1.2f);
+    private void renderButton(SpriteBatch batch, float x, float y, String label, String cost) {
+        drawTextWithShadow(batch, buttonFont, label, x, y, PARCHMENT);
+        drawTextWithShadow(batch, costFont, cost, x, y - 18, GOLD_DARK);
+    }
 
+    private void renderSelectionInfo(SpriteBatch batch, GameUIData data, float x, float y) {
         if (!data.selectedUnits.isEmpty()) {
             Unit unit = data.selectedUnits.get(0);
-            drawTextWithShadow(batch, unit.getName().toUpperCase(), x, y + 145, GOLD_BRIGHT);
+            scratch.setLength(0);
+            scratch.append(unit.getName());
+            for (int i = 0, n = scratch.length(); i < n; i++) {
+                scratch.setCharAt(i, Character.toUpperCase(scratch.charAt(i)));
+            }
+            drawLabel(batch, selectionTitle, scratch, GOLD_BRIGHT, x, y + 145);
 
-            font.getData().setScale(0.95f);
             y += 110;
-            drawTextWithShadow(batch, "HP: " + (int)unit.getHealth() + "/" + (int)unit.getMaxHealth(),
-                x, y, Color.GREEN);
+            scratch.setLength(0);
+            scratch.append("HP: ").append((int)unit.getHealth()).append('/').append((int)unit.getMaxHealth());
+            drawLabel(batch, hpLabel, scratch, Color.GREEN, x, y);
 
             y -= 25;
-            drawTextWithShadow(batch, "⚔ Attack: " + (int)unit.getAttackDamage(), x, y, Color.RED);
+            scratch.setLength(0);
+            scratch.append("⚔ Attack: ").append((int)unit.getAttackDamage());
+            drawLabel(batch, attackLabel, scratch, Color.RED, x, y);
 
             y -= 25;
-            drawTextWithShadow(batch, "🛡 Armor: " + (int)unit.getArmor(), x, y, Color.CYAN);
+            scratch.setLength(0);
+            scratch.append("🛡 Armor: ").append((int)unit.getArmor());
+            drawLabel(batch, armorLabel, scratch, Color.CYAN, x, y);
 
             if (data.selectedUnits.size() > 1) {
                 y -= 30;
-                font.getData().setScale(0.85f);
-                drawTextWithShadow(batch, "+ " + (data.selectedUnits.size() - 1) + " more units",
-                    x, y, Color.GRAY);
+                scratch.setLength(0);
+                scratch.append("+ ").append(data.selectedUnits.size() - 1).append(" more units");
+                drawLabel(batch, moreLabel, scratch, Color.GRAY, x, y);
             }
         } else {
-            drawTextWithShadow(batch, "NO SELECTION", x, y + 145, Color.GRAY);
+            drawLabel(batch, selectionTitle, "NO SELECTION", Color.GRAY, x, y + 145);
         }
 
         // Wave status
         y = 50;
-        font.getData().setScale(1.0f);
-        String status = data.waveInProgress ?
-            "⚠ WAVE " + data.currentWave + " ATTACKING!" :
-            "Next wave in: " + (int)(data.timeToNextWave) + "s";
-        drawTextWithShadow(batch, status, x, y,
-            data.waveInProgress ? Color.RED : Color.YELLOW);
+        scratch.setLength(0);
+        if (data.waveInProgress) {
+            scratch.append("⚠ WAVE ").append(data.currentWave).append(" ATTACKING!");
+        } else {
+            scratch.append("Next wave in: ").append((int)(data.timeToNextWave)).append('s');
+        }
+        drawLabel(batch, waveStatusLabel, scratch, data.waveInProgress ? Color.RED : Color.YELLOW, x, y);
     }
 
-    private void renderNotifications(SpriteBatch batch, ArrayList<Notification> notifications) {
-        if (notifications.isEmpty()) return;
+    private void drawLabel(SpriteBatch batch, CachedLabel label, CharSequence text,
+                           Color color, float x, float y) {
+        label.set(text, color);
+        label.setPosition(x, y);
+        label.draw(batch);
+    }
 
-        float y = Constants.SCREEN_HEIGHT - 80;
-        float maxWidth = 400;
+    /**
+     * Fading messages change every frame, so they are drawn immediately: all
+     * backgrounds in one shape pass, then all text in one batch pass
+     */
+    private void renderNotifications(SpriteBatch batch, ShapeRenderer sr, ArrayList<Notification> notifications) {
+        if (notifications.isEmpty()) return;
 
+        notificationWidths.clear();
         for (int i = notifications.size() - 1; i >= 0; i--) {
-            Notification n = notifications.get(i);
-
-            font.getData().setScale(1.0f);
-            String text = n.getMessage();
-            layout.setText(font, text);
-
-            float x = Constants.SCREEN_WIDTH - layout.width - 30;
+            layout.setText(font, notifications.get(i).getMessage());
+            notificationWidths.add(layout.width);
+        }
 
-            // Notification background
-            batch.end();
-            ShapeRenderer sr = new ShapeRenderer();
-            sr.setProjectionMatrix(batch.getProjectionMatrix());
-            sr.begin(ShapeRenderer.ShapeType.Filled);
+        // Notification backgrounds
+        sr.begin(ShapeRenderer.ShapeType.Filled);
+        float y = Constants.SCREEN_HEIGHT - 80;
+        for (int i = notifications.size() - 1, w = 0; i >= 0; i--, w++) {
+            Notification n = notifications.get(i);
+            float width = notificationWidths.get(w);
+            float x = Constants.SCREEN_WIDTH - width - 30;
 
             sr.setColor(WOOD_DARK.r, WOOD_DARK.g, WOOD_DARK.b, n.alpha * 0.9f);
-            sr.rect(x - 15, y - 25, layout.width + 30, 35);
+            sr.rect(x - 15, y - 25, width + 30, 35);
 
             sr.setColor(GOLD_DARK.r, GOLD_DARK.g, GOLD_DARK.b, n.alpha);
             sr.rect(x - 15, y - 25, 3, 35);
-            sr.rect(x + layout.width + 12, y - 25, 3, 35);
-
-            sr.end();
-            sr.dispose();
-            batch.begin();
+            sr.rect(x + width + 12, y - 25, 3, 35);
 
-            // Text
-            drawTextWithShadow(batch, text, x, y,
-                new Color(n.getColor().r, n.getColor().g, n.getColor().b, n.alpha));
+            y -= 45;
+        }
+        sr.end();
 
+        // Text
+        batch.begin();
+        y = Constants.SCREEN_HEIGHT - 80;
+        for (int i = notifications.size() - 1, w = 0; i >= 0; i--, w++) {
+            Notification n = notifications.get(i);
+            float x = Constants.SCREEN_WIDTH - notificationWidths.get(w) - 30;
+            Color color = n.getColor();
+            drawTextWithShadow(batch, font, n.getMessage(), x, y, scratchColor.set(color.r, color.g, color.b, n.alpha));
             y -= 45;
         }
+        batch.end();
     }
 
-    private void drawTextWithShadow(SpriteBatch batch, String text, float x, float y, Color color) {
+    private void drawTextWithShadow(SpriteBatch batch, BitmapFont font, CharSequence text, float x, float y, Color color) {
         // Shadow
         font.setColor(TEXT_SHADOW);
         font.draw(batch, text, x + 2, y - 2);
@@ -345,6 +522,7 @@ public class UIRenderer {
         public float timeToNextWave;
         public ArrayList<Unit> selectedUnits;
         public ArrayList<Notification> notifications;
+        public ArrayList<Building> buildings; // production queues are read from these
 
         public GameUIData() {
             selectedUnits = new ArrayList<>();
@@ -0,0 +1,71 @@
+package com.vijithapura.siege.utils;
+
+import com.badlogic.gdx.graphics.Color;
+import com.badlogic.gdx.graphics.g2d.Sprite;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
+
+/**
+ * An entity's own Sprite, kept across frames.
+ * update() only touches the sprite for values that differ from last frame, so
+ * a building or resource node is set up once and a unit only moves its
+ * vertices while walking. Nothing is allocated after the first call.
+ */
+public class CachedSprite {
+    private final Sprite sprite = new Sprite();
+    private String key;
+    private TextureRegion region;
+
+    private float x = Float.NaN;
+    private float y = Float.NaN;
+    private float width = -1;
+    private float height = -1;
+    private float scale = 1;
+    private float colorBits = Color.WHITE_FLOAT_BITS;
+
+    /**
+     * Bring the sprite up to date
+     * @return The sprite to draw, or null when the image is not loaded (draw shapes instead)
+     */
+    public Sprite update(TextureManager textureManager, String key, float x, float y,
+                         float width, float height, Color tint, float scale) {
+        if (key == null) return null;
+        if (!key.equals(this.key)) {
+            // New image (e.g. a pooled unit respawned as another type)
+            this.key = key;
+            region = textureManager.getRegion(key);
+            if (region != null) sprite.setRegion(region);
+            this.width = -1;
+        }
+        if (region == null) return null;
+
+        if (width != this.width || height != this.height) {
+            this.width = width;
+            this.height = height;
+            sprite.setSize(width, height);
+            sprite.setOriginCenter(); // scale around the middle
+        }
+        if (x != this.x || y != this.y) {
+            this.x = x;
+            this.y = y;
+            sprite.setPosition(x, y);
+        }
+        if (scale != this.scale) {
+            this.scale = scale;
+            sprite.setScale(scale);
+        }
+        float bits = tint.toFloatBits();
+        if (bits != colorBits) {
+            colorBits = bits;
+            sprite.setPackedColor(bits);
+        }
+        return sprite;
+    }
+
+    /**
+     * Whether update() would return a sprite for this key
+     */
+    public boolean has(TextureManager textureManager, String key) {
+        if (key == null) return false;
+        return key.equals(this.key) ? region != null : textureManager.hasTexture(key);
+    }
+}
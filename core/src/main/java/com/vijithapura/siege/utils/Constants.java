@@ -155,13 +155,21 @@ public class Constants {
     // Camera
     public static final float CAMERA_SPEED = 450f;
     public static final float CAMERA_ZOOM_MIN = 0.3f;
-    public static final float CAMERA_ZOOM_MAX = 0.8f;
+    public static final float CAMERA_ZOOM_MAX = 1.9f; // widest view that still fits inside the map
     public static final float CAMERA_EDGE_SCROLL = 30f;
 
+    // Render LOD, set by the zoom at which a soldier (80-unit sprite, the bulk of an army) changes
+    // tier; other units switch at that zoom times sqrt(their size / 80) (WorldRenderer.lodTier)
+    public static final float RENDER_LOD_REFERENCE_SIZE = 80f;
+    public static final float RENDER_LOD_DETAIL_ZOOM = 0.9f; // beyond: sprite only, no bars or indicators
+    public static final float RENDER_LOD_POINT_ZOOM = 1.3f;  // beyond: one coloured point
+    public static final int RENDER_LOD_MAX_POINTS = 4096;
+
     // Particle Effects
     public static final int BLOOD_PARTICLES = 8;
     public static final int DUST_PARTICLES = 5;
     public static final float PARTICLE_LIFETIME = 1.5f;
+    public static final int MAX_PARTICLES = 4096; // hard cap, low-priority particles are culled first
 
     // Sound
     public static final float MASTER_VOLUME = 0.8f;
@@ -170,6 +178,7 @@ public class Constants {
 
     // UI
     public static final float MINIMAP_SIZE = 200f;
+    public static final float MINIMAP_UNIT_REFRESH_RATE = 10f; // unit dot updates per second
     public static final int HOTKEY_GROUPS = 9;
     public static final float TOOLTIP_DELAY = 0.5f;
     public static final int WORKER_COST_WOOD = 0;
@@ -0,0 +1,87 @@
+package com.vijithapura.siege.utils;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.files.FileHandle;
+import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.graphics.g2d.BitmapFont;
+import com.badlogic.gdx.graphics.g2d.freetype.FreeTypeFontGenerator;
+import com.badlogic.gdx.utils.IntMap;
+
+/**
+ * Fonts at fixed pixel sizes, generated once and shared.
+ * Callers ask for the size they draw at (as a scale of the classic 15px
+ * default font, so old setScale() values map over directly) and keep the
+ * font, instead of rescaling one font before every draw. With
+ * fonts/game.ttf present the fonts are rasterised by FreeType at that exact
+ * size, glyphs added incrementally as they are first drawn; without it the
+ * built-in font is used with its scale fixed at creation.
+ */
+public class FontManager {
+    public static final String FONT_PATH = "fonts/game.ttf";
+    private static final int BASE_SIZE = 15; // line size of the built-in font at scale 1
+
+    private final FreeTypeFontGenerator generator; // null when the TTF is missing
+    private final IntMap<BitmapFont> fonts = new IntMap<>();
+
+    public FontManager() {
+        FileHandle file = Gdx.files.internal(FONT_PATH);
+        FreeTypeFontGenerator loaded = null;
+        if (file.exists()) {
+            try {
+                loaded = new FreeTypeFontGenerator(file);
+            } catch (Exception e) {
+                Log.error(Log.ASSETS, "Could not load {}, using the built-in font: {}")
+                    .arg(FONT_PATH).arg(e.getMessage()).commit();
+            }
+        } else {
+            Log.info(Log.ASSETS, "No {} - using the built-in font").arg(FONT_PATH).commit();
+        }
+        generator = loaded;
+    }
+
+    /**
+     * Font that draws at the given scale of the base size
+     */
+    public BitmapFont get(float scale) {
+        return getPixelSize(Math.max(6, Math.round(BASE_SIZE * scale)));
+    }
+
+    /**
+     * Font whose glyphs are the given pixel size, created on first use
+     */
+    public BitmapFont getPixelSize(int size) {
+        BitmapFont font = fonts.get(size);
+        if (font == null) {
+            font = generator != null ? generate(size) : scaledDefault(size);
+            fonts.put(size, font);
+        }
+        return font;
+    }
+
+    private BitmapFont generate(int size) {
+        FreeTypeFontGenerator.FreeTypeFontParameter parameter = new FreeTypeFontGenerator.FreeTypeFontParameter();
+        parameter.size = size;
+        parameter.incremental = true; // glyphs outside the preset are rasterised when first drawn
+        parameter.minFilter = Texture.TextureFilter.Linear;
+        parameter.magFilter = Texture.TextureFilter.Linear;
+        return generator.generateFont(parameter);
+    }
+
+    private BitmapFont scaledDefault(int size) {
+        BitmapFont font = new BitmapFont();
+        font.getData().setScale(size / (float) BASE_SIZE);
+        return font;
+    }
+
+    public boolean isFreeType() {
+        return generator != null;
+    }
+
+    public void dispose() {
+        for (BitmapFont font : fonts.values()) {
+            font.dispose();
+        }
+        fonts.clear();
+        if (generator != null) generator.dispose();
+    }
+}
@@ -44,8 +44,8 @@ public class InputHandler extends InputAdapter {
         lastDragPos.set(worldPos);
         isDragging = false;
 
-        Gdx.app.log("InputHandler", "Touch down at screen: " + screenX + ", " + screenY +
-            " -> world: " + worldPos.x + ", " + worldPos.y + " button: " + button);
+        Log.debug(Log.INPUT, "Touch down at screen: {}, {} -> world: {}, {}")
+            .arg(screenX).arg(screenY).arg(worldPos.x).arg(worldPos.y).commit();
 
         return true;
     }
@@ -54,8 +54,8 @@ public class InputHandler extends InputAdapter {
     public boolean touchUp(int screenX, int screenY, int pointer, int button) {
         Vector2 worldPos = screenToWorld(screenX, screenY);
 
-        Gdx.app.log("InputHandler", "Touch up at screen: " + screenX + ", " + screenY +
-            " -> world: " + worldPos.x + ", " + worldPos.y + " button: " + button);
+        Log.debug(Log.INPUT, "Touch up at screen: {}, {} -> world: {}, {}")
+            .arg(screenX).arg(screenY).arg(worldPos.x).arg(worldPos.y).commit();
 
         // Check if this was a drag or a click
         float dragDistance = dragStart.dst(worldPos);
@@ -64,15 +64,15 @@ public class InputHandler extends InputAdapter {
             // It's a click, not a drag
             if (clickListener != null) {
                 if (button == com.badlogic.gdx.Input.Buttons.LEFT) {
-                    Gdx.app.log("InputHandler", "LEFT CLICK at: " + worldPos.x + ", " + worldPos.y);
+                    Log.debug(Log.INPUT, "LEFT CLICK at: {}, {}").arg(worldPos.x).arg(worldPos.y).commit();
                     clickListener.onLeftClick(worldPos.x, worldPos.y);
                 } else if (button == com.badlogic.gdx.Input.Buttons.RIGHT) {
-                    Gdx.app.log("InputHandler", "RIGHT CLICK at: " + worldPos.x + ", " + worldPos.y);
+                    Log.debug(Log.INPUT, "RIGHT CLICK at: {}, {}").arg(worldPos.x).arg(worldPos.y).commit();
                     clickListener.onRightClick(worldPos.x, worldPos.y);
                 }
             }
         } else {
-            Gdx.app.log("InputHandler", "Drag detected (distance: " + dragDistance + "), not firing click");
+            Log.debug(Log.INPUT, "Drag detected (distance: {}), not firing click").arg(dragDistance).commit();
         }
 
         isDragging = false;
@@ -117,7 +117,7 @@ public class InputHandler extends InputAdapter {
         camera.zoom = Math.max(Constants.CAMERA_ZOOM_MIN, Math.min(camera.zoom, Constants.CAMERA_ZOOM_MAX));
         camera.update();
 
-        Gdx.app.log("InputHandler", "Zoom: " + camera.zoom);
+        Log.debug(Log.INPUT, "Zoom: {}").arg(camera.zoom).commit();
         return true;
     }
 
@@ -0,0 +1,432 @@
+package com.vijithapura.siege.utils;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.concurrent.locks.LockSupport;
+
+import com.badlogic.gdx.Gdx;
+import com.vijithapura.siege.dsa.MpscRing;
+
+/**
+ * Low-overhead game logger.
+ *
+ * Messages use "{}" placeholders and are formatted lazily on a background
+ * thread, so the calling thread only claims a preallocated ring slot and
+ * copies the arguments:
+ *
+ *   Log.debug(Log.COMBAT, "{} attacked {}").arg(a.getName()).arg(b.getName()).commit();
+ *
+ * Disabled levels, sampled-out and rate-limited messages return a shared no-op
+ * record. Pass immutable arguments (strings, numbers): objects are only turned
+ * into text when the writer thread gets to them.
+ */
+public class Log {
+    // ===== LEVELS =====
+    public static final int TRACE = 0;
+    public static final int DEBUG = 1;
+    public static final int INFO = 2;
+    public static final int WARN = 3;
+    public static final int ERROR = 4;
+    public static final int OFF = 5;
+
+    /** Levels below this are compiled out of trace()/debug() (constant-folded guard) */
+    public static final int MIN_COMPILED_LEVEL = TRACE;
+
+    private static final String[] LEVEL_NAMES = {"TRACE", "DEBUG", "INFO", "WARN", "ERROR"};
+    private static final int RING_CAPACITY = 4096;
+    private static final int MAX_ARGS = 4;
+    private static final long IDLE_PARK_NANOS = 2_000_000L;
+
+    private static final byte ARG_OBJECT = 0;
+    private static final byte ARG_NUMBER = 1;
+
+    // ===== CATEGORIES =====
+    private static final Category[] categories = new Category[32];
+    private static int categoryCount = 0;
+
+    public static final Category GAME = new Category("Game", INFO);
+    public static final Category COMBAT = new Category("Combat", INFO).sampleEvery(10).maxPerSecond(20);
+    public static final Category ECONOMY = new Category("Economy", INFO).maxPerSecond(10);
+    public static final Category UNITS = new Category("Unit", INFO).maxPerSecond(30);
+    public static final Category INPUT = new Category("Input", INFO);
+    public static final Category ASSETS = new Category("Assets", INFO);
+    public static final Category DSA = new Category("DSA", INFO).maxPerSecond(30);
+    public static final Category RENDER = new Category("Render", INFO);
+
+    /**
+     * Log category with its own level threshold, sampling and rate limit.
+     * Counters are updated without locks; they are approximate if several
+     * threads log to the same category at once.
+     */
+    public static class Category {
+        public final String tag;
+        final int id;
+        volatile int level;
+        int sampleEvery = 1;
+        int maxPerSecond = 0; // 0 = unlimited
+
+        private int sampleCounter;
+        private long windowStart;
+        private int windowCount;
+        private long suppressed;
+
+        public Category(String tag, int level) {
+            this.tag = tag;
+            this.level = level;
+            this.id = categoryCount;
+            categories[categoryCount++] = this;
+        }
+
+        /** Only emit one in every n messages */
+        public Category sampleEvery(int n) {
+            this.sampleEvery = Math.max(1, n);
+            return this;
+        }
+
+        /** Drop messages beyond this many per second (0 = unlimited) */
+        public Category maxPerSecond(int n) {
+            this.maxPerSecond = Math.max(0, n);
+            return this;
+        }
+
+        public void setLevel(int level) { this.level = level; }
+        public int getLevel() { return level; }
+        public long getSuppressedCount() { return suppressed; }
+
+        boolean admit(long now) {
+            if (sampleEvery > 1 && (sampleCounter++ % sampleEvery) != 0) {
+                suppressed++;
+                return false;
+            }
+            if (maxPerSecond > 0) {
+                if (now - windowStart >= 1_000_000_000L) {
+                    windowStart = now;
+                    windowCount = 0;
+                }
+                if (windowCount >= maxPerSecond) {
+                    suppressed++;
+                    return false;
+                }
+                windowCount++;
+            }
+            return true;
+        }
+    }
+
+    /**
+     * Ring slot filled in place by the caller. Always finish with commit().
+     */
+    public static class Record {
+        private final boolean live;
+        private long sequence;
+        long timestamp;
+        int level;
+        Category category;
+        String template;
+        int argCount;
+        final byte[] argKinds = new byte[MAX_ARGS];
+        final Object[] refs = new Object[MAX_ARGS];
+        final double[] nums = new double[MAX_ARGS];
+
+        Record(boolean live) {
+            this.live = live;
+        }
+
+        public Record arg(Object value) {
+            if (live && argCount < MAX_ARGS) {
+                argKinds[argCount] = ARG_OBJECT;
+                refs[argCount++] = value;
+            }
+            return this;
+        }
+
+        public Record arg(int value) {
+            return arg((double) value);
+        }
+
+        public Record arg(float value) {
+            return arg((double) value);
+        }
+
+        public Record arg(double value) {
+            if (live && argCount < MAX_ARGS) {
+                argKinds[argCount] = ARG_NUMBER;
+                nums[argCount++] = value;
+            }
+            return this;
+        }
+
+        public void commit() {
+            if (live) ring.publish(sequence);
+        }
+    }
+
+    private static final Record DISABLED = new Record(false);
+    private static final MpscRing<Record> ring = new MpscRing<>(RING_CAPACITY, () -> new Record(true));
+
+    private static volatile boolean consoleOutput = true;
+    private static volatile DataOutputStream binaryOut;
+    private static volatile long dropped;
+    private static final Thread writer;
+
+    // Writer-side state (guarded by consumerLock)
+    private static final Object consumerLock = new Object();
+    private static final StringBuilder text = new StringBuilder(256);
+    private static final HashMap<String, Integer> binaryTemplates = new HashMap<>();
+    private static int binaryCategoriesWritten = 0;
+
+    static {
+        writer = new Thread(Log::writerLoop, "log-writer");
+        writer.setDaemon(true);
+        writer.start();
+    }
+
+    // ===== LOGGING API =====
+
+    public static Record trace(Category category, String template) {
+        if (TRACE < MIN_COMPILED_LEVEL) return DISABLED;
+        return begin(TRACE, category, template);
+    }
+
+    public static Record debug(Category category, String template) {
+        if (DEBUG < MIN_COMPILED_LEVEL) return DISABLED;
+        return begin(DEBUG, category, template);
+    }
+
+    public static Record info(Category category, String template) {
+        return begin(INFO, category, template);
+    }
+
+    public static Record warn(Category category, String template) {
+        return begin(WARN, category, template);
+    }
+
+    public static Record error(Category category, String template) {
+        return begin(ERROR, category, template);
+    }
+
+    /**
+     * Errors with a stack trace skip the ring and are written immediately
+     */
+    public static void error(Category category, String message, Throwable t) {
+        flush();
+        if (Gdx.app != null) {
+            Gdx.app.error(category.tag, message, t);
+        } else {
+            System.err.println("[" + category.tag + "] " + message);
+            t.printStackTrace();
+        }
+    }
+
+    public static boolean isEnabled(int level, Category category) {
+        return level >= MIN_COMPILED_LEVEL && level >= category.level;
+    }
+
+    private static Record begin(int level, Category category, String template) {
+        if (level < category.level) return DISABLED;
+
+        long now = System.nanoTime();
+        if (!category.admit(now)) return DISABLED;
+
+        long sequence = ring.claim();
+        if (sequence < 0) {
+            dropped++;
+            return DISABLED;
+        }
+
+        Record record = ring.get(sequence);
+        record.sequence = sequence;
+        record.timestamp = now;
+        record.level = level;
+        record.category = category;
+        record.template = template;
+        record.argCount = 0;
+        return record;
+    }
+
+    // ===== OUTPUT =====
+
+    public static void setConsoleOutput(boolean enabled) {
+        consoleOutput = enabled;
+    }
+
+    /**
+     * Additionally write every record to a compact binary file
+     * (template and category strings are written once, then referenced by id)
+     */
+    public static synchronized void openBinaryFile(String path) throws IOException {
+        closeBinaryFile();
+        DataOutputStream out = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(path), 1 << 16));
+        out.writeInt(0x56534C47); // "VSLG"
+        out.writeShort(1);        // format version
+        synchronized (consumerLock) {
+            binaryTemplates.clear();
+            binaryCategoriesWritten = 0;
+            binaryOut = out;
+        }
+    }
+
+    public static synchronized void closeBinaryFile() {
+        DataOutputStream out = binaryOut;
+        if (out == null) return;
+        flush();
+        binaryOut = null;
+        try {
+            out.close();
+        } catch (IOException e) {
+            System.err.println("[Log] Failed to close binary log: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Drain everything queued so far on the calling thread
+     */
+    public static synchronized void flush() {
+        synchronized (consumerLock) {
+            drain();
+            DataOutputStream out = binaryOut;
+            if (out != null) {
+                try {
+                    out.flush();
+                } catch (IOException e) {
+                    binaryOut = null;
+                }
+            }
+        }
+    }
+
+    /**
+     * Flush pending records and close the binary file (call on exit)
+     */
+    public static void shutdown() {
+        flush();
+        closeBinaryFile();
+    }
+
+    public static long getDroppedCount() { return dropped; }
+
+    // ===== WRITER THREAD =====
+
+    private static void writerLoop() {
+        while (true) {
+            boolean worked;
+            synchronized (consumerLock) {
+                worked = drain();
+            }
+            if (!worked) {
+                LockSupport.parkNanos(IDLE_PARK_NANOS);
+            }
+        }
+    }
+
+    /**
+     * Consume every published record. Caller must hold consumerLock.
+     */
+    private static boolean drain() {
+        boolean worked = false;
+        long sequence;
+        while ((sequence = ring.poll()) >= 0) {
+            Record record = ring.get(sequence);
+            if (consoleOutput) {
+                writeText(record);
+            }
+            DataOutputStream out = binaryOut;
+            if (out != null) {
+                try {
+                    writeBinary(out, record);
+                } catch (IOException e) {
+                    binaryOut = null;
+                    System.err.println("[Log] Binary log disabled: " + e.getMessage());
+                }
+            }
+            for (int i = 0; i < record.argCount; i++) {
+                record.refs[i] = null;
+            }
+            ring.release(sequence);
+            worked = true;
+        }
+        return worked;
+    }
+
+    private static void writeText(Record record) {
+        text.setLength(0);
+        if (record.level != INFO) {
+            text.append(LEVEL_NAMES[record.level]).append(' ');
+        }
+        String template = record.template;
+        int arg = 0;
+        int start = 0;
+        int index;
+        while ((index = template.indexOf("{}", start)) >= 0) {
+            text.append(template, start, index);
+            if (arg < record.argCount) {
+                appendArg(record, arg++);
+            } else {
+                text.append("{}");
+            }
+            start = index + 2;
+        }
+        text.append(template, start, template.length());
+
+        String message = text.toString();
+        if (Gdx.app != null) {
+            if (record.level >= ERROR) {
+                Gdx.app.error(record.category.tag, message);
+            } else {
+                Gdx.app.log(record.category.tag, message);
+            }
+        } else {
+            System.out.println("[" + record.category.tag + "] " + message);
+        }
+    }
+
+    private static void appendArg(Record record, int i) {
+        if (record.argKinds[i] == ARG_NUMBER) {
+            double value = record.nums[i];
+            if (value == (long) value) {
+                text.append((long) value);
+            } else {
+                text.append((float) value);
+            }
+        } else {
+            text.append(record.refs[i]);
+        }
+    }
+
+    private static void writeBinary(DataOutputStream out, Record record) throws IOException {
+        // Category table entries (categories are only ever appended)
+        while (binaryCategoriesWritten < categoryCount) {
+            Category category = categories[binaryCategoriesWritten++];
+            out.writeByte('C');
+            out.writeShort(category.id);
+            out.writeUTF(category.tag);
+        }
+
+        Integer templateId = binaryTemplates.get(record.template);
+        if (templateId == null) {
+            templateId = binaryTemplates.size();
+            binaryTemplates.put(record.template, templateId);
+            out.writeByte('T');
+            out.writeShort(templateId);
+            out.writeUTF(record.template);
+        }
+
+        out.writeByte('R');
+        out.writeLong(record.timestamp);
+        out.writeByte(record.level);
+        out.writeShort(record.category.id);
+        out.writeShort(templateId);
+        out.writeByte(record.argCount);
+        for (int i = 0; i < record.argCount; i++) {
+            out.writeByte(record.argKinds[i]);
+            if (record.argKinds[i] == ARG_NUMBER) {
+                out.writeDouble(record.nums[i]);
+            } else {
+                out.writeUTF(String.valueOf(record.refs[i]));
+            }
+        }
+    }
+}
@@ -0,0 +1,49 @@
+package com.vijithapura.siege.utils;
+
+/**
+ * Number formatting straight into a StringBuilder, for text that is rebuilt
+ * every frame. StringBuilder.append(int) writes the digits in place, while
+ * String.format and append(float) allocate, so floats go through these.
+ */
+public final class TextFormat {
+    private static final int[] POWERS_OF_TEN = {1, 10, 100, 1000};
+
+    private TextFormat() {}
+
+    /**
+     * Append value with a fixed number of decimals (0-3), rounded half up like %.Nf
+     */
+    public static StringBuilder appendFixed(StringBuilder out, float value, int decimals) {
+        int scale = POWERS_OF_TEN[decimals];
+        long scaled = Math.round((double) value * scale);
+        if (scaled < 0) {
+            out.append('-');
+            scaled = -scaled;
+        }
+        out.append(scaled / scale);
+        if (decimals > 0) {
+            out.append('.');
+            appendPadded(out, (int) (scaled % scale), decimals);
+        }
+        return out;
+    }
+
+    /**
+     * Append a non-negative value left-padded with zeros to width digits (e.g. 07)
+     */
+    public static StringBuilder appendPadded(StringBuilder out, int value, int width) {
+        for (int limit = 10, digits = 1; digits < width; limit *= 10, digits++) {
+            if (value < limit) out.append('0');
+        }
+        return out.append(value);
+    }
+
+    /**
+     * Append current / max with the percentage, e.g. "80 / 120 (67%)"
+     */
+    public static StringBuilder appendRatio(StringBuilder out, float current, float max) {
+        out.append(Math.round(current)).append(" / ").append(Math.round(max));
+        out.append(" (").append(max > 0 ? Math.round(current / max * 100) : 0).append("%)");
+        return out;
+    }
+}
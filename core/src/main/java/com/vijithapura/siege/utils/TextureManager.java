@@ -2,25 +2,32 @@ package com.vijithapura.siege.utils;
 
 import com.badlogic.gdx.Gdx;
 import com.badlogic.gdx.graphics.Texture;
-import com.badlogic.gdx.graphics.g2d.Sprite;
+import com.badlogic.gdx.graphics.g2d.TextureAtlas;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
 import java.util.HashMap;
 
 /**
  * Manages all game textures and sprites.
- * Handles loading from specific asset folders.
+ * Images come from the packed atlas (lwjgl3 task packTextures) when it exists,
+ * so everything shares one texture and the world batches into a few draw
+ * calls; otherwise each file is loaded from its asset folder on its own.
  */
 public class TextureManager {
-    private HashMap<String, Texture> textures;
-    private HashMap<String, Sprite> sprites;
+    private static final String ATLAS_PATH = "atlas/game.atlas";
+
+    private TextureAtlas atlas;
+    private HashMap<String, Texture> textures; // images loaded outside the atlas
+    private HashMap<String, TextureRegion> regions;
 
     public TextureManager() {
         textures = new HashMap<>();
-        sprites = new HashMap<>();
+        regions = new HashMap<>();
         loadAssets();
     }
 
     private void loadAssets() {
-        Gdx.app.log("TextureManager", "Starting to load textures...");
+        Log.info(Log.ASSETS, "Starting to load textures...").commit();
+        loadAtlas();
 
         // --- Units ---
         loadTexture("worker", "units/worker.png");
@@ -53,10 +60,36 @@ public class TextureManager {
         loadTexture("blood", "effects/blood.png");
         loadTexture("dust", "effects/dust.png");
 
-        Gdx.app.log("TextureManager", "Asset loading complete. Loaded: " + textures.size() + " textures");
+        Log.info(Log.ASSETS, "Asset loading complete. Loaded: {} images ({} outside the atlas)")
+            .arg(regions.size()).arg(textures.size()).commit();
+    }
+
+    private void loadAtlas() {
+        try {
+            if (Gdx.files.internal(ATLAS_PATH).exists()) {
+                atlas = new TextureAtlas(Gdx.files.internal(ATLAS_PATH));
+                Log.info(Log.ASSETS, "✓ Loaded atlas: {} regions on {} page(s)")
+                    .arg(atlas.getRegions().size).arg(atlas.getTextures().size).commit();
+            } else {
+                Log.info(Log.ASSETS, "✗ Not found: {} (loading images one by one)").arg(ATLAS_PATH).commit();
+            }
+        } catch (Exception e) {
+            atlas = null;
+            Log.warn(Log.ASSETS, "✗ Error loading: {} - {}").arg(ATLAS_PATH).arg(e.getMessage()).commit();
+        }
     }
 
     private void loadTexture(String key, String path) {
+        // Packed regions are named after the file
+        if (atlas != null) {
+            String name = path.substring(path.lastIndexOf('/') + 1, path.lastIndexOf('.'));
+            TextureAtlas.AtlasRegion region = atlas.findRegion(name);
+            if (region != null) {
+                addRegion(key, region);
+                return;
+            }
+        }
+
         try {
             if (Gdx.files.internal(path).exists()) {
                 Texture texture = new Texture(Gdx.files.internal(path));
@@ -64,38 +97,43 @@ public class TextureManager {
                 texture.setFilter(Texture.TextureFilter.Nearest, Texture.TextureFilter.Nearest);
 
                 textures.put(key, texture);
-                sprites.put(key, new Sprite(texture));
-                Gdx.app.log("TextureManager", "✓ Loaded: " + key + " from " + path);
+                addRegion(key, new TextureRegion(texture));
+                Log.info(Log.ASSETS, "✓ Loaded: {} from {}").arg(key).arg(path).commit();
             } else {
-                Gdx.app.log("TextureManager", "✗ Not found: " + path + " (will use shapes)");
+                Log.info(Log.ASSETS, "✗ Not found: {} (will use shapes)").arg(path).commit();
             }
         } catch (Exception e) {
-            Gdx.app.log("TextureManager", "✗ Error loading: " + path + " - " + e.getMessage());
+            Log.warn(Log.ASSETS, "✗ Error loading: {} - {}").arg(path).arg(e.getMessage()).commit();
         }
     }
 
-    public Texture getTexture(String key) {
-        return textures.get(key);
+    private void addRegion(String key, TextureRegion region) {
+        regions.put(key, region);
     }
 
-    public Sprite getSprite(String key) {
-        Sprite sprite = sprites.get(key);
-        if (sprite != null) {
-            return new Sprite(sprite); // Return copy
-        }
-        return null;
+    /**
+     * Image as a region (of the atlas page, or of its own texture in fallback mode).
+     * Draw it with batch.draw(region, x, y, width, height) or RenderQueue.region;
+     * entities that need a Sprite keep their own in a CachedSprite.
+     */
+    public TextureRegion getRegion(String key) {
+        return regions.get(key);
     }
 
     public boolean hasTexture(String key) {
-        return textures.containsKey(key);
+        return regions.containsKey(key);
     }
 
     public void dispose() {
-        Gdx.app.log("TextureManager", "Disposing textures...");
+        Log.info(Log.ASSETS, "Disposing textures...").commit();
         for (Texture texture : textures.values()) {
             texture.dispose();
         }
         textures.clear();
-        sprites.clear();
+        if (atlas != null) {
+            atlas.dispose();
+            atlas = null;
+        }
+        regions.clear();
     }
 }
@@ -0,0 +1,147 @@
+package com.vijithapura.siege.systems;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assume.assumeTrue;
+
+import java.lang.management.ManagementFactory;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import com.badlogic.gdx.utils.JsonReader;
+import com.vijithapura.siege.entities.Unit;
+import com.vijithapura.siege.screens.GameScreen;
+import com.vijithapura.siege.utils.Log;
+
+/**
+ * The simulation loop must not allocate once it is running: a 1,000-unit
+ * battle is stepped headless, with a wave still spawning and auto-gathering
+ * workers carrying loads to the depots, and the bytes allocated by this
+ * thread over 1,000 ticks are measured with the JVM's per-thread allocation
+ * counter.
+ *
+ * A first battle is fought beforehand so that one-off costs (class loading,
+ * first use of a code path, JIT) are out of the way; the measured battle then
+ * only has its lists and pools to warm up. Gradle runs this class in its own
+ * allocationTest task with C1 only, since a C2 recompilation during the
+ * measured window can add a few bytes of JIT bookkeeping to the thread's counter.
+ */
+public class SimulationAllocationTest {
+    private static final float TICK = 1f / 60f;
+    private static final int UNITS_PER_TEAM = 500;
+    private static final int PRIMING_TICKS = 1500;
+    private static final int WARMUP_TICKS = 300;    // lists and grids reach their working size
+    private static final int MEASURED_TICKS = 1000;
+    private static final int WORKERS = 40;
+    private static final int WAVE_SIZE = 400;       // spawned over 24s, so still arriving when measuring ends
+
+    // One wave of reinforcements trickling in on the enemy flank
+    private static final String WAVES =
+        "{ spawnPerTick: 24,"
+        + " spawnPoints: [ { name: flank, x: 2400, y: 1000, radius: 120 } ],"
+        + " waves: [ { wave: 1, groups: [ { type: SOLDIER, count: " + WAVE_SIZE + ", spawn: flank, interval: 0.06 } ] } ] }";
+
+    private UnitManager unitManager;
+    private BuildingManager buildingManager;
+    private ResourceManager resourceManager;
+    private GatherAssignment gatherAssignment;
+    private WaveManager waveManager;
+
+    @Before
+    public void setUp() {
+        Log.setConsoleOutput(false);
+    }
+
+    @After
+    public void tearDown() {
+        Log.setConsoleOutput(true);
+    }
+
+    @Test
+    public void battleTicksDoNotAllocate() {
+        java.lang.management.ThreadMXBean bean = ManagementFactory.getThreadMXBean();
+        assumeTrue("per-thread allocation counter not available",
+            bean instanceof com.sun.management.ThreadMXBean);
+        com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean) bean;
+        assumeTrue(threads.isThreadAllocatedMemorySupported());
+        threads.setThreadAllocatedMemoryEnabled(true);
+
+        startBattle();
+        for (int i = 0; i < PRIMING_TICKS; i++) tick();
+
+        startBattle();
+        for (int i = 0; i < WARMUP_TICKS; i++) tick();
+
+        int stockBefore = stockpile();
+        int pendingBefore = waveManager.getPendingSpawns();
+
+        long thread = Thread.currentThread().getId();
+        long before = threads.getThreadAllocatedBytes(thread);
+        for (int i = 0; i < MEASURED_TICKS; i++) tick();
+        long allocated = threads.getThreadAllocatedBytes(thread) - before;
+
+        assertTrue("the armies should still be fighting",
+            WorldStats.getAliveCount(WorldStats.PLAYER_TEAM) > 0 && WorldStats.getAliveCount(WorldStats.ENEMY_TEAM) > 0);
+        assertTrue("the wave should have been spawning", waveManager.getPendingSpawns() < pendingBefore);
+        assertTrue("workers should have delivered loads", stockpile() > stockBefore);
+        assertEquals("bytes allocated over " + MEASURED_TICKS + " ticks", 0, allocated);
+    }
+
+    /**
+     * Fresh world with two blocks of 500 units facing each other across a 60-unit gap,
+     * the first wave starting and a group of workers on auto-gather by the base
+     */
+    private void startBattle() {
+        TimerSystem.reset();
+        EventBus.reset();
+        WorldStats.reset();
+
+        unitManager = new UnitManager();
+        buildingManager = new BuildingManager();
+        buildingManager.initializeStartingBuildings();
+        unitManager.setObstacles(buildingManager.getWalkGrid());
+        resourceManager = new ResourceManager(0, 0, 0, 0);
+        gatherAssignment = new GatherAssignment(buildingManager);
+        waveManager = new WaveManager(GameScreen.GameDifficulty.NORMAL,
+            WaveDefinitions.parse(new JsonReader().parse(WAVES)));
+
+        // Pools sized up front, as WaveManager does before a wave
+        int enemies = UNITS_PER_TEAM + WAVE_SIZE;
+        unitManager.getPlayerPool().prewarm(Unit.UnitType.SOLDIER, UNITS_PER_TEAM, UNITS_PER_TEAM);
+        unitManager.getPlayerPool().prewarm(Unit.UnitType.ARCHER, UNITS_PER_TEAM, UNITS_PER_TEAM);
+        unitManager.getPlayerPool().prewarm(Unit.UnitType.WORKER, WORKERS, WORKERS);
+        unitManager.prewarmEnemies(Unit.UnitType.SOLDIER, enemies, enemies);
+
+        for (int i = 0; i < UNITS_PER_TEAM; i++) {
+            float x = 800 + (i % 50) * 28;
+            float y = 600 + (i / 50) * 28;
+            unitManager.spawnPlayerUnit(i % 4 == 0 ? Unit.UnitType.ARCHER : Unit.UnitType.SOLDIER, x, y);
+            unitManager.spawnEnemyUnit(Unit.UnitType.SOLDIER, x, y + 10 * 28 + 60);
+        }
+        for (int i = 0; i < WORKERS; i++) {
+            unitManager.spawnPlayerUnit(Unit.UnitType.WORKER, 120 + (i % 8) * 25, 720 + (i / 8) * 25);
+        }
+
+        gatherAssignment.setEnabled(true);
+        waveManager.startFirstWave(unitManager);
+    }
+
+    /**
+     * Same order as GameScreen.update
+     */
+    private void tick() {
+        TimerSystem.update(TICK);
+        resourceManager.update(TICK, unitManager.getPlayerUnits(), buildingManager);
+        gatherAssignment.update(unitManager.getPlayerUnits());
+        unitManager.update(TICK, buildingManager.getGates());
+        buildingManager.update(TICK);
+        waveManager.update(TICK, unitManager);
+        EventBus.dispatch();
+    }
+
+    private int stockpile() {
+        return resourceManager.getWood() + resourceManager.getStone() + resourceManager.getGold();
+    }
+}